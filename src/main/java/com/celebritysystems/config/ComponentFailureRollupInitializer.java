@@ -0,0 +1,29 @@
+package com.celebritysystems.config;
+
+import com.celebritysystems.service.ComponentFailureRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the component failure rollup from existing worker reports the first time the application starts
+ * with the table; from then on worker report writes keep it current.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ComponentFailureRollupInitializer {
+
+    private final ComponentFailureRollupService componentFailureRollupService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureRollup() {
+        try {
+            componentFailureRollupService.rebuildIfEmpty();
+        } catch (Exception e) {
+            log.error("Failed to build the component failure rollup, reports will be incomplete: {}", e.getMessage(), e);
+        }
+    }
+}
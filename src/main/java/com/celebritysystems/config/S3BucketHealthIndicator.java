@@ -0,0 +1,28 @@
+package com.celebritysystems.config;
+
+import com.celebritysystems.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the cached bucket status as the "s3Bucket" health contributor, which is part of the
+ * readiness group. It never calls S3 itself.
+ */
+@Component
+@RequiredArgsConstructor
+public class S3BucketHealthIndicator implements HealthIndicator {
+
+    private final S3Service s3Service;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = s3Service.isBucketAvailable() ? Health.up() : Health.down();
+        builder.withDetail("bucket", s3Service.getBucketName());
+        if (s3Service.getBucketLastCheckedAt() != null) {
+            builder.withDetail("lastCheckedAt", s3Service.getBucketLastCheckedAt().toString());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.celebritysystems.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the MySQL FULLTEXT index used by ticket search. JPA cannot declare FULLTEXT indexes,
+ * so it is added once at startup when missing; MySQL keeps it in sync with ticket writes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketFullTextIndexInitializer {
+
+    public static final String INDEX_NAME = "ft_ticket_title_description";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureFullTextIndex() {
+        try {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'ticket' AND index_name = ?",
+                    Integer.class, INDEX_NAME);
+
+            if (existing != null && existing > 0) {
+                return;
+            }
+
+            log.info("Creating FULLTEXT index {} on ticket(title, description)", INDEX_NAME);
+            jdbcTemplate.execute("ALTER TABLE ticket ADD FULLTEXT INDEX " + INDEX_NAME + " (title, description)");
+            log.info("Created FULLTEXT index {}", INDEX_NAME);
+        } catch (Exception e) {
+            log.error("Failed to ensure FULLTEXT index {}, ticket search will not work: {}", INDEX_NAME, e.getMessage());
+        }
+    }
+}
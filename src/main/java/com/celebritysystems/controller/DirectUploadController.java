@@ -0,0 +1,68 @@
+package com.celebritysystems.controller;
+
+import com.celebritysystems.dto.DirectUploadDTO;
+import com.celebritysystems.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Part management for multipart uploads started by the ticket, screen and attachment upload endpoints.
+ * A client resuming an upload lists the parts S3 already has, asks for fresh URLs for the rest,
+ * and confirms through the endpoint that issued the upload. Only issued, unconfirmed uploads are accepted.
+ * Also reports hit, miss and size counts of the presigned download URL cache.
+ */
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+@Slf4j
+public class DirectUploadController {
+
+    private final S3Service s3Service;
+
+    @GetMapping("/parts")
+    public ResponseEntity<List<DirectUploadDTO.Part>> listUploadedParts(@RequestParam String fileKey,
+                                                                         @RequestParam String uploadId) {
+        log.info("Listing uploaded parts of upload {}", uploadId);
+        try {
+            return ResponseEntity.ok(s3Service.listUploadedParts(fileKey, uploadId));
+        } catch (IllegalArgumentException e) {
+            log.warn("Failed to list parts of upload {}: {}", uploadId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PostMapping("/parts")
+    public ResponseEntity<List<DirectUploadDTO.Part>> presignUploadParts(@RequestParam String fileKey,
+                                                                          @RequestParam String uploadId,
+                                                                          @RequestParam List<Integer> partNumbers) {
+        log.info("Presigning {} part(s) of upload {}", partNumbers.size(), uploadId);
+        try {
+            return ResponseEntity.ok(s3Service.presignUploadParts(fileKey, uploadId, partNumbers));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected part presign request for upload {}: {}", uploadId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> abortUpload(@RequestParam String fileKey, @RequestParam String uploadId) {
+        log.warn("Aborting upload {} for key: {}", uploadId, fileKey);
+        try {
+            s3Service.abortDirectUpload(fileKey, uploadId);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Failed to abort upload {}: {}", uploadId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/presigned-url-cache/stats")
+    public ResponseEntity<Map<String, Long>> getPresignedUrlCacheStats() {
+        return ResponseEntity.ok(s3Service.getPresignedUrlCacheStats());
+    }
+}
@@ -0,0 +1,73 @@
+package com.celebritysystems.controller;
+
+import com.celebritysystems.dto.FileDownloadDTO;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Turns an opened S3 download into a streamed HTTP response. The object is copied through a fixed buffer,
+ * so memory per download does not depend on the file size.
+ */
+final class FileDownloadResponses {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private FileDownloadResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> stream(FileDownloadDTO download) {
+        HttpStatus status = download.getStatus();
+        if (status == HttpStatus.NOT_FOUND) {
+            return ResponseEntity.notFound().build();
+        }
+        if (status == HttpStatus.NOT_MODIFIED) {
+            return ResponseEntity.status(status).eTag(download.getEtag()).build();
+        }
+        if (status == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE) {
+            return ResponseEntity.status(status)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + download.getTotalLength())
+                    .build();
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setContentType(download.getContentType() != null
+                ? MediaType.parseMediaType(download.getContentType())
+                : MediaType.APPLICATION_OCTET_STREAM);
+        if (download.getContentLength() != null) {
+            headers.setContentLength(download.getContentLength());
+        }
+        if (download.getContentRange() != null) {
+            headers.set(HttpHeaders.CONTENT_RANGE, download.getContentRange());
+        }
+        if (download.getEtag() != null) {
+            headers.setETag(download.getEtag());
+        }
+        if (download.getLastModified() != null) {
+            headers.setLastModified(download.getLastModified());
+        }
+        if (download.getFileName() != null) {
+            headers.setContentDisposition(ContentDisposition.inline()
+                    .filename(download.getFileName(), StandardCharsets.UTF_8)
+                    .build());
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (InputStream content = download.getContent()) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+        };
+        return ResponseEntity.status(status).headers(headers).body(body);
+    }
+}
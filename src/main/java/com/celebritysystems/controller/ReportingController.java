@@ -4,6 +4,7 @@ import com.celebritysystems.dto.Reports.*;
 import com.celebritysystems.dto.statistics.DailyActivityResponseDTO;
 import com.celebritysystems.service.ReportingService;
 import com.celebritysystems.service.DailyActivityService;
+import com.celebritysystems.service.ReportJobService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -11,12 +12,18 @@ import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestController
@@ -26,6 +33,7 @@ public class ReportingController {
 
     private final ReportingService reportingService;
     private final DailyActivityService dailyActivityService;
+    private final ReportJobService reportJobService;
 
     @PostMapping("/generate")
     public ResponseEntity<?> generateReport(@Valid @RequestBody ReportingRequestDTO request) {
@@ -43,6 +51,83 @@ public class ReportingController {
         }
     }
 
+    @PostMapping("/jobs")
+    public ResponseEntity<?> submitReportJob(@Valid @RequestBody ReportingRequestDTO request,
+                                             Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        log.info("User {} submitting report job: {}", userId, request);
+        try {
+            ReportJobDTO job = reportJobService.submit(request, userId);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/reporting/jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error submitting report job: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(new ErrorResponse("INVALID_REPORT_REQUEST", e.getMessage()));
+        } catch (IllegalStateException e) {
+            log.warn("Rejected report job for user {}: {}", userId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(new ErrorResponse("TOO_MANY_REPORT_JOBS", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(new ErrorResponse("REPORT_QUEUE_FULL", "Too many reports are being generated, try again later"));
+        } catch (Exception e) {
+            log.error("Failed to submit report job: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(
+                new ErrorResponse("REPORT_JOB_ERROR", "Failed to submit report job: " + e.getMessage())
+            );
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getReportJob(@PathVariable String jobId, Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        try {
+            return ResponseEntity.ok(reportJobService.getJob(jobId, userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse("REPORT_JOB_NOT_FOUND", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to get report job {}: {}", jobId, e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(
+                new ErrorResponse("REPORT_JOB_ERROR", "Failed to get report job: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * Returns the finished report, paged when page or size is given. Clients sending Accept-Encoding: gzip
+     * receive the JSON gzip-compressed.
+     */
+    @GetMapping("/jobs/{jobId}/result")
+    public ResponseEntity<?> getReportJobResult(
+            @PathVariable String jobId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        try {
+            if (acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+                byte[] body = reportJobService.getCompressedResult(jobId, userId, page, size);
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .body(body);
+            }
+            return ResponseEntity.ok(reportJobService.getResult(jobId, userId, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse("REPORT_JOB_NOT_FOUND", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse("REPORT_JOB_NOT_READY", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to get result of report job {}: {}", jobId, e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(
+                new ErrorResponse("REPORT_JOB_ERROR", "Failed to get report job result: " + e.getMessage())
+            );
+        }
+    }
+
     @GetMapping("/components/summary")
     public ResponseEntity<?> getComponentChangesSummary(
             @RequestParam(required = false) List<Long> screenIds,
@@ -211,6 +211,91 @@ public class ScreenController {
         }
     }
 
+    @GetMapping("/{id}/files/{fileType}/content")
+    public ResponseEntity<StreamingResponseBody> streamScreenFile(
+            @PathVariable Long id,
+            @PathVariable String fileType,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) {
+        log.info("Streaming {} file of screen with ID: {}", fileType, id);
+
+        ScreenResponse screen = screenService.getScreenById(id).orElse(null);
+        if (screen == null) {
+            log.warn("Screen not found with ID: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+
+        String fileUrl;
+        String fileName;
+        switch (fileType.toLowerCase()) {
+            case "connection" -> {
+                fileUrl = screen.getConnectionFileUrl();
+                fileName = screen.getConnectionFileName();
+            }
+            case "config" -> {
+                fileUrl = screen.getConfigFileUrl();
+                fileName = screen.getConfigFileName();
+            }
+            case "version" -> {
+                fileUrl = screen.getVersionFileUrl();
+                fileName = screen.getVersionFileName();
+            }
+            default -> {
+                log.warn("Invalid file type requested: {}", fileType);
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        if (fileUrl == null || fileUrl.isEmpty()) {
+            log.warn("No {} file found for screen ID: {}", fileType, id);
+            return ResponseEntity.notFound().build();
+        }
+
+        try {
+            return FileDownloadResponses.stream(s3Service.openDownload(fileUrl, fileName, range, ifNoneMatch, ifRange));
+        } catch (Exception e) {
+            log.error("Failed to stream {} file of screen with ID: {}", fileType, id, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @PostMapping("/{id}/files/{fileType}/upload")
+    public ResponseEntity<?> createScreenFileUpload(@PathVariable Long id,
+                                                    @PathVariable String fileType,
+                                                    @RequestBody DirectUploadRequestDTO uploadRequest) {
+        log.info("Issuing direct upload for {} file of screen with ID: {}", fileType, id);
+        try {
+            return ResponseEntity.ok(screenService.createScreenFileUpload(id, fileType, uploadRequest));
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error creating {} file upload for screen ID: {}: {}", fileType, id, e.getMessage());
+            return ResponseEntity.badRequest().body(
+                    new ScreenController.ErrorResponse("VALIDATION_ERROR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to create {} file upload for screen ID: {}", fileType, id, e);
+            return ResponseEntity.internalServerError().body(
+                    new ScreenController.ErrorResponse("INTERNAL_SERVER_ERROR", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/{id}/files/{fileType}/upload/confirm")
+    public ResponseEntity<?> confirmScreenFileUpload(@PathVariable Long id,
+                                                     @PathVariable String fileType,
+                                                     @RequestBody ConfirmDirectUploadDTO confirmDTO) {
+        log.info("Confirming direct upload of {} file for screen with ID: {}", fileType, id);
+        try {
+            return ResponseEntity.ok(screenService.confirmScreenFileUpload(id, fileType, confirmDTO));
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error confirming {} file upload for screen ID: {}: {}", fileType, id, e.getMessage());
+            return ResponseEntity.badRequest().body(
+                    new ScreenController.ErrorResponse("VALIDATION_ERROR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to confirm {} file upload for screen ID: {}", fileType, id, e);
+            return ResponseEntity.internalServerError().body(
+                    new ScreenController.ErrorResponse("INTERNAL_SERVER_ERROR", e.getMessage()));
+        }
+    }
+
     // Helper method for determining content type
     private String determineContentType(String fileName) {
         if (fileName == null) return "application/octet-stream";
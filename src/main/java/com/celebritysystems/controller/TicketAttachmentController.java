@@ -2,6 +2,9 @@ package com.celebritysystems.controller;
 
 import com.celebritysystems.dto.TicketAttachmentDTO;
 import com.celebritysystems.dto.CreateTicketAttachmentDTO;
+import com.celebritysystems.dto.ConfirmAttachmentUploadDTO;
+import com.celebritysystems.dto.DirectUploadDTO;
+import com.celebritysystems.dto.DirectUploadRequestDTO;
 import com.celebritysystems.service.TicketAttachmentService;
 import com.celebritysystems.service.S3Service;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +14,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/attachments")
@@ -37,6 +41,31 @@ public class TicketAttachmentController {
         return ResponseEntity.ok(savedAttachment);
     }
 
+    @PostMapping("/upload")
+    public ResponseEntity<DirectUploadDTO> createAttachmentUpload(@RequestParam Long ticketId,
+                                                                  @RequestBody DirectUploadRequestDTO uploadRequest) {
+        log.info("Issuing direct upload for attachment of ticket ID: {}", ticketId);
+        try {
+            return ResponseEntity.ok(ticketAttachmentService.createAttachmentUpload(ticketId, uploadRequest));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected attachment upload for ticket ID {}: {}", ticketId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/upload/confirm")
+    public ResponseEntity<TicketAttachmentDTO> confirmAttachmentUpload(@RequestBody ConfirmAttachmentUploadDTO confirmDTO) {
+        log.info("Confirming direct attachment upload for ticket ID: {}", confirmDTO.getTicketId());
+        try {
+            TicketAttachmentDTO savedAttachment = ticketAttachmentService.confirmAttachmentUpload(confirmDTO);
+            log.debug("Saved attachment: {}", savedAttachment);
+            return ResponseEntity.ok(savedAttachment);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected attachment upload confirmation for ticket ID {}: {}", confirmDTO.getTicketId(), e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteAttachment(@PathVariable Long id) {
         log.warn("Deleting attachment with ID: {}", id);
@@ -68,6 +97,29 @@ public class TicketAttachmentController {
         }
     }
 
+    @GetMapping("/{id}/content")
+    public ResponseEntity<StreamingResponseBody> streamAttachment(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) {
+        log.info("Streaming attachment with ID: {}", id);
+
+        TicketAttachmentDTO attachment = ticketAttachmentService.getAttachmentById(id);
+        if (attachment == null || attachment.getFileUrl() == null) {
+            log.warn("Attachment not found or no file URL for attachment ID: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+
+        try {
+            return FileDownloadResponses.stream(s3Service.openDownload(
+                    attachment.getFileUrl(), attachment.getFileName(), range, ifNoneMatch, ifRange));
+        } catch (Exception e) {
+            log.error("Failed to stream attachment with ID: {}", id, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @GetMapping("/{id}/presigned-url")
     public ResponseEntity<String> getPresignedUrl(@PathVariable Long id, 
                                                   @RequestParam(defaultValue = "60") int expirationMinutes) {
@@ -1,7 +1,12 @@
 package com.celebritysystems.controller;
 
+import com.celebritysystems.dto.BulkPatchTicketDTO;
+import com.celebritysystems.dto.ConfirmDirectUploadDTO;
+import com.celebritysystems.dto.DirectUploadRequestDTO;
 import com.celebritysystems.dto.TicketDTO;
+import com.celebritysystems.dto.TicketExportDTO;
 import com.celebritysystems.dto.CreateTicketDTO;
+import com.celebritysystems.dto.CursorPageResponse;
 import com.celebritysystems.dto.PatchTicketDTO;
 import com.celebritysystems.dto.PatchWorkerReportDTO;
 import com.celebritysystems.dto.TicketAnalyticsDTO;
@@ -10,6 +15,9 @@ import com.celebritysystems.dto.TicketResponseDTO;
 import com.celebritysystems.dto.WorkerReportDTO;
 import com.celebritysystems.dto.WorkerReportResponseDTO;
 import com.celebritysystems.entity.enums.ServiceType;
+import com.celebritysystems.entity.enums.TicketStatus;
+import com.celebritysystems.service.PdfService;
+import com.celebritysystems.service.TicketEventService;
 import com.celebritysystems.service.TicketService;
 import com.celebritysystems.service.WorkerReportService;
 import com.celebritysystems.service.S3Service;
@@ -23,13 +31,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
@@ -37,6 +50,10 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -48,6 +65,8 @@ public class TicketController {
     private final TicketService ticketService;
     private final WorkerReportService workerReportService;
     private final S3Service s3Service;
+    private final TicketEventService ticketEventService;
+    private final PdfService pdfService;
 
     // ==================== TICKET ENDPOINTS ====================
 
@@ -64,6 +83,59 @@ public class TicketController {
         }
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<?> exportTickets(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        log.info("Received request to export tickets as {} - status: {}, companyId: {}, period: {} to {}",
+                format, status, companyId, startDate, endDate);
+
+        // Validate before streaming starts; once the body is being written the status code is committed
+        TicketExportDTO.Format exportFormat;
+        TicketStatus ticketStatus;
+        try {
+            exportFormat = TicketExportDTO.Format.valueOf(format.toUpperCase());
+            ticketStatus = status != null ? TicketStatus.valueOf(status.toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error in ticket export: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse("VALIDATION_ERROR", "Invalid format or status: " + e.getMessage()));
+        }
+
+        StreamingResponseBody body = outputStream -> ticketService.exportTickets(
+                exportFormat, ticketStatus, companyId, startDate, endDate, outputStream);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"tickets." + exportFormat.getFileExtension() + "\"")
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamTicketEvents(Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        Set<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+
+        log.info("User {} opening ticket event stream with roles {}", userId, roles);
+        try {
+            SseEmitter emitter = ticketEventService.subscribe(userId, roles);
+            return ResponseEntity.ok(emitter);
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error opening ticket event stream: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("Rejected ticket event stream for user {}: {}", userId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     @GetMapping("/worker/{username}")
     public ResponseEntity<List<TicketResponseDTO>> getTicketsByWorkerName(@PathVariable String username) {
         log.info("Received request to getTicketsByWorkerName with username: {}", username);
@@ -221,7 +293,7 @@ public class TicketController {
     }
 
     @GetMapping("/paginated")
-    public ResponseEntity<Page<TicketResponseDTO>> getAllTicketsPaginated(
+    public ResponseEntity<?> getAllTicketsPaginated(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String status,
@@ -229,13 +301,25 @@ public class TicketController {
             @RequestParam(required = false) Long screenId,
             @RequestParam(required = false) Long assignedToWorkerId,
             @RequestParam(required = false) String serviceType,
-            @RequestParam(required = false) Boolean pending) {
+            @RequestParam(required = false) Boolean pending,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean useCursor) {
 
         log.info(
                 "Fetching tickets page {} with size {} and filters - status: {}, companyId: {}, screenId: {}, assignedToWorkerId: {}, serviceType: {}, pending: {}",
                 page, size, status, companyId, screenId, assignedToWorkerId, serviceType, pending);
 
         try {
+            // Cursor mode pages on (createdAt, id) and skips the COUNT query; pass the returned
+            // nextCursor to get the following page
+            if (useCursor || cursor != null) {
+                CursorPageResponse<TicketResponseDTO> tickets = ticketService.getTicketsByCursor(
+                        cursor, size, status, companyId, screenId, assignedToWorkerId, serviceType, pending);
+
+                log.info("Successfully retrieved cursor page of tickets with {} items", tickets.getSize());
+                return ResponseEntity.ok(tickets);
+            }
+
             Page<TicketResponseDTO> tickets = ticketService.getAllTicketsPaginated(
                     page, size, status, companyId, screenId, assignedToWorkerId, serviceType, pending);
 
@@ -250,6 +334,34 @@ public class TicketController {
         }
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<?> searchTickets(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) Long screenId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Searching tickets for '{}' with filters - status: {}, companyId: {}, screenId: {}",
+                query, status, companyId, screenId);
+
+        try {
+            CursorPageResponse<TicketResponseDTO> results = ticketService.searchTickets(
+                    query, status, companyId, screenId, cursor, size);
+
+            log.info("Ticket search for '{}' returned {} items", query, results.getSize());
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error in ticket search: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(new ErrorResponse("VALIDATION_ERROR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to search tickets: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(
+                    new ErrorResponse("SEARCH_ERROR", "Failed to search tickets: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/company/{companyId}")
     public ResponseEntity<List<TicketResponseDTO>> getTicketsByCompanyId(@PathVariable Long companyId) {
         log.info("Received request to getTicketsByCompanyId with Id: {}", companyId);
@@ -316,6 +428,44 @@ public class TicketController {
         }
     }
 
+    @GetMapping("/{ticketId}/worker-report/pdf")
+    public CompletableFuture<ResponseEntity<?>> downloadWorkerReportPdf(@PathVariable Long ticketId) {
+        log.info("Received request to download worker report PDF for ticket ID: {}", ticketId);
+
+        WorkerReportResponseDTO workerReport = workerReportService.getWorkerReportByTicketId(ticketId);
+        TicketResponseDTO ticket = workerReport != null ? ticketService.getTicketById(ticketId) : null;
+        if (workerReport == null || ticket == null) {
+            log.warn("Worker report not found for ticket ID: {}", ticketId);
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+
+        String fileName = String.format("WorkerReport_Ticket_%d.pdf", ticketId);
+
+        // Rendered on the PDF pool; the request thread is released while it runs
+        return pdfService.renderWorkerReportPdf(workerReport, ticket, fileName)
+                .<ResponseEntity<?>>thenApply(pdf -> ResponseEntity.ok()
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                        .contentType(MediaType.APPLICATION_PDF)
+                        .body(pdf))
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof RejectedExecutionException) {
+                        log.warn("PDF render queue is full, rejecting download for ticket ID: {}", ticketId);
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "5")
+                                .body(new ErrorResponse("PDF_RENDER_BUSY", "PDF rendering is busy, please retry shortly"));
+                    }
+                    log.error("Failed to render worker report PDF for ticket ID {}: {}", ticketId, cause.getMessage(), cause);
+                    return ResponseEntity.internalServerError().body(
+                            new ErrorResponse("PDF_RENDER_ERROR", "Failed to render worker report PDF"));
+                });
+    }
+
+    @GetMapping("/pdf-render/stats")
+    public ResponseEntity<Map<String, Long>> getPdfRenderStats() {
+        return ResponseEntity.ok(pdfService.getRenderStats());
+    }
+
     @PutMapping("/{ticketId}/worker-report")
     public ResponseEntity<?> updateWorkerReport(
             @PathVariable Long ticketId,
@@ -418,6 +568,56 @@ public class TicketController {
         }
     }
 
+    @GetMapping("/{id}/image/content")
+    public ResponseEntity<StreamingResponseBody> streamTicketImage(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) {
+        log.info("Streaming image of ticket ID: {}", id);
+        try {
+            return FileDownloadResponses.stream(ticketService.openTicketImageDownload(id, range, ifNoneMatch, ifRange));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ticket image not available for ticket ID {}: {}", id, e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("Failed to stream image of ticket ID: {}", id, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @PostMapping("/{id}/image/upload")
+    public ResponseEntity<?> createTicketImageUpload(@PathVariable Long id,
+            @RequestBody DirectUploadRequestDTO uploadRequest) {
+        log.info("Issuing direct upload for image of ticket ID: {}", id);
+        try {
+            return ResponseEntity.ok(ticketService.createTicketImageUpload(id, uploadRequest));
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error creating ticket image upload: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(new ErrorResponse("VALIDATION_ERROR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to create ticket image upload for ticket ID: {}", id, e);
+            return ResponseEntity.internalServerError().body(
+                    new ErrorResponse("INTERNAL_SERVER_ERROR", "An unexpected error occurred: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/{id}/image/upload/confirm")
+    public ResponseEntity<?> confirmTicketImageUpload(@PathVariable Long id,
+            @RequestBody ConfirmDirectUploadDTO confirmDTO) {
+        log.info("Confirming direct image upload for ticket ID: {}", id);
+        try {
+            return ResponseEntity.ok(ticketService.confirmTicketImageUpload(id, confirmDTO));
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error confirming ticket image upload: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(new ErrorResponse("VALIDATION_ERROR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Failed to confirm ticket image upload for ticket ID: {}", id, e);
+            return ResponseEntity.internalServerError().body(
+                    new ErrorResponse("INTERNAL_SERVER_ERROR", "An unexpected error occurred: " + e.getMessage()));
+        }
+    }
+
     @PatchMapping("/{ticketId}/worker-report")
     public ResponseEntity<?> patchWorkerReport(
             @PathVariable Long ticketId,
@@ -446,6 +646,29 @@ public class TicketController {
         }
     }
 
+    @PatchMapping("/bulk")
+    public ResponseEntity<?> bulkPatchTickets(@Valid @RequestBody BulkPatchTicketDTO bulkPatchDTO) {
+        int requested = bulkPatchDTO.getTicketIds() != null ? bulkPatchDTO.getTicketIds().size() : 0;
+        log.info("Received bulk PATCH request for {} tickets", requested);
+        try {
+            log.debug("Bulk ticket PATCH payload: {}", bulkPatchDTO);
+
+            List<TicketDTO> updatedTickets = ticketService.bulkPatchTickets(bulkPatchDTO);
+            log.info("Successfully bulk patched {} tickets", updatedTickets.size());
+
+            return ResponseEntity.ok(updatedTickets);
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error in bulk ticket patch: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest().body(
+                    new ErrorResponse("VALIDATION_ERROR", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Unexpected error during bulk ticket patch: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(
+                    new ErrorResponse("INTERNAL_SERVER_ERROR",
+                            "An unexpected error occurred: " + e.getMessage()));
+        }
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<?> patchTicket(@PathVariable Long id, @Valid @RequestBody PatchTicketDTO patchTicketDTO) {
         log.info("Received PATCH request to update ticket with ID: {}", id);
@@ -525,13 +748,23 @@ public class TicketController {
     public ResponseEntity<?> getTicketAnalytics(
             @RequestParam(required = false) List<Long> screenIds,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "50") int size) {
 
         log.info("Getting ticket analytics for screens: {}, period: {} to {}",
                 screenIds, startDate, endDate);
 
         try {
-            List<TicketAnalyticsDTO> analytics = ticketService.getTicketAnalytics(screenIds, startDate, endDate);
+            // Without a page parameter the full list is returned, as before
+            if (page == null) {
+                Page<TicketAnalyticsDTO> analytics = ticketService.getTicketAnalytics(screenIds, startDate, endDate,
+                        Pageable.unpaged());
+                return ResponseEntity.ok(analytics.getContent());
+            }
+
+            Page<TicketAnalyticsDTO> analytics = ticketService.getTicketAnalytics(screenIds, startDate, endDate,
+                    PageRequest.of(page, size));
             return ResponseEntity.ok(analytics);
         } catch (Exception e) {
             log.error("Failed to get ticket analytics: {}", e.getMessage(), e);
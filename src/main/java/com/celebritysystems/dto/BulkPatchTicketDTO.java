@@ -0,0 +1,19 @@
+package com.celebritysystems.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Same changes as {@link PatchTicketDTO}, applied to every ticket in {@code ticketIds}.
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class BulkPatchTicketDTO extends PatchTicketDTO {
+    private List<Long> ticketIds;
+}
@@ -0,0 +1,16 @@
+package com.celebritysystems.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ConfirmAttachmentUploadDTO extends ConfirmDirectUploadDTO {
+    private Long ticketId;
+    private String note;
+    private Long uploadedBy;
+}
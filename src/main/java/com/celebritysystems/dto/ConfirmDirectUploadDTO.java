@@ -0,0 +1,19 @@
+package com.celebritysystems.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Sent once the client has finished a {@link DirectUploadDTO}. For multipart uploads {@code parts}
+ * holds the part number and ETag S3 returned for every uploaded part.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfirmDirectUploadDTO {
+    private String fileKey;
+    private String fileName;
+    private String uploadId;
+    private List<DirectUploadDTO.Part> parts;
+}
@@ -0,0 +1,36 @@
+package com.celebritysystems.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Where and how a client uploads a file straight to S3. Files below the multipart threshold get a single
+ * presigned PUT in {@code uploadUrl}; larger files get an {@code uploadId} and one presigned URL per part.
+ * The PUT requests must send the same Content-Type as {@code contentType}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectUploadDTO {
+    private String fileKey;
+    private String contentType;
+    private String uploadUrl;
+    private String uploadId;
+    private Long partSize;
+    private List<Part> parts;
+    private Instant expiresAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Part {
+        private Integer partNumber;
+        private String uploadUrl;
+        private String etag;
+        private Long size;
+    }
+}
@@ -0,0 +1,13 @@
+package com.celebritysystems.dto;
+
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectUploadRequestDTO {
+    private String fileName;
+    private String contentType;
+    private Long fileSize;
+}
@@ -0,0 +1,26 @@
+package com.celebritysystems.dto;
+
+import lombok.*;
+import org.springframework.http.HttpStatus;
+
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * An S3 object opened for streaming to a client. {@code content} is the open S3 response stream and is only
+ * set for 200 and 206 responses; whoever writes it out must close it.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class FileDownloadDTO {
+    private final HttpStatus status;
+    private final String fileName;
+    private final String etag;
+    private final String contentType;
+    private final Long contentLength;
+    private final String contentRange;
+    private final Long totalLength;
+    private final Instant lastModified;
+    private final InputStream content;
+}
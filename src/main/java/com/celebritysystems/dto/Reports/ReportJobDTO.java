@@ -0,0 +1,25 @@
+package com.celebritysystems.dto.Reports;
+
+import com.celebritysystems.entity.enums.ReportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobDTO {
+    private String jobId;
+    private ReportJobStatus status;
+    private ReportingRequestDTO.ReportType reportType;
+    private Integer recordCount;
+    private Long resultSizeBytes;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+}
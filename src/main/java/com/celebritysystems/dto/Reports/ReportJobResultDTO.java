@@ -0,0 +1,23 @@
+package com.celebritysystems.dto.Reports;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of a finished report job. The paged list is detailedRecords for DETAILED reports and
+ * componentSummaries otherwise; the rest of the report is returned on every page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobResultDTO {
+    private String jobId;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private ReportingResponseDTO report;
+}
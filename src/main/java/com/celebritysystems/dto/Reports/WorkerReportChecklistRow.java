@@ -0,0 +1,45 @@
+package com.celebritysystems.dto.Reports;
+
+import com.celebritysystems.entity.enums.ChecklistComponent;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of a worker report with its ticket and screen, read in one query so reporting never touches
+ * the lazy ticket/screen associations.
+ */
+@Getter
+public class WorkerReportChecklistRow {
+
+    private final Long reportId;
+    private final Long ticketId;
+    private final Long screenId;
+    private final String screenName;
+    private final LocalDateTime reportDate;
+
+    @Getter(AccessLevel.NONE)
+    private final String[] checklistValues; // Indexed by ChecklistComponent ordinal
+
+    // Argument order is fixed by the JPQL constructor expressions in WorkerReportRepository
+    public WorkerReportChecklistRow(Long reportId, Long ticketId, Long screenId, String screenName,
+                                    LocalDateTime reportDate, String dataCables, String powerCable,
+                                    String powerSupplies, String ledModules, String coolingSystems,
+                                    String serviceLights, String operatingComputers, String software,
+                                    String powerDBs, String mediaConverters, String controlSystems,
+                                    String videoProcessors) {
+        this.reportId = reportId;
+        this.ticketId = ticketId;
+        this.screenId = screenId;
+        this.screenName = screenName;
+        this.reportDate = reportDate;
+        this.checklistValues = new String[]{dataCables, powerCable, powerSupplies, ledModules, coolingSystems,
+                serviceLights, operatingComputers, software, powerDBs, mediaConverters, controlSystems,
+                videoProcessors};
+    }
+
+    public String getChecklistValue(ChecklistComponent component) {
+        return checklistValues[component.ordinal()];
+    }
+}
@@ -0,0 +1,36 @@
+package com.celebritysystems.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ticket change pushed to subscribers of /api/tickets/events. Carries enough state for clients
+ * to update their lists and status counts without refetching.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketEventDTO {
+    private EventType eventType;
+    private Long ticketId;
+    private String title;
+    private String status;
+    private String previousStatus;
+    private Long assignedToWorkerId;
+    private Long previousAssignedToWorkerId;
+    private Long companyId;
+    private Long screenId;
+    private LocalDateTime occurredAt;
+
+    public enum EventType {
+        CREATED,
+        ASSIGNED,
+        STATUS_CHANGED,
+        DELETED
+    }
+}
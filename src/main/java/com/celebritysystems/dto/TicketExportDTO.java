@@ -0,0 +1,84 @@
+package com.celebritysystems.dto;
+
+import com.celebritysystems.entity.enums.ServiceType;
+import com.celebritysystems.entity.enums.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat, association-free view of a ticket written by the streaming export.
+ */
+@Builder
+@Data
+@AllArgsConstructor
+public class TicketExportDTO {
+    public static final String[] CSV_HEADER = {
+            "id", "title", "description", "status", "serviceType",
+            "companyId", "companyName", "screenId", "screenName",
+            "createdBy", "assignedToWorkerName", "assignedBySupervisorName",
+            "createdAt", "openedAt", "inProgressAt", "resolvedAt", "closedAt"
+    };
+
+    private Long id;
+    private String title;
+    private String description;
+    private String status;
+    private String serviceType;
+    private Long companyId;
+    private String companyName;
+    private Long screenId;
+    private String screenName;
+    private Long createdBy;
+    private String assignedToWorkerName;
+    private String assignedBySupervisorName;
+    private LocalDateTime createdAt;
+    private LocalDateTime openedAt;
+    private LocalDateTime inProgressAt;
+    private LocalDateTime resolvedAt;
+    private LocalDateTime closedAt;
+
+    // Argument order is fixed by the JPQL constructor expression in TicketRepository.streamForExport
+    public TicketExportDTO(Long id, String title, String description, TicketStatus status, ServiceType serviceType,
+                           Long companyId, String companyName, Long screenId, String screenName, Long createdBy,
+                           String assignedToWorkerName, String assignedBySupervisorName, LocalDateTime createdAt,
+                           LocalDateTime openedAt, LocalDateTime inProgressAt, LocalDateTime resolvedAt,
+                           LocalDateTime closedAt) {
+        this(id, title, description, status != null ? status.name() : null,
+                serviceType != null ? serviceType.name() : null, companyId, companyName, screenId, screenName,
+                createdBy, assignedToWorkerName, assignedBySupervisorName, createdAt, openedAt, inProgressAt,
+                resolvedAt, closedAt);
+    }
+
+    public Object[] toCsvValues() {
+        return new Object[] {
+                id, title, description, status, serviceType,
+                companyId, companyName, screenId, screenName,
+                createdBy, assignedToWorkerName, assignedBySupervisorName,
+                createdAt, openedAt, inProgressAt, resolvedAt, closedAt
+        };
+    }
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String fileExtension;
+
+        Format(String contentType, String fileExtension) {
+            this.contentType = contentType;
+            this.fileExtension = fileExtension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getFileExtension() {
+            return fileExtension;
+        }
+    }
+}
@@ -35,6 +35,11 @@ public class TicketResponseDTO {
 
     private String ticketImageUrl;
     private String ticketImageName;
+    private String ticketImageThumbnailUrl;
+
+    // Presigned URLs for the worker report's solution image
+    private String solutionImageUrl;
+    private String solutionImageThumbnailUrl;
 
     private String serviceType;
     private String serviceTypeDisplayName;
@@ -23,6 +23,7 @@ public class WorkerReportResponseDTO {
     private String technicianSignatures;
     private String authorizedPersonSignatures;
     private String solutionImage;
+    private String solutionImageThumbnail;
     
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -0,0 +1,44 @@
+package com.celebritysystems.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Number of worker reports dated {@code day} on {@code screenId} whose {@code component} checklist entry held
+ * {@code checklistValue}. Only changes (values other than "OK") are counted; a missing value is stored as "".
+ */
+@Entity
+@Table(name = "component_failure_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_component_failure_rollup_key",
+                columnNames = {"day", "screen_id", "component", "checklist_value"})
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ComponentFailureRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(name = "screen_id", nullable = false)
+    private Long screenId;
+
+    @Column(nullable = false, length = 32)
+    private String component;
+
+    // Binary collation so values differing only in case or accents are counted separately, as in the reports
+    @Column(name = "checklist_value", nullable = false, columnDefinition = "VARCHAR(255) COLLATE utf8mb4_bin")
+    private String checklistValue;
+
+    @Column(name = "change_count", nullable = false)
+    private Long changeCount;
+}
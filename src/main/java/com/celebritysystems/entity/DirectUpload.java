@@ -0,0 +1,51 @@
+package com.celebritysystems.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A direct upload that has been issued but not yet confirmed. It ties the S3 key handed to the client to the
+ * record the file was requested for, so the key can only be attached there and only once.
+ */
+@Entity
+@Table(name = "direct_upload", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_direct_upload_file_key", columnNames = "file_key")
+}, indexes = {
+        @Index(name = "idx_direct_upload_confirm_by", columnList = "confirm_by")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class DirectUpload {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_key", nullable = false, length = 512)
+    private String fileKey;
+
+    // Set for multipart uploads only
+    @Column(name = "upload_id", length = 512)
+    private String uploadId;
+
+    // Kind of file, e.g. a ticket image or a screen's config file
+    @Column(name = "key_prefix", nullable = false)
+    private String keyPrefix;
+
+    // Id of the ticket or screen the file was requested for
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    // Unconfirmed uploads are discarded after this
+    @Column(name = "confirm_by", nullable = false)
+    private LocalDateTime confirmBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,69 @@
+package com.celebritysystems.entity;
+
+import com.celebritysystems.dto.Reports.ReportingRequestDTO;
+import com.celebritysystems.entity.enums.ReportJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A report generated in the background. The result itself is kept in report_job_result so that polling
+ * the status never loads it.
+ */
+@Entity
+@Table(name = "report_job", indexes = {
+        @Index(name = "idx_report_job_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_report_job_completed", columnList = "completed_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ReportJob {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    // Id of the user who submitted the job; only they can read it
+    @Column(name = "requested_by", nullable = false)
+    private Long requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ReportJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_type", length = 32)
+    private ReportingRequestDTO.ReportType reportType;
+
+    @Column(name = "request_json", nullable = false, columnDefinition = "TEXT")
+    private String requestJson;
+
+    @Column(name = "record_count")
+    private Integer recordCount;
+
+    // Size of the uncompressed JSON result
+    @Column(name = "result_size_bytes")
+    private Long resultSizeBytes;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Renewed while the instance that queued the job still holds it; a job whose heartbeat stops was lost in a
+    // restart and no longer counts toward the per-user limit
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+}
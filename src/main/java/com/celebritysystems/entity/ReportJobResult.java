@@ -0,0 +1,28 @@
+package com.celebritysystems.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * The gzip-compressed JSON result of a finished {@link ReportJob}, without its paged list. The list is stored
+ * in {@link ReportJobResultChunk} rows of {@code chunkSize} records each.
+ */
+@Entity
+@Table(name = "report_job_result")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobResult {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    @Column(name = "content_gzip", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] contentGzip;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+}
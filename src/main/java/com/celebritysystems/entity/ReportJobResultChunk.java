@@ -0,0 +1,33 @@
+package com.celebritysystems.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A run of consecutive records from the paged list of a finished {@link ReportJob}, stored as gzip-compressed
+ * JSON. Chunk {@code n} holds the records from {@code n * chunkSize}, so a page only reads the chunks it covers.
+ */
+@Entity
+@Table(name = "report_job_result_chunk", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_report_job_result_chunk", columnNames = {"job_id", "chunk_index"})
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobResultChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false, length = 36)
+    private String jobId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private Integer chunkIndex;
+
+    @Column(name = "content_gzip", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] contentGzip;
+}
@@ -0,0 +1,48 @@
+package com.celebritysystems.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An S3 object waiting to be removed. Rows are written in the same transaction that deletes the owning
+ * entity, so a rolled-back delete never loses its files and a committed one never leaks them.
+ */
+@Entity
+@Table(name = "s3_deletion_queue", indexes = {
+        @Index(name = "idx_s3_deletion_queue_due", columnList = "next_attempt_at"),
+        @Index(name = "idx_s3_deletion_queue_claim", columnList = "claim_token")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class S3DeletionTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_key", nullable = false, length = 1024)
+    private String fileKey;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // Set by the sweeper that claimed the row; the claim lapses when next_attempt_at passes again
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,57 @@
+package com.celebritysystems.entity;
+
+import com.celebritysystems.entity.enums.StoredObjectStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A content-addressed S3 object shared by every upload with the same SHA-256. The row exists from the moment
+ * the first upload starts until S3 confirms the object's deletion, so a hash can never be uploaded while an
+ * older copy is still being removed.
+ */
+@Entity
+@Table(name = "stored_object", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stored_object_content_hash", columnNames = "content_hash"),
+        @UniqueConstraint(name = "uk_stored_object_file_key", columnNames = "file_key")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class StoredObject {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "file_key", nullable = false, length = 512)
+    private String fileKey;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    // Rows created before the status column were all fully uploaded
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16, columnDefinition = "VARCHAR(16) DEFAULT 'STORED'")
+    private StoredObjectStatus status;
+
+    // Set while PENDING, so only the upload that created the row can complete or discard it
+    @Column(name = "upload_token", length = 36)
+    private String uploadToken;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_referenced_at", nullable = false)
+    private LocalDateTime lastReferencedAt;
+}
@@ -12,7 +12,9 @@ import com.celebritysystems.entity.enums.ServiceType;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ticket")
+@Table(name = "ticket", indexes = {
+        @Index(name = "idx_ticket_created_at_id", columnList = "created_at, id")
+})
 @Getter
 @Setter
 @Builder
@@ -70,6 +72,8 @@ public class Ticket {
     private String ticketImageUrl;
     @Column(nullable = true)
     private String ticketImageName;
+    @Column(nullable = true)
+    private String ticketImageThumbnailUrl;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "service_type")
@@ -0,0 +1,76 @@
+package com.celebritysystems.entity;
+
+import com.celebritysystems.entity.enums.OutboxStatus;
+import com.celebritysystems.entity.enums.TicketNotificationType;
+import com.celebritysystems.entity.enums.TicketStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ticket_notification_outbox", indexes = {
+        @Index(name = "idx_ticket_notification_outbox_due", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TicketNotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Plain id instead of an association so deleting the ticket never blocks on pending notifications
+    @Column(name = "ticket_id", nullable = false)
+    private Long ticketId;
+
+    // Comma-separated ids of every ticket covered by a BULK_* notification; ticketId holds the first of them
+    @Column(name = "related_ticket_ids", columnDefinition = "TEXT")
+    private String relatedTicketIds;
+
+    // Comma-separated ticketId:STATUS pairs holding each ticket's status before a BULK_TICKET_STATUS_UPDATE
+    @Column(name = "related_previous_statuses", columnDefinition = "TEXT")
+    private String relatedPreviousStatuses;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false)
+    private TicketNotificationType notificationType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status")
+    private TicketStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "new_status")
+    private TicketStatus newStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
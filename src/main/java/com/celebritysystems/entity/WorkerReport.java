@@ -61,6 +61,8 @@ public class WorkerReport {
     private String solutionImage;
     @Column(nullable = true)
     private String solutionImageName;
+    @Column(nullable = true)
+    private String solutionImageThumbnail;
 
     @CreationTimestamp
     private LocalDateTime createdAt;
@@ -0,0 +1,63 @@
+package com.celebritysystems.entity.enums;
+
+import com.celebritysystems.entity.WorkerReport;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The checklist fields of a worker report, keyed by the display names used in reporting requests.
+ */
+public enum ChecklistComponent {
+    DATA_CABLES("Data Cables (Cat6/RJ45)", WorkerReport::getDataCables),
+    POWER_CABLE("Power Cable", WorkerReport::getPowerCable),
+    POWER_SUPPLIES("Power Supplies", WorkerReport::getPowerSupplies),
+    LED_MODULES("LED Modules", WorkerReport::getLedModules),
+    COOLING_SYSTEMS("Cooling Systems", WorkerReport::getCoolingSystems),
+    SERVICE_LIGHTS("Service Lights & Sockets", WorkerReport::getServiceLights),
+    OPERATING_COMPUTERS("Operating Computers", WorkerReport::getOperatingComputers),
+    SOFTWARE("Software", WorkerReport::getSoftware),
+    POWER_DBS("Power DBs", WorkerReport::getPowerDBs),
+    MEDIA_CONVERTERS("Media Converters", WorkerReport::getMediaConverters),
+    CONTROL_SYSTEMS("Control Systems", WorkerReport::getControlSystems),
+    VIDEO_PROCESSORS("Video Processors", WorkerReport::getVideoProcessors);
+
+    private static final Map<String, ChecklistComponent> BY_DISPLAY_NAME = new HashMap<>();
+
+    static {
+        for (ChecklistComponent component : values()) {
+            BY_DISPLAY_NAME.put(component.displayName, component);
+        }
+    }
+
+    private final String displayName;
+    private final Function<WorkerReport, String> accessor;
+
+    ChecklistComponent(String displayName, Function<WorkerReport, String> accessor) {
+        this.displayName = displayName;
+        this.accessor = accessor;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String read(WorkerReport report) {
+        return accessor.apply(report);
+    }
+
+    /**
+     * Returns the component with the given display name, or null if there is none.
+     */
+    public static ChecklistComponent fromDisplayName(String displayName) {
+        return BY_DISPLAY_NAME.get(displayName);
+    }
+
+    /**
+     * Any checklist value other than "OK" counts as a change.
+     */
+    public static boolean isChange(String value) {
+        return !"OK".equalsIgnoreCase(value);
+    }
+}
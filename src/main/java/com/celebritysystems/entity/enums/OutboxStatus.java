@@ -0,0 +1,8 @@
+package com.celebritysystems.entity.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    PROCESSING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package com.celebritysystems.entity.enums;
+
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
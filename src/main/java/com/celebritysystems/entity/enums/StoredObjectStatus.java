@@ -0,0 +1,11 @@
+package com.celebritysystems.entity.enums;
+
+/**
+ * Lifecycle of a content-addressed S3 object. Only STORED objects can gain references; PENDING ones are still
+ * being uploaded and DELETING ones are waiting for S3 to confirm their removal.
+ */
+public enum StoredObjectStatus {
+    PENDING,
+    STORED,
+    DELETING
+}
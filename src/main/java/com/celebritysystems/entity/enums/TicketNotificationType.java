@@ -0,0 +1,8 @@
+package com.celebritysystems.entity.enums;
+
+public enum TicketNotificationType {
+    TICKET_ASSIGNMENT,
+    TICKET_STATUS_UPDATE,
+    BULK_TICKET_ASSIGNMENT,
+    BULK_TICKET_STATUS_UPDATE
+}
@@ -0,0 +1,48 @@
+package com.celebritysystems.repository;
+
+import com.celebritysystems.entity.ComponentFailureRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ComponentFailureRollupRepository extends JpaRepository<ComponentFailureRollup, Long> {
+
+    // Runs in the caller's transaction so the rollup commits or rolls back with the worker report change
+    @Modifying
+    @Query(value = "INSERT INTO component_failure_rollup (day, screen_id, component, checklist_value, change_count) " +
+                   "VALUES (:day, :screenId, :component, :checklistValue, :delta) " +
+                   "ON DUPLICATE KEY UPDATE change_count = change_count + :delta",
+           nativeQuery = true)
+    int adjust(@Param("day") LocalDate day,
+               @Param("screenId") Long screenId,
+               @Param("component") String component,
+               @Param("checklistValue") String checklistValue,
+               @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM ComponentFailureRollup r WHERE r.day = :day AND r.screenId = :screenId AND r.changeCount <= 0")
+    int deleteEmpty(@Param("day") LocalDate day, @Param("screenId") Long screenId);
+
+    /**
+     * Returns rows of [screenId, component, checklistValue, count] for the date range.
+     */
+    @Query("SELECT r.screenId, r.component, r.checklistValue, SUM(r.changeCount) FROM ComponentFailureRollup r " +
+           "WHERE r.day BETWEEN :startDate AND :endDate " +
+           "GROUP BY r.screenId, r.component, r.checklistValue")
+    List<Object[]> sumChangesBetween(@Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT r.screenId, r.component, r.checklistValue, SUM(r.changeCount) FROM ComponentFailureRollup r " +
+           "WHERE r.screenId IN :screenIds AND r.day BETWEEN :startDate AND :endDate " +
+           "GROUP BY r.screenId, r.component, r.checklistValue")
+    List<Object[]> sumChangesByScreenIdsBetween(@Param("screenIds") Collection<Long> screenIds,
+                                                @Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
+}
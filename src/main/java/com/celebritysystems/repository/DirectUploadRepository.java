@@ -0,0 +1,30 @@
+package com.celebritysystems.repository;
+
+import com.celebritysystems.entity.DirectUpload;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DirectUploadRepository extends JpaRepository<DirectUpload, Long> {
+
+    Optional<DirectUpload> findByFileKey(String fileKey);
+
+    Optional<DirectUpload> findByFileKeyAndUploadId(String fileKey, String uploadId);
+
+    List<DirectUpload> findByConfirmByBefore(LocalDateTime now, Pageable pageable);
+
+    // Conditional so that of two concurrent confirmations or a confirmation racing the expiry, only one wins
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DirectUpload d WHERE d.id = :id")
+    int deleteIssued(@Param("id") Long id);
+}
@@ -0,0 +1,73 @@
+package com.celebritysystems.repository;
+
+import com.celebritysystems.entity.ReportJob;
+import com.celebritysystems.entity.enums.ReportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, String> {
+
+    Optional<ReportJob> findByIdAndRequestedBy(String id, Long requestedBy);
+
+    // Unfinished jobs whose instance is still alive; jobs orphaned by a restart stop counting once their
+    // heartbeat is older than aliveAfter
+    @Query("SELECT COUNT(j) FROM ReportJob j " +
+           "WHERE j.requestedBy = :requestedBy AND j.status IN :unfinished AND j.heartbeatAt >= :aliveAfter")
+    long countActive(@Param("requestedBy") Long requestedBy,
+                     @Param("unfinished") Collection<ReportJobStatus> unfinished,
+                     @Param("aliveAfter") LocalDateTime aliveAfter);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReportJob j SET j.heartbeatAt = :now WHERE j.id IN :ids AND j.status IN :unfinished")
+    int renewHeartbeats(@Param("ids") Collection<String> ids,
+                        @Param("unfinished") Collection<ReportJobStatus> unfinished,
+                        @Param("now") LocalDateTime now);
+
+    // The transitions below are conditional so that a job cleanUp has already failed stays failed
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReportJob j SET j.status = :running, j.startedAt = :now, j.heartbeatAt = :now " +
+           "WHERE j.id = :id AND j.status = :queued")
+    int markRunning(@Param("id") String id,
+                    @Param("queued") ReportJobStatus queued,
+                    @Param("running") ReportJobStatus running,
+                    @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReportJob j SET j.status = :status, j.recordCount = :recordCount, " +
+           "j.resultSizeBytes = :resultSizeBytes, j.lastError = :error, j.completedAt = :now " +
+           "WHERE j.id = :id AND j.status = :running")
+    int complete(@Param("id") String id,
+                 @Param("running") ReportJobStatus running,
+                 @Param("status") ReportJobStatus status,
+                 @Param("recordCount") Integer recordCount,
+                 @Param("resultSizeBytes") Long resultSizeBytes,
+                 @Param("error") String error,
+                 @Param("now") LocalDateTime now);
+
+    // Jobs whose instance stopped renewing them, or running far longer than any report should
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = :failed, j.lastError = :error, j.completedAt = :now " +
+           "WHERE j.status IN :unfinished AND (j.createdAt < :createdBefore OR j.heartbeatAt < :heartbeatBefore)")
+    int failStale(@Param("unfinished") Collection<ReportJobStatus> unfinished,
+                  @Param("failed") ReportJobStatus failed,
+                  @Param("error") String error,
+                  @Param("createdBefore") LocalDateTime createdBefore,
+                  @Param("heartbeatBefore") LocalDateTime heartbeatBefore,
+                  @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM ReportJob j WHERE j.completedAt < :completedBefore")
+    int deleteCompletedBefore(@Param("completedBefore") LocalDateTime completedBefore);
+}
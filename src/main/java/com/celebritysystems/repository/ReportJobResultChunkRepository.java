@@ -0,0 +1,23 @@
+package com.celebritysystems.repository;
+
+import com.celebritysystems.entity.ReportJobResultChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReportJobResultChunkRepository extends JpaRepository<ReportJobResultChunk, Long> {
+
+    List<ReportJobResultChunk> findByJobIdAndChunkIndexBetweenOrderByChunkIndexAsc(String jobId, int firstChunk,
+                                                                                  int lastChunk);
+
+    @Modifying
+    @Query("DELETE FROM ReportJobResultChunk c WHERE c.jobId IN " +
+           "(SELECT j.id FROM ReportJob j WHERE j.completedAt < :completedBefore)")
+    int deleteForJobsCompletedBefore(@Param("completedBefore") LocalDateTime completedBefore);
+}
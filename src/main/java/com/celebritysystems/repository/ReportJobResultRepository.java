@@ -0,0 +1,19 @@
+package com.celebritysystems.repository;
+
+import com.celebritysystems.entity.ReportJobResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ReportJobResultRepository extends JpaRepository<ReportJobResult, String> {
+
+    @Modifying
+    @Query("DELETE FROM ReportJobResult r WHERE r.jobId IN " +
+           "(SELECT j.id FROM ReportJob j WHERE j.completedAt < :completedBefore)")
+    int deleteForJobsCompletedBefore(@Param("completedBefore") LocalDateTime completedBefore);
+}
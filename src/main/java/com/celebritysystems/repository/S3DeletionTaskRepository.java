@@ -0,0 +1,38 @@
+package com.celebritysystems.repository;
+
+import com.celebritysystems.entity.S3DeletionTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface S3DeletionTaskRepository extends JpaRepository<S3DeletionTask, Long> {
+
+    @Query("SELECT t.id FROM S3DeletionTask t WHERE t.nextAttemptAt <= :now ORDER BY t.id ASC")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Conditional update so that each row is claimed by one sweeper; the lease doubles as the retry time
+    @Modifying
+    @Transactional
+    @Query("UPDATE S3DeletionTask t SET t.claimToken = :claimToken, t.nextAttemptAt = :leaseUntil " +
+           "WHERE t.id IN :ids AND t.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("claimToken") String claimToken,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now);
+
+    List<S3DeletionTask> findByClaimToken(String claimToken);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM S3DeletionTask t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
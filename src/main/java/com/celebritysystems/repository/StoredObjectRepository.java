@@ -0,0 +1,112 @@
+package com.celebritysystems.repository;
+
+import com.celebritysystems.entity.StoredObject;
+import com.celebritysystems.entity.enums.StoredObjectStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Uploads change rows in their own transactions: the S3 object they describe is created immediately, so the
+ * row must not roll back with the caller's entity changes. Releasing a reference joins the caller's
+ * transaction instead, so it commits together with the entity that stopped using the object.
+ */
+@Repository
+public interface StoredObjectRepository extends JpaRepository<StoredObject, Long> {
+
+    /**
+     * Creates a PENDING row holding the first reference. Returns 1 when the row was inserted, so the caller must
+     * upload the object, and 0 when a row for this hash already exists.
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT IGNORE INTO stored_object (content_hash, file_key, size_bytes, ref_count, status, upload_token, " +
+                   "created_at, last_referenced_at) " +
+                   "VALUES (:contentHash, :fileKey, :sizeBytes, 1, 'PENDING', :uploadToken, :now, :now)",
+           nativeQuery = true)
+    int insertPending(@Param("contentHash") String contentHash,
+                      @Param("fileKey") String fileKey,
+                      @Param("sizeBytes") long sizeBytes,
+                      @Param("uploadToken") String uploadToken,
+                      @Param("now") LocalDateTime now);
+
+    // Only objects that are fully uploaded and not being deleted can be shared
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("UPDATE StoredObject o SET o.refCount = o.refCount + 1, o.lastReferencedAt = :now " +
+           "WHERE o.fileKey = :fileKey AND o.status = :stored")
+    int addReference(@Param("fileKey") String fileKey,
+                     @Param("stored") StoredObjectStatus stored,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("UPDATE StoredObject o SET o.status = :stored, o.uploadToken = NULL " +
+           "WHERE o.fileKey = :fileKey AND o.uploadToken = :uploadToken AND o.status = :pending")
+    int markStored(@Param("fileKey") String fileKey,
+                   @Param("uploadToken") String uploadToken,
+                   @Param("pending") StoredObjectStatus pending,
+                   @Param("stored") StoredObjectStatus stored);
+
+    // Matches only the row this upload created; nobody else can hold a reference to a PENDING row
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("DELETE FROM StoredObject o " +
+           "WHERE o.fileKey = :fileKey AND o.uploadToken = :uploadToken AND o.status = :pending")
+    int deletePending(@Param("fileKey") String fileKey,
+                      @Param("uploadToken") String uploadToken,
+                      @Param("pending") StoredObjectStatus pending);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StoredObject o SET o.refCount = o.refCount - 1 " +
+           "WHERE o.fileKey = :fileKey AND o.refCount > 0 AND o.status = :stored")
+    int release(@Param("fileKey") String fileKey, @Param("stored") StoredObjectStatus stored);
+
+    /**
+     * Marks an unreferenced object for deletion. Returns 1 when the caller must queue the S3 delete; from then
+     * on no upload can share or recreate the object until {@link #deleteTombstones} removes the row.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE StoredObject o SET o.status = :deleting " +
+           "WHERE o.fileKey = :fileKey AND o.refCount = 0 AND o.status = :stored")
+    int tombstoneIfUnreferenced(@Param("fileKey") String fileKey,
+                                @Param("stored") StoredObjectStatus stored,
+                                @Param("deleting") StoredObjectStatus deleting);
+
+    @Query("SELECT o.fileKey FROM StoredObject o WHERE o.status = :pending AND o.createdAt < :before ORDER BY o.id ASC")
+    List<String> findStalePendingKeys(@Param("pending") StoredObjectStatus pending,
+                                      @Param("before") LocalDateTime before,
+                                      Pageable pageable);
+
+    // Uploads that never finished, e.g. because the node died mid-upload; the partial object is removed like any other
+    @Modifying
+    @Transactional
+    @Query("UPDATE StoredObject o SET o.status = :deleting, o.uploadToken = NULL " +
+           "WHERE o.fileKey = :fileKey AND o.createdAt < :before AND o.status = :pending")
+    int tombstoneStalePending(@Param("fileKey") String fileKey,
+                              @Param("before") LocalDateTime before,
+                              @Param("pending") StoredObjectStatus pending,
+                              @Param("deleting") StoredObjectStatus deleting);
+
+    @Query("SELECT o.fileKey FROM StoredObject o WHERE o.fileKey IN :fileKeys AND o.status = :status")
+    List<String> findFileKeysByStatus(@Param("fileKeys") Collection<String> fileKeys,
+                                      @Param("status") StoredObjectStatus status);
+
+    // Called once S3 has confirmed the delete, which makes the hash available for new uploads again
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM StoredObject o WHERE o.fileKey IN :fileKeys AND o.status = :deleting")
+    int deleteTombstones(@Param("fileKeys") Collection<String> fileKeys,
+                         @Param("deleting") StoredObjectStatus deleting);
+}
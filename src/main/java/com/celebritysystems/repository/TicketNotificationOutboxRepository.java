@@ -0,0 +1,54 @@
+package com.celebritysystems.repository;
+
+import com.celebritysystems.entity.TicketNotificationOutbox;
+import com.celebritysystems.entity.enums.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TicketNotificationOutboxRepository extends JpaRepository<TicketNotificationOutbox, Long> {
+
+    @Query("SELECT n FROM TicketNotificationOutbox n " +
+           "WHERE n.status = :status AND n.nextAttemptAt <= :now " +
+           "ORDER BY n.id ASC")
+    List<TicketNotificationOutbox> findDue(@Param("status") OutboxStatus status,
+                                           @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+
+    // Conditional update so that only one node can claim a given entry
+    @Modifying
+    @Transactional
+    @Query("UPDATE TicketNotificationOutbox n SET n.status = :claimed, n.updatedAt = :now " +
+           "WHERE n.id = :id AND n.status = :expected")
+    int claim(@Param("id") Long id,
+              @Param("expected") OutboxStatus expected,
+              @Param("claimed") OutboxStatus claimed,
+              @Param("now") LocalDateTime now);
+
+    // Heartbeat for entries a node is still delivering, so a slow delivery never looks stale to releaseStale
+    @Modifying
+    @Transactional
+    @Query("UPDATE TicketNotificationOutbox n SET n.updatedAt = :now " +
+           "WHERE n.id IN :ids AND n.status = :processing")
+    int renewClaims(@Param("ids") Collection<Long> ids,
+                    @Param("processing") OutboxStatus processing,
+                    @Param("now") LocalDateTime now);
+
+    // Hands entries back to the queue when the node processing them died mid-delivery
+    @Modifying
+    @Transactional
+    @Query("UPDATE TicketNotificationOutbox n SET n.status = :pending " +
+           "WHERE n.status = :processing AND n.updatedAt < :staleBefore")
+    int releaseStale(@Param("processing") OutboxStatus processing,
+                     @Param("pending") OutboxStatus pending,
+                     @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -1,21 +1,38 @@
 package com.celebritysystems.repository;
 
+import com.celebritysystems.dto.TicketExportDTO;
 import com.celebritysystems.entity.Ticket;
 import com.celebritysystems.entity.enums.ServiceType;
 import com.celebritysystems.entity.enums.TicketStatus;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface TicketRepository extends JpaRepository<Ticket, Long> {
+public interface TicketRepository extends JpaRepository<Ticket, Long>, JpaSpecificationExecutor<Ticket> {
+
+    // MySQL Connector/J streams rows one at a time instead of buffering the whole result set
+    // when the fetch size is Integer.MIN_VALUE
+    String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+    String FETCH_ASSOCIATIONS = "LEFT JOIN FETCH t.createdBy " +
+            "LEFT JOIN FETCH t.assignedToWorker " +
+            "LEFT JOIN FETCH t.assignedBySupervisor " +
+            "LEFT JOIN FETCH t.screen " +
+            "LEFT JOIN FETCH t.company ";
 
     List<Ticket> findByCreatedById(Long userId);
 
@@ -44,6 +61,12 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
             "GROUP BY t.status")
     List<Object[]> countTicketsGroupByStatusSinceDate(@Param("date") LocalDateTime date);
 
+    @Query(value = "SELECT DATE(created_at) AS day, status, COUNT(*) AS count " +
+                   "FROM ticket " +
+                   "WHERE created_at >= :date " +
+                   "GROUP BY DATE(created_at), status", nativeQuery = true)
+    List<Object[]> countTicketsGroupByCreatedDayAndStatusSinceDate(@Param("date") LocalDateTime date);
+
     long countByAssignedToWorker_UsernameAndStatus(String username, TicketStatus status);
 
     List<Ticket> findByAssignedToWorkerIsNullAndAssignedBySupervisorIsNull();
@@ -57,11 +80,34 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
             LocalDateTime startDate,
             LocalDateTime endDate);
 
+    @Query("SELECT t FROM Ticket t " + FETCH_ASSOCIATIONS)
+    List<Ticket> findAllWithAssociations();
+
+    @Query("SELECT t FROM Ticket t " + FETCH_ASSOCIATIONS + "WHERE t.company.id = :companyId")
+    List<Ticket> findByCompanyIdWithAssociations(@Param("companyId") Long companyId);
+
+    @Query("SELECT t FROM Ticket t " + FETCH_ASSOCIATIONS + "WHERE t.screen.id = :screenId")
+    List<Ticket> findByScreenIdWithAssociations(@Param("screenId") Long screenId);
+
+    @Query("SELECT t FROM Ticket t " + FETCH_ASSOCIATIONS + "WHERE t.assignedToWorker.username = :username")
+    List<Ticket> findByWorkerUsernameWithAssociations(@Param("username") String username);
 
-               @Query("SELECT t FROM Ticket t WHERE t.assignedToWorker IS NULL AND t.assignedBySupervisor IS NULL")
+    @Query("SELECT t FROM Ticket t " + FETCH_ASSOCIATIONS +
+           "WHERE t.assignedToWorker IS NULL AND t.assignedBySupervisor IS NULL")
+    List<Ticket> findPendingWithAssociations();
+
+    @Query(value = "SELECT t FROM Ticket t " + FETCH_ASSOCIATIONS +
+           "WHERE t.assignedToWorker IS NULL AND t.assignedBySupervisor IS NULL",
+           countQuery = "SELECT COUNT(t) FROM Ticket t WHERE t.assignedToWorker IS NULL AND t.assignedBySupervisor IS NULL")
     Page<Ticket> findPendingTicketsPaginated(Pageable pageable);
 
-    @Query("SELECT t FROM Ticket t WHERE " +
+    @Query(value = "SELECT t FROM Ticket t " + FETCH_ASSOCIATIONS + "WHERE " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:companyId IS NULL OR t.company.id = :companyId) AND " +
+           "(:screenId IS NULL OR t.screen.id = :screenId) AND " +
+           "(:assignedToWorkerId IS NULL OR t.assignedToWorker.id = :assignedToWorkerId) AND " +
+           "(:serviceType IS NULL OR t.serviceType = :serviceType)",
+           countQuery = "SELECT COUNT(t) FROM Ticket t WHERE " +
            "(:status IS NULL OR t.status = :status) AND " +
            "(:companyId IS NULL OR t.company.id = :companyId) AND " +
            "(:screenId IS NULL OR t.screen.id = :screenId) AND " +
@@ -75,6 +121,87 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
             @Param("serviceType") ServiceType serviceType,
             Pageable pageable);
 
+    // A scalar projection rather than entities: nothing is lazily or eagerly loaded per row, which MySQL would
+    // reject while the streaming result set is still open
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query("SELECT new com.celebritysystems.dto.TicketExportDTO(" +
+           "t.id, t.title, t.description, t.status, t.serviceType, c.id, c.name, s.id, s.name, cb.id, " +
+           "w.fullName, sup.fullName, t.createdAt, t.openedAt, t.inProgressAt, t.resolvedAt, t.closedAt) " +
+           "FROM Ticket t LEFT JOIN t.company c LEFT JOIN t.screen s LEFT JOIN t.createdBy cb " +
+           "LEFT JOIN t.assignedToWorker w LEFT JOIN t.assignedBySupervisor sup WHERE " +
+           "(:status IS NULL OR t.status = :status) AND " +
+           "(:companyId IS NULL OR c.id = :companyId) AND " +
+           "(:startDate IS NULL OR t.createdAt >= :startDate) AND " +
+           "(:endDate IS NULL OR t.createdAt <= :endDate) " +
+           "ORDER BY t.id")
+    Stream<TicketExportDTO> streamForExport(
+            @Param("status") TicketStatus status,
+            @Param("companyId") Long companyId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT t FROM Ticket t " + FETCH_ASSOCIATIONS + "WHERE t.id IN :ids")
+    List<Ticket> findByIdInWithAssociations(@Param("ids") Collection<Long> ids);
+
+    // Relevance comes from the ft_ticket_title_description FULLTEXT index; results are keyset-paged on (score, id)
+    @Query(value = "SELECT ranked.id AS id, ranked.score AS score FROM (" +
+                   "SELECT t.id AS id, MATCH(t.title, t.description) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score " +
+                   "FROM ticket t " +
+                   "WHERE MATCH(t.title, t.description) AGAINST (:query IN NATURAL LANGUAGE MODE) " +
+                   "AND (:status IS NULL OR t.status = :status) " +
+                   "AND (:companyId IS NULL OR t.company_id = :companyId) " +
+                   "AND (:screenId IS NULL OR t.screen_id = :screenId)" +
+                   ") ranked " +
+                   "WHERE (:cursorScore IS NULL OR ranked.score < :cursorScore " +
+                   "OR (ranked.score = :cursorScore AND ranked.id < :cursorId)) " +
+                   "ORDER BY ranked.score DESC, ranked.id DESC " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<TicketSearchHit> searchByText(@Param("query") String query,
+                                       @Param("status") String status,
+                                       @Param("companyId") Long companyId,
+                                       @Param("screenId") Long screenId,
+                                       @Param("cursorScore") Double cursorScore,
+                                       @Param("cursorId") Long cursorId,
+                                       @Param("limit") int limit);
+
+    String RESOLUTION_STATS_SELECT = "SELECT service_type AS serviceType, " +
+            "COUNT(*) AS ticketCount, " +
+            "SUM(CASE WHEN opened_at IS NOT NULL AND closed_at IS NOT NULL THEN 1 ELSE 0 END) AS resolvedCount, " +
+            "SUM(CASE WHEN opened_at IS NOT NULL AND closed_at IS NOT NULL " +
+            "THEN TIMESTAMPDIFF(SECOND, opened_at, closed_at) ELSE 0 END) AS totalResolutionSeconds " +
+            "FROM ticket ";
+
+    @Query(value = RESOLUTION_STATS_SELECT +
+                   "WHERE created_at BETWEEN :startDate AND :endDate " +
+                   "GROUP BY service_type", nativeQuery = true)
+    List<ServiceTypeResolutionStats> getResolutionStatsByServiceType(@Param("startDate") LocalDateTime startDate,
+                                                                    @Param("endDate") LocalDateTime endDate);
+
+    @Query(value = RESOLUTION_STATS_SELECT +
+                   "WHERE screen_id IN (:screenIds) AND created_at BETWEEN :startDate AND :endDate " +
+                   "GROUP BY service_type", nativeQuery = true)
+    List<ServiceTypeResolutionStats> getResolutionStatsByServiceTypeForScreens(@Param("screenIds") List<Long> screenIds,
+                                                                              @Param("startDate") LocalDateTime startDate,
+                                                                              @Param("endDate") LocalDateTime endDate);
+
+    @Query(value = "SELECT t.id AS ticketId, t.serviceType AS serviceType, " +
+                   "t.openedAt AS openedAt, t.closedAt AS closedAt FROM Ticket t " +
+                   "WHERE t.createdAt BETWEEN :startDate AND :endDate ORDER BY t.id",
+           countQuery = "SELECT COUNT(t) FROM Ticket t WHERE t.createdAt BETWEEN :startDate AND :endDate")
+    Page<TicketResolutionView> findResolutionViewsByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                                                     @Param("endDate") LocalDateTime endDate,
+                                                                     Pageable pageable);
+
+    @Query(value = "SELECT t.id AS ticketId, t.serviceType AS serviceType, " +
+                   "t.openedAt AS openedAt, t.closedAt AS closedAt FROM Ticket t " +
+                   "WHERE t.screen.id IN :screenIds AND t.createdAt BETWEEN :startDate AND :endDate ORDER BY t.id",
+           countQuery = "SELECT COUNT(t) FROM Ticket t " +
+                   "WHERE t.screen.id IN :screenIds AND t.createdAt BETWEEN :startDate AND :endDate")
+    Page<TicketResolutionView> findResolutionViewsByScreenIdInAndCreatedAtBetween(@Param("screenIds") List<Long> screenIds,
+                                                                                  @Param("startDate") LocalDateTime startDate,
+                                                                                  @Param("endDate") LocalDateTime endDate,
+                                                                                  Pageable pageable);
+
     @Query(value = "SELECT DATE(created_at) as date, COUNT(*) as count " +
                    "FROM ticket " +
                    "WHERE created_at BETWEEN :startDate AND :endDate " +
@@ -82,4 +209,30 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
                    "ORDER BY date", nativeQuery = true)
     List<Object[]> getDailyTicketCreationStats(@Param("startDate") LocalDateTime startDate, 
                                              @Param("endDate") LocalDateTime endDate);
+
+    interface ServiceTypeResolutionStats {
+        String getServiceType();
+
+        Number getTicketCount();
+
+        Number getResolvedCount();
+
+        Number getTotalResolutionSeconds();
+    }
+
+    interface TicketResolutionView {
+        Long getTicketId();
+
+        ServiceType getServiceType();
+
+        LocalDateTime getOpenedAt();
+
+        LocalDateTime getClosedAt();
+    }
+
+    interface TicketSearchHit {
+        Long getId();
+
+        Double getScore();
+    }
 }
@@ -1,12 +1,15 @@
 package com.celebritysystems.repository;
 
+import com.celebritysystems.dto.Reports.WorkerReportChecklistRow;
 import com.celebritysystems.entity.WorkerReport;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +23,8 @@ public interface WorkerReportRepository extends JpaRepository<WorkerReport, Long
     
     boolean existsByTicketId(Long ticketId);
 
+    List<WorkerReport> findByTicketIdIn(Collection<Long> ticketIds);
+
      List<WorkerReport> findByReportDateBetween(LocalDateTime startDate, LocalDateTime endDate);
     
     List<WorkerReport> findByTicketIdInAndReportDateBetween(
@@ -60,4 +65,26 @@ List<WorkerReport> findByTicketScreenIdInAndReportDateBetween(
     LocalDateTime startDate, 
     LocalDateTime endDate
 );
+
+    String CHECKLIST_ROW_SELECT = "SELECT new com.celebritysystems.dto.Reports.WorkerReportChecklistRow(" +
+            "wr.id, t.id, s.id, s.name, wr.reportDate, wr.dataCables, wr.powerCable, wr.powerSupplies, " +
+            "wr.ledModules, wr.coolingSystems, wr.serviceLights, wr.operatingComputers, wr.software, wr.powerDBs, " +
+            "wr.mediaConverters, wr.controlSystems, wr.videoProcessors) " +
+            "FROM WorkerReport wr JOIN wr.ticket t JOIN t.screen s ";
+
+    @Query(CHECKLIST_ROW_SELECT +
+           "WHERE wr.reportDate BETWEEN :startDate AND :endDate ORDER BY wr.reportDate ASC, wr.id ASC")
+    List<WorkerReportChecklistRow> findChecklistRowsBetween(@Param("startDate") LocalDateTime startDate,
+                                                            @Param("endDate") LocalDateTime endDate);
+
+    @Query(CHECKLIST_ROW_SELECT +
+           "WHERE s.id IN :screenIds AND wr.reportDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY wr.reportDate ASC, wr.id ASC")
+    List<WorkerReportChecklistRow> findChecklistRowsByScreenIdsBetween(@Param("screenIds") Collection<Long> screenIds,
+                                                                       @Param("startDate") LocalDateTime startDate,
+                                                                       @Param("endDate") LocalDateTime endDate);
+
+    // Keyset pages in id order, for rebuilding the component failure rollup
+    @Query(CHECKLIST_ROW_SELECT + "WHERE wr.id > :afterId AND wr.reportDate IS NOT NULL ORDER BY wr.id ASC")
+    List<WorkerReportChecklistRow> findChecklistRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
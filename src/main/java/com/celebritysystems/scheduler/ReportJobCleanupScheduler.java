@@ -0,0 +1,39 @@
+package com.celebritysystems.scheduler;
+
+import com.celebritysystems.service.ReportJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportJobCleanupScheduler {
+
+    private final ReportJobService reportJobService;
+
+    /**
+     * Fails report jobs that never finished (e.g. lost in a restart) and removes expired jobs and results.
+     */
+    @Scheduled(fixedDelayString = "${reporting.jobs.cleanup-interval-ms:600000}")
+    public void cleanUp() {
+        try {
+            reportJobService.cleanUp();
+        } catch (Exception e) {
+            log.error("Failed to clean up report jobs: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Keeps this instance's jobs from being failed as orphaned; must run well within reporting.jobs.orphan-minutes.
+     */
+    @Scheduled(fixedDelayString = "${reporting.jobs.heartbeat-interval-ms:60000}")
+    public void renewHeartbeats() {
+        try {
+            reportJobService.renewHeartbeats();
+        } catch (Exception e) {
+            log.error("Failed to renew report job heartbeats: {}", e.getMessage(), e);
+        }
+    }
+}
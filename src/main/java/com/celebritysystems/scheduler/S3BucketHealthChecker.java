@@ -0,0 +1,29 @@
+package com.celebritysystems.scheduler;
+
+import com.celebritysystems.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3BucketHealthChecker {
+
+    private final S3Service s3Service;
+
+    /**
+     * Re-checks the bucket in the background so the upload path can rely on the cached flag.
+     * The first check runs when S3ServiceImpl is created.
+     */
+    @Scheduled(fixedDelayString = "${s3.bucket-health.check-interval-ms:30000}",
+            initialDelayString = "${s3.bucket-health.check-interval-ms:30000}")
+    public void checkBucket() {
+        try {
+            s3Service.refreshBucketAvailability();
+        } catch (Exception e) {
+            log.error("Failed to check S3 bucket availability: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.celebritysystems.scheduler;
+
+import com.celebritysystems.service.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3DeletionSweeper {
+
+    private final S3Service s3Service;
+
+    /**
+     * Removes queued S3 objects in batches until the queue has nothing due, so a burst of deletes is
+     * cleared in one run rather than one batch per interval. Shared uploads abandoned mid-way and direct
+     * uploads never confirmed are queued first.
+     */
+    @Scheduled(fixedDelayString = "${s3.deletion-queue.sweep-interval-ms:30000}")
+    public void sweep() {
+        try {
+            s3Service.reclaimStalePendingObjects();
+            s3Service.expireDirectUploads();
+
+            int swept;
+            int total = 0;
+            do {
+                swept = s3Service.sweepDeletionQueue();
+                total += swept;
+            } while (swept > 0);
+
+            if (total > 0) {
+                log.info("Swept {} queued S3 deletion(s)", total);
+            }
+        } catch (Exception e) {
+            log.error("Failed to sweep the S3 deletion queue: {}", e.getMessage(), e);
+        }
+    }
+}
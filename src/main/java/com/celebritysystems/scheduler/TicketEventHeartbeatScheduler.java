@@ -0,0 +1,21 @@
+package com.celebritysystems.scheduler;
+
+import com.celebritysystems.service.TicketEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TicketEventHeartbeatScheduler {
+
+    private final TicketEventService ticketEventService;
+
+    /**
+     * Keeps idle SSE connections open through proxies and drops subscribers whose connection is gone.
+     */
+    @Scheduled(fixedDelayString = "${tickets.events.heartbeat-interval-ms:25000}")
+    public void sendHeartbeat() {
+        ticketEventService.sendHeartbeat();
+    }
+}
@@ -0,0 +1,172 @@
+package com.celebritysystems.scheduler;
+
+import com.celebritysystems.entity.TicketNotificationOutbox;
+import com.celebritysystems.entity.enums.OutboxStatus;
+import com.celebritysystems.repository.TicketNotificationOutboxRepository;
+import com.celebritysystems.service.TicketNotificationService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers ticket notifications queued in the ticket_notification_outbox table.
+ * Entries are written in the same transaction as the ticket change, so a notification
+ * survives a restart and the request thread never waits on OneSignal, SMTP or PDF generation.
+ */
+@Slf4j
+@Component
+public class TicketNotificationDispatcher {
+
+    private final TicketNotificationOutboxRepository outboxRepository;
+    private final TicketNotificationService ticketNotificationService;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+
+    // Entries claimed by this node and not yet recorded, whether queued or being delivered
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${notifications.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notifications.outbox.retry-base-delay-seconds:30}")
+    private long retryBaseDelaySeconds;
+
+    @Value("${notifications.outbox.stale-processing-minutes:10}")
+    private long staleProcessingMinutes;
+
+    public TicketNotificationDispatcher(TicketNotificationOutboxRepository outboxRepository,
+                                        TicketNotificationService ticketNotificationService,
+                                        @Value("${notifications.outbox.worker-threads:4}") int workerThreads,
+                                        @Value("${notifications.outbox.queue-capacity:100}") int queueCapacity) {
+        this.outboxRepository = outboxRepository;
+        this.ticketNotificationService = ticketNotificationService;
+        this.queueCapacity = queueCapacity;
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ticket-notification-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.outbox.poll-interval-ms:2000}")
+    public void dispatchPendingNotifications() {
+        // Only pull as many entries as the pool can take right now; the rest stay PENDING in the table
+        int freeSlots = queueCapacity - executor.getQueue().size();
+        if (freeSlots <= 0) {
+            log.debug("Notification worker queue is full, skipping this poll");
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TicketNotificationOutbox> due = outboxRepository.findDue(OutboxStatus.PENDING, now,
+                PageRequest.of(0, freeSlots));
+
+        for (TicketNotificationOutbox notification : due) {
+            if (outboxRepository.claim(notification.getId(), OutboxStatus.PENDING, OutboxStatus.PROCESSING, now) == 0) {
+                continue; // Claimed by another node
+            }
+
+            inFlight.add(notification.getId());
+            try {
+                executor.execute(() -> deliver(notification));
+            } catch (RejectedExecutionException e) {
+                log.warn("Notification worker queue rejected entry {}, returning it to the outbox", notification.getId());
+                inFlight.remove(notification.getId());
+                notification.setStatus(OutboxStatus.PENDING);
+                outboxRepository.save(notification);
+                break;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.outbox.recovery-interval-ms:60000}")
+    public void releaseStaleNotifications() {
+        // Renew this node's claims first; only entries nobody has touched for staleProcessingMinutes are released
+        if (!inFlight.isEmpty()) {
+            outboxRepository.renewClaims(List.copyOf(inFlight), OutboxStatus.PROCESSING, LocalDateTime.now());
+        }
+
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(staleProcessingMinutes);
+        int released = outboxRepository.releaseStale(OutboxStatus.PROCESSING, OutboxStatus.PENDING, staleBefore);
+        if (released > 0) {
+            log.warn("Returned {} stale notification(s) to the outbox", released);
+        }
+    }
+
+    private void deliver(TicketNotificationOutbox notification) {
+        notification.setAttempts(notification.getAttempts() + 1);
+        try {
+            ticketNotificationService.deliver(notification);
+
+            notification.setStatus(OutboxStatus.SENT);
+            notification.setProcessedAt(LocalDateTime.now());
+            notification.setLastError(null);
+            log.info("Delivered {} notification {} for ticket ID: {}",
+                    notification.getNotificationType(), notification.getId(), notification.getTicketId());
+        } catch (Exception e) {
+            notification.setLastError(truncate(e.getMessage()));
+
+            if (notification.getAttempts() >= maxAttempts) {
+                notification.setStatus(OutboxStatus.FAILED);
+                notification.setProcessedAt(LocalDateTime.now());
+                log.error("Giving up on {} notification {} for ticket ID: {} after {} attempts",
+                        notification.getNotificationType(), notification.getId(), notification.getTicketId(),
+                        notification.getAttempts(), e);
+            } else {
+                // Exponential backoff: base, 2x base, 4x base, ...
+                long delaySeconds = retryBaseDelaySeconds * (1L << (notification.getAttempts() - 1));
+                notification.setStatus(OutboxStatus.PENDING);
+                notification.setNextAttemptAt(LocalDateTime.now().plusSeconds(delaySeconds));
+                log.warn("Failed to deliver {} notification {} for ticket ID: {} (attempt {}), retrying in {}s: {}",
+                        notification.getNotificationType(), notification.getId(), notification.getTicketId(),
+                        notification.getAttempts(), delaySeconds, e.getMessage());
+            }
+        }
+
+        try {
+            outboxRepository.save(notification);
+        } catch (Exception e) {
+            // The entry stays PROCESSING and is picked up again by releaseStaleNotifications
+            log.error("Failed to record outcome of notification {}", notification.getId(), e);
+        } finally {
+            inFlight.remove(notification.getId());
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.celebritysystems.scheduler;
+
+import com.celebritysystems.service.TicketStatusCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketStatusCounterReconciler {
+
+    private final TicketStatusCounterService ticketStatusCounterService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    /**
+     * Rebuilds the in-memory status counters from the ticket table, correcting any drift
+     * and dropping days that have left the 30-day window.
+     */
+    @Scheduled(fixedDelayString = "${tickets.status-counters.reconcile-interval-ms:300000}",
+            initialDelayString = "${tickets.status-counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            ticketStatusCounterService.reconcile();
+        } catch (Exception e) {
+            log.error("Failed to reconcile ticket status counters: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.celebritysystems.service;
+
+import com.celebritysystems.entity.WorkerReport;
+
+public interface ComponentFailureRollupService {
+
+    void recordAdded(WorkerReport report);
+
+    void recordRemoved(WorkerReport report);
+
+    void rebuild();
+
+    void rebuildIfEmpty();
+}
@@ -0,0 +1,18 @@
+package com.celebritysystems.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+public interface ImageProcessingService {
+
+    /**
+     * Produce a compressed main image and a small thumbnail from an uploaded image.
+     * Files that are not decodable images are returned unchanged with no thumbnail.
+     *
+     * @param image The uploaded file
+     * @return The image to store and its thumbnail (null when none could be produced)
+     */
+    ProcessedImage process(MultipartFile image);
+
+    record ProcessedImage(MultipartFile image, MultipartFile thumbnail) {
+    }
+}
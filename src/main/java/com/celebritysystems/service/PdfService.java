@@ -4,6 +4,9 @@ import com.celebritysystems.dto.WorkerReportResponseDTO;
 import com.celebritysystems.dto.TicketResponseDTO;
 import org.springframework.core.io.Resource;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 public interface PdfService {
     
     /**
@@ -24,4 +27,18 @@ public interface PdfService {
      * @return Resource containing the generated PDF
      */
     Resource generateWorkerReportPdf(WorkerReportResponseDTO workerReport, TicketResponseDTO ticket, String fileName);
-}
\ No newline at end of file
+
+    /**
+     * Render a worker report PDF on the bounded PDF rendering pool. Results are cached per ticket and
+     * worker report version, so re-sends and downloads of an unchanged report reuse the same bytes.
+     *
+     * @param workerReport The worker report data
+     * @param ticket The ticket data associated with the report
+     * @param fileName The desired filename for the PDF
+     * @return Future completing with the PDF, or exceptionally with RejectedExecutionException when the queue is full
+     */
+    CompletableFuture<Resource> renderWorkerReportPdf(WorkerReportResponseDTO workerReport, TicketResponseDTO ticket,
+                                                      String fileName);
+
+    Map<String, Long> getRenderStats();
+}
@@ -0,0 +1,32 @@
+package com.celebritysystems.service;
+
+import com.celebritysystems.dto.Reports.ReportJobDTO;
+import com.celebritysystems.dto.Reports.ReportJobResultDTO;
+import com.celebritysystems.dto.Reports.ReportingRequestDTO;
+
+public interface ReportJobService {
+
+    /**
+     * Queue a report for background generation
+     */
+    ReportJobDTO submit(ReportingRequestDTO request, Long userId);
+
+    ReportJobDTO getJob(String jobId, Long userId);
+
+    /**
+     * Get a page of a finished job's result, or the whole result when page and size are null
+     */
+    ReportJobResultDTO getResult(String jobId, Long userId, Integer page, Integer size);
+
+    /**
+     * Same as {@link #getResult} serialized as gzip-compressed JSON
+     */
+    byte[] getCompressedResult(String jobId, Long userId, Integer page, Integer size);
+
+    void cleanUp();
+
+    /**
+     * Mark the jobs this instance has queued or running as still alive
+     */
+    void renewHeartbeats();
+}
@@ -65,4 +65,9 @@ public interface ReportingService {
             LocalDate endDate,
             List<String> components
     );
+
+    /**
+     * Drop cached report results that include the given screen and day, after a worker report write
+     */
+    void invalidateCachedReports(Long screenId, LocalDate day);
 }
\ No newline at end of file
@@ -1,13 +1,36 @@
 package com.celebritysystems.service;
 
+import com.celebritysystems.dto.ConfirmDirectUploadDTO;
+import com.celebritysystems.dto.DirectUploadDTO;
+import com.celebritysystems.dto.FileDownloadDTO;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface S3Service {
     String uploadFile(MultipartFile file, String keyPrefix);
+    Map<String, String> uploadFiles(Map<String, MultipartFile> filesByKeyPrefix);
     void deleteFile(String fileUrl);
+    void enqueueDeletion(Collection<String> fileUrls);
+    int sweepDeletionQueue();
+    int reclaimStalePendingObjects();
     String generateFileKey(String keyPrefix, String originalFilename);
     Resource downloadFile(String fileUrl);
-    byte[] getFileAsBytes(String fileUrl);
+    FileDownloadDTO openDownload(String fileUrl, String fileName, String range, String ifNoneMatch, String ifRange);
     String generatePresignedUrl(String fileUrl, int expirationMinutes);
+    Map<String, Long> getPresignedUrlCacheStats();
+    DirectUploadDTO createDirectUpload(String keyPrefix, Long targetId, String fileName, String contentType, long fileSize);
+    List<DirectUploadDTO.Part> presignUploadParts(String fileKey, String uploadId, List<Integer> partNumbers);
+    List<DirectUploadDTO.Part> listUploadedParts(String fileKey, String uploadId);
+    String completeDirectUpload(String keyPrefix, Long targetId, ConfirmDirectUploadDTO confirmDTO);
+    void abortDirectUpload(String fileKey, String uploadId);
+    int expireDirectUploads();
+    boolean refreshBucketAvailability();
+    boolean isBucketAvailable();
+    LocalDateTime getBucketLastCheckedAt();
+    String getBucketName();
 }
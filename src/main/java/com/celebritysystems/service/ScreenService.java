@@ -32,4 +32,8 @@ public interface ScreenService {
     Long getScreensCount();
 
     Screen patchScreenResolution(Long screenId, PatchScreenResolutionDTO patchScreenResolutionDTO);
+
+    DirectUploadDTO createScreenFileUpload(Long screenId, String fileType, DirectUploadRequestDTO uploadRequest);
+
+    ScreenResponse confirmScreenFileUpload(Long screenId, String fileType, ConfirmDirectUploadDTO confirmDTO);
 }
@@ -2,10 +2,15 @@ package com.celebritysystems.service;
 
 import com.celebritysystems.dto.TicketAttachmentDTO;
 import com.celebritysystems.dto.CreateTicketAttachmentDTO;
+import com.celebritysystems.dto.ConfirmAttachmentUploadDTO;
+import com.celebritysystems.dto.DirectUploadDTO;
+import com.celebritysystems.dto.DirectUploadRequestDTO;
 
 
 public interface TicketAttachmentService {
     TicketAttachmentDTO getAttachmentById(Long id);
     TicketAttachmentDTO addAttachment(CreateTicketAttachmentDTO attachmentDTO);
     void deleteAttachment(Long id);
+    DirectUploadDTO createAttachmentUpload(Long ticketId, DirectUploadRequestDTO uploadRequest);
+    TicketAttachmentDTO confirmAttachmentUpload(ConfirmAttachmentUploadDTO confirmDTO);
 }
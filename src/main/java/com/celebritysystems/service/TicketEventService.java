@@ -0,0 +1,18 @@
+package com.celebritysystems.service;
+
+import com.celebritysystems.dto.TicketEventDTO;
+import com.celebritysystems.entity.Ticket;
+import com.celebritysystems.entity.User;
+import com.celebritysystems.entity.enums.TicketStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+public interface TicketEventService {
+
+    SseEmitter subscribe(Long userId, Set<String> roles);
+
+    void publish(TicketEventDTO.EventType eventType, Ticket ticket, TicketStatus previousStatus, User previousWorker);
+
+    void sendHeartbeat();
+}
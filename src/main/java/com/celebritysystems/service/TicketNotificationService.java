@@ -0,0 +1,12 @@
+package com.celebritysystems.service;
+
+import com.celebritysystems.entity.TicketNotificationOutbox;
+
+public interface TicketNotificationService {
+
+    /**
+     * Deliver a queued ticket notification (push and email).
+     * Throws when a provider call fails so the dispatcher can retry the entry.
+     */
+    void deliver(TicketNotificationOutbox notification);
+}
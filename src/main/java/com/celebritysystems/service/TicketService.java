@@ -1,22 +1,37 @@
 package com.celebritysystems.service;
 
+import com.celebritysystems.dto.BulkPatchTicketDTO;
+import com.celebritysystems.dto.ConfirmDirectUploadDTO;
 import com.celebritysystems.dto.TicketDTO;
 import com.celebritysystems.dto.CreateTicketDTO;
+import com.celebritysystems.dto.CursorPageResponse;
+import com.celebritysystems.dto.DirectUploadDTO;
+import com.celebritysystems.dto.DirectUploadRequestDTO;
+import com.celebritysystems.dto.FileDownloadDTO;
 import com.celebritysystems.dto.PatchTicketDTO;
+import com.celebritysystems.dto.TicketExportDTO;
 import com.celebritysystems.dto.TicketAnalyticsDTO;
 import com.celebritysystems.dto.TicketAnalyticsSummaryDTO;
 import com.celebritysystems.dto.TicketResponseDTO;
 import com.celebritysystems.dto.WorkerReportResponseDTO;
 
+import com.celebritysystems.entity.enums.TicketStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 public interface TicketService {
     List<TicketResponseDTO> getAllTickets();
 
+    long exportTickets(TicketExportDTO.Format format, TicketStatus status, Long companyId,
+                       LocalDate startDate, LocalDate endDate, OutputStream outputStream) throws IOException;
+
     TicketResponseDTO getTicketById(Long id);
 
     TicketDTO createTicket(CreateTicketDTO ticketDTO);
@@ -31,6 +46,12 @@ public interface TicketService {
 
 Page<TicketResponseDTO> getAllTicketsPaginated(int page, int size, String status, Long companyId, 
                                               Long screenId, Long assignedToWorkerId, String serviceType, Boolean pending);
+
+    CursorPageResponse<TicketResponseDTO> searchTickets(String query, String status, Long companyId, Long screenId,
+                                                        String cursor, int size);
+
+    CursorPageResponse<TicketResponseDTO> getTicketsByCursor(String cursor, int size, String status, Long companyId,
+                                                             Long screenId, Long assignedToWorkerId, String serviceType, Boolean pending);
     long countTicketsCompletedByWorker(String username);
 
     Long getTicketsCount();
@@ -41,10 +62,19 @@ Page<TicketResponseDTO> getAllTicketsPaginated(int page, int size, String status
 
     TicketDTO patchTicket(Long id,PatchTicketDTO patchTicketDTO);
 
+    List<TicketDTO> bulkPatchTickets(BulkPatchTicketDTO bulkPatchDTO);
+
+    DirectUploadDTO createTicketImageUpload(Long ticketId, DirectUploadRequestDTO uploadRequest);
+
+    TicketDTO confirmTicketImageUpload(Long ticketId, ConfirmDirectUploadDTO confirmDTO);
+
+    FileDownloadDTO openTicketImageDownload(Long ticketId, String range, String ifNoneMatch, String ifRange);
+
     List<TicketResponseDTO> getTicketsByCompanyId(Long companyId);
-     List<TicketAnalyticsDTO> getTicketAnalytics(List<Long> screenIds, 
+     Page<TicketAnalyticsDTO> getTicketAnalytics(List<Long> screenIds, 
                                                LocalDate startDate, 
-                                               LocalDate endDate);
+                                               LocalDate endDate,
+                                               Pageable pageable);
     
     List<TicketResponseDTO> getTicketsWithWorkerReportsByScreenId(Long screenId);
 
@@ -0,0 +1,19 @@
+package com.celebritysystems.service;
+
+import com.celebritysystems.entity.Ticket;
+import com.celebritysystems.entity.enums.TicketStatus;
+
+import java.util.Map;
+
+public interface TicketStatusCounterService {
+
+    void recordCreated(Ticket ticket);
+
+    void recordStatusChange(Ticket ticket, TicketStatus previousStatus);
+
+    void recordDeleted(Ticket ticket);
+
+    Map<String, Long> getRecentStatusCounts();
+
+    void reconcile();
+}
@@ -4,9 +4,13 @@ import com.celebritysystems.dto.PatchWorkerReportDTO;
 import com.celebritysystems.dto.WorkerReportDTO;
 import com.celebritysystems.dto.WorkerReportResponseDTO;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface WorkerReportService {
     WorkerReportResponseDTO createWorkerReport(Long ticketId, WorkerReportDTO workerReportDTO, WorkerReportDTO.ChecklistData checklistData);
     WorkerReportResponseDTO getWorkerReportByTicketId(Long ticketId);
+    Map<Long, WorkerReportResponseDTO> getWorkerReportsByTicketIds(Collection<Long> ticketIds);
     WorkerReportResponseDTO updateWorkerReport(Long ticketId, WorkerReportDTO workerReportDTO);
     void deleteWorkerReport(Long ticketId);
     WorkerReportResponseDTO patchWorkerReport(Long ticketId, PatchWorkerReportDTO patchWorkerReportDTO);
@@ -0,0 +1,142 @@
+package com.celebritysystems.service.impl;
+
+import com.celebritysystems.dto.Reports.WorkerReportChecklistRow;
+import com.celebritysystems.entity.ComponentFailureRollup;
+import com.celebritysystems.entity.WorkerReport;
+import com.celebritysystems.entity.enums.ChecklistComponent;
+import com.celebritysystems.repository.ComponentFailureRollupRepository;
+import com.celebritysystems.repository.WorkerReportRepository;
+import com.celebritysystems.service.ComponentFailureRollupService;
+import com.celebritysystems.service.ReportingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the component_failure_rollup table in step with worker reports. Write paths call
+ * {@link #recordAdded} / {@link #recordRemoved} inside their own transaction, so the counts commit or roll back
+ * with the report; {@link #rebuild()} recomputes the whole table from worker_report.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ComponentFailureRollupServiceImpl implements ComponentFailureRollupService {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final ComponentFailureRollupRepository componentFailureRollupRepository;
+    private final WorkerReportRepository workerReportRepository;
+    private final ReportingService reportingService;
+
+    @Override
+    public void recordAdded(WorkerReport report) {
+        adjust(report, 1);
+    }
+
+    @Override
+    public void recordRemoved(WorkerReport report) {
+        if (adjust(report, -1)) {
+            componentFailureRollupRepository.deleteEmpty(report.getReportDate().toLocalDate(),
+                    report.getTicket().getScreen().getId());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void rebuild() {
+        Map<RollupKey, long[]> counts = new HashMap<>();
+        ChecklistComponent[] components = ChecklistComponent.values();
+
+        long afterId = 0;
+        List<WorkerReportChecklistRow> rows;
+        do {
+            rows = workerReportRepository.findChecklistRowsAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (WorkerReportChecklistRow row : rows) {
+                afterId = row.getReportId();
+                LocalDate day = row.getReportDate().toLocalDate();
+
+                for (ChecklistComponent component : components) {
+                    String value = row.getChecklistValue(component);
+                    if (ChecklistComponent.isChange(value)) {
+                        counts.computeIfAbsent(new RollupKey(day, row.getScreenId(), component.name(),
+                                toStoredValue(value)), key -> new long[1])[0]++;
+                    }
+                }
+            }
+        } while (rows.size() == REBUILD_PAGE_SIZE);
+
+        componentFailureRollupRepository.deleteAllInBatch();
+        componentFailureRollupRepository.saveAll(counts.entrySet().stream()
+                .map(entry -> ComponentFailureRollup.builder()
+                        .day(entry.getKey().day())
+                        .screenId(entry.getKey().screenId())
+                        .component(entry.getKey().component())
+                        .checklistValue(entry.getKey().checklistValue())
+                        .changeCount(entry.getValue()[0])
+                        .build())
+                .toList());
+
+        log.info("Rebuilt component failure rollup with {} rows", counts.size());
+    }
+
+    @Override
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (componentFailureRollupRepository.count() == 0 && workerReportRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Applies the report's changes to the rollup. Returns false when the report is not counted
+     * (no report date or no screen), as the reporting queries never include it.
+     */
+    private boolean adjust(WorkerReport report, long delta) {
+        if (report.getReportDate() == null || report.getTicket() == null || report.getTicket().getScreen() == null) {
+            return false;
+        }
+
+        LocalDate day = report.getReportDate().toLocalDate();
+        Long screenId = report.getTicket().getScreen().getId();
+        for (ChecklistComponent component : ChecklistComponent.values()) {
+            String value = component.read(report);
+            if (ChecklistComponent.isChange(value)) {
+                componentFailureRollupRepository.adjust(day, screenId, component.name(), toStoredValue(value), delta);
+            }
+        }
+
+        // Every report change that can alter a reporting result passes through here
+        afterCommit(() -> reportingService.invalidateCachedReports(screenId, day));
+        return true;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private String toStoredValue(String value) {
+        return value != null ? value : "";
+    }
+
+    private record RollupKey(LocalDate day, Long screenId, String component, String checklistValue) {
+    }
+}
@@ -5,15 +5,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
 import jakarta.mail.internet.MimeMessage;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -139,7 +144,7 @@ public class EmailServiceImpl implements EmailService {
         }
         
         int successCount = 0;
-        int failureCount = 0;
+        Map<String, Exception> failures = new LinkedHashMap<>();
         
         for (String email : toEmails) {
             try {
@@ -147,12 +152,13 @@ public class EmailServiceImpl implements EmailService {
                 successCount++;
             } catch (Exception e) {
                 log.error("Failed to send email with attachment to {}: {}", email, e.getMessage());
-                failureCount++;
+                failures.put(email, e);
             }
         }
         
         log.info("✅ Bulk emails with attachment sent: {} success, {} failures out of {} total", 
-                successCount, failureCount, toEmails.size());
+                successCount, failures.size(), toEmails.size());
+        throwIfAnyFailed("emails with attachment", failures, toEmails.size());
     }
     
     @Override
@@ -193,35 +199,76 @@ public class EmailServiceImpl implements EmailService {
             return;
         }
         
+        String subject = "Ticket Status Update - " + ticketTitle;
+        String emailBody;
         try {
-            String subject = "Ticket Status Update - " + ticketTitle;
-            
-            String emailBody = buildTicketStatusUpdateText(ticketTitle, previousStatus, 
-                                                         newStatus, ticketData);
-            
-            log.info("Built email body for status update (length: {} chars)", emailBody.length());
-            
-            int successCount = 0;
-            int failureCount = 0;
-            
-            for (String email : toEmails) {
-                try {
-                    log.info("Sending status update email to: {}", email);
-                    sendSimpleEmail(email, subject, emailBody);
-                    successCount++;
-                } catch (Exception e) {
-                    log.error("Failed to send status update email to {}: {}", email, e.getMessage());
-                    failureCount++;
-                }
-            }
-            
-            log.info("✅ Status update emails sent: {} success, {} failures out of {} total", 
-                    successCount, failureCount, toEmails.size());
-            
+            emailBody = buildTicketStatusUpdateText(ticketTitle, previousStatus, 
+                                                  newStatus, ticketData);
         } catch (Exception e) {
             log.error("❌ Failed to send ticket status update emails: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to send ticket status update emails", e);
         }
+        
+        log.info("Built email body for status update (length: {} chars)", emailBody.length());
+        
+        int successCount = 0;
+        Map<String, Exception> failures = new LinkedHashMap<>();
+        
+        for (String email : toEmails) {
+            try {
+                log.info("Sending status update email to: {}", email);
+                sendSimpleEmail(email, subject, emailBody);
+                successCount++;
+            } catch (Exception e) {
+                log.error("Failed to send status update email to {}: {}", email, e.getMessage());
+                failures.put(email, e);
+            }
+        }
+        
+        log.info("✅ Status update emails sent: {} success, {} failures out of {} total", 
+                successCount, failures.size(), toEmails.size());
+        throwIfAnyFailed("ticket status update emails", failures, toEmails.size());
+    }
+    
+    /**
+     * Every recipient is attempted before failing. Addresses the mail server rejected are only logged when other
+     * recipients got the message, since a retry would resend it to all of them and still fail for the bad ones;
+     * the send fails when nobody got it or when any failure may go away on retry, such as a connection error.
+     */
+    private void throwIfAnyFailed(String description, Map<String, Exception> failures, int total) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        
+        if (failures.size() < total && failures.values().stream().allMatch(this::isRecipientRejected)) {
+            log.warn("Skipping {} rejected recipient(s) of {}: {}", failures.size(), description, failures.keySet());
+            return;
+        }
+        
+        RuntimeException failure = null;
+        for (Exception e : failures.values()) {
+            if (failure == null) {
+                failure = new RuntimeException(String.format("Failed to send %s to %d of %d recipients: %s",
+                        description, failures.size(), total, failures.keySet()), e);
+            } else {
+                failure.addSuppressed(e);
+            }
+        }
+        throw failure;
+    }
+    
+    // A malformed address, or one the server refused with SendFailedException, fails the same way on every retry
+    private boolean isRecipientRejected(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AddressException || cause instanceof SendFailedException) {
+                return true;
+            }
+            if (cause instanceof MailSendException sendException && sendException.getMessageExceptions().length > 0) {
+                // Per-message failures are not chained as the cause
+                return Arrays.stream(sendException.getMessageExceptions()).allMatch(this::isRecipientRejected);
+            }
+        }
+        return false;
     }
     
     @Override
@@ -0,0 +1,331 @@
+package com.celebritysystems.service.impl;
+
+import com.celebritysystems.service.ImageProcessingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+
+@Slf4j
+@Service
+public class ImageProcessingServiceImpl implements ImageProcessingService {
+
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+
+    private final int mainMaxDimension;
+    private final float mainQuality;
+    private final int thumbnailMaxDimension;
+    private final float thumbnailQuality;
+    private final long maxPixels;
+
+    // A decoded 12 MP photo takes ~48 MB of heap, so only a few are processed at a time
+    private final Semaphore processingPermits;
+
+    public ImageProcessingServiceImpl(@Value("${images.main.max-dimension:1920}") int mainMaxDimension,
+                                      @Value("${images.main.quality:0.82}") float mainQuality,
+                                      @Value("${images.thumbnail.max-dimension:320}") int thumbnailMaxDimension,
+                                      @Value("${images.thumbnail.quality:0.7}") float thumbnailQuality,
+                                      @Value("${images.processing.max-pixels:50000000}") long maxPixels,
+                                      @Value("${images.processing.max-concurrent:2}") int maxConcurrent) {
+        this.mainMaxDimension = mainMaxDimension;
+        this.mainQuality = mainQuality;
+        this.thumbnailMaxDimension = thumbnailMaxDimension;
+        this.thumbnailQuality = thumbnailQuality;
+        this.maxPixels = maxPixels;
+        this.processingPermits = new Semaphore(maxConcurrent);
+    }
+
+    @Override
+    public ProcessedImage process(MultipartFile image) {
+        if (image == null || image.isEmpty()
+                || image.getContentType() == null || !image.getContentType().startsWith("image/")) {
+            return new ProcessedImage(image, null);
+        }
+
+        try {
+            processingPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ProcessedImage(image, null);
+        }
+
+        try {
+            BufferedImage decoded = decode(image);
+            if (decoded == null) {
+                log.info("Not processing {}: unsupported or too large image", image.getOriginalFilename());
+                return new ProcessedImage(image, null);
+            }
+
+            int orientation = JPEG_CONTENT_TYPE.equals(image.getContentType()) ? readExifOrientation(image) : 1;
+            BufferedImage main = orient(scale(decoded, mainMaxDimension), orientation);
+            BufferedImage thumbnail = scale(main, thumbnailMaxDimension);
+
+            String baseName = baseName(image.getOriginalFilename());
+            MultipartFile thumbnailFile = new ProcessedImageFile(image.getName(), "thumb-" + baseName + ".jpg",
+                    encodeJpeg(thumbnail, thumbnailQuality));
+
+            // A JPEG that already fits and needs no rotation is kept as uploaded
+            boolean keepOriginal = JPEG_CONTENT_TYPE.equals(image.getContentType()) && orientation == 1
+                    && Math.max(decoded.getWidth(), decoded.getHeight()) <= mainMaxDimension;
+            MultipartFile mainFile = keepOriginal ? image
+                    : new ProcessedImageFile(image.getName(), baseName + ".jpg", encodeJpeg(main, mainQuality));
+
+            log.info("Processed image {}: {} -> {} bytes, thumbnail {} bytes", image.getOriginalFilename(),
+                    image.getSize(), mainFile.getSize(), thumbnailFile.getSize());
+            return new ProcessedImage(mainFile, thumbnailFile);
+
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to process image {}, storing it unchanged: {}", image.getOriginalFilename(), e.getMessage());
+            return new ProcessedImage(image, null);
+        } finally {
+            processingPermits.release();
+        }
+    }
+
+    /**
+     * Decodes the image, subsampling very large ones while reading so the full-resolution
+     * raster never has to fit in memory. Returns null for unsupported formats and oversized images.
+     */
+    private BufferedImage decode(MultipartFile image) throws IOException {
+        try (InputStream inputStream = image.getInputStream();
+             ImageInputStream imageInput = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInput == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    return null;
+                }
+
+                // Keep at least twice the target size so the smooth downscale below still has detail to work with
+                int subsampling = Math.max(1, Math.max(width, height) / (2 * mainMaxDimension));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage source, int maxDimension) {
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        // Halve step by step first; a single bilinear pass over a large reduction aliases badly
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    // Always produces an opaque RGB image (transparent areas become white) so it can be written as JPEG
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // Phone cameras store rotation as EXIF orientation; re-encoding drops the tag, so apply it to the pixels
+    private BufferedImage orient(BufferedImage source, int orientation) {
+        int quarterTurns = switch (orientation) {
+            case 6 -> 1;
+            case 3 -> 2;
+            case 8 -> 3;
+            default -> 0;
+        };
+        if (quarterTurns == 0) {
+            return source;
+        }
+
+        int width = source.getWidth();
+        int height = source.getHeight();
+        boolean swap = quarterTurns % 2 == 1;
+        BufferedImage target = new BufferedImage(swap ? height : width, swap ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.translate(target.getWidth() / 2.0, target.getHeight() / 2.0);
+            graphics.rotate(Math.PI / 2 * quarterTurns);
+            graphics.translate(-width / 2.0, -height / 2.0);
+            graphics.drawImage(source, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Reads the EXIF orientation tag (1-8) from a JPEG's APP1 segment, or 1 when there is none.
+     */
+    private int readExifOrientation(MultipartFile image) {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(image.getInputStream()))) {
+            if (input.readUnsignedShort() != 0xFFD8) {
+                return 1;
+            }
+            while (true) {
+                int marker = input.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA) {
+                    return 1; // Start of scan: no metadata segments follow
+                }
+                int length = input.readUnsignedShort() - 2;
+                if (marker == 0xFFE1 && length > 14) {
+                    byte[] segment = new byte[length];
+                    input.readFully(segment);
+                    if (segment[0] == 'E' && segment[1] == 'x' && segment[2] == 'i' && segment[3] == 'f') {
+                        return readOrientationTag(segment, 6);
+                    }
+                } else {
+                    input.skipNBytes(length);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            return 1;
+        }
+    }
+
+    private int readOrientationTag(byte[] segment, int tiffStart) {
+        boolean littleEndian = segment[tiffStart] == 'I';
+        int ifdStart = tiffStart + readInt(segment, tiffStart + 4, littleEndian);
+        int entryCount = readShort(segment, ifdStart, littleEndian);
+        for (int i = 0; i < entryCount; i++) {
+            int entry = ifdStart + 2 + i * 12;
+            if (readShort(segment, entry, littleEndian) == 0x0112) {
+                return readShort(segment, entry + 8, littleEndian);
+            }
+        }
+        return 1;
+    }
+
+    private int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int first = bytes[offset] & 0xFF;
+        int second = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (second << 8) | first : (first << 8) | second;
+    }
+
+    private int readInt(byte[] bytes, int offset, boolean littleEndian) {
+        int high = readShort(bytes, offset + (littleEndian ? 2 : 0), littleEndian);
+        int low = readShort(bytes, offset + (littleEndian ? 0 : 2), littleEndian);
+        return (high << 16) | low;
+    }
+
+    private String baseName(String originalFilename) {
+        if (originalFilename == null || originalFilename.isBlank()) {
+            return "image";
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        return dot > 0 ? originalFilename.substring(0, dot) : originalFilename;
+    }
+
+    /**
+     * A processed image held in memory; downscaled output is small enough that this is cheaper than a temp file.
+     */
+    private static class ProcessedImageFile implements MultipartFile {
+        private final String name;
+        private final String originalFilename;
+        private final byte[] content;
+
+        ProcessedImageFile(String name, String originalFilename, byte[] content) {
+            this.name = name;
+            this.originalFilename = originalFilename;
+            this.content = content;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType() {
+            return JPEG_CONTENT_TYPE;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return content;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.write(dest.toPath(), content);
+        }
+    }
+}
@@ -7,7 +7,9 @@ import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
 import com.itextpdf.text.pdf.PdfWriter;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
@@ -15,7 +17,16 @@ import org.springframework.stereotype.Service;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -27,6 +38,42 @@ public class PdfServiceImpl implements PdfService {
     private static final Font NORMAL_FONT = new Font(Font.FontFamily.HELVETICA, 12, Font.NORMAL);
     private static final Font SMALL_FONT = new Font(Font.FontFamily.HELVETICA, 10, Font.NORMAL);
     
+    private final ThreadPoolExecutor renderExecutor;
+    private final int cacheMaxEntries;
+
+    // Rendered PDFs keyed by ticket id and worker report updatedAt; guarded by synchronized(renderedPdfCache)
+    private final Map<String, byte[]> renderedPdfCache;
+    private final Map<String, CompletableFuture<byte[]>> inFlightRenders = new ConcurrentHashMap<>();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong joinedInFlight = new AtomicLong();
+
+    public PdfServiceImpl(@Value("${pdf.render.threads:2}") int renderThreads,
+                          @Value("${pdf.render.queue-capacity:50}") int queueCapacity,
+                          @Value("${pdf.render.cache.max-entries:200}") int cacheMaxEntries) {
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.renderedPdfCache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > PdfServiceImpl.this.cacheMaxEntries;
+            }
+        };
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.renderExecutor = new ThreadPoolExecutor(renderThreads, renderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "pdf-render-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
     @Override
     public Resource generateWorkerReportPdf(WorkerReportResponseDTO workerReport, TicketResponseDTO ticket) {
         String fileName = String.format("worker_report_ticket_%d.pdf", ticket.getId());
@@ -36,7 +83,97 @@ public class PdfServiceImpl implements PdfService {
     @Override
     public Resource generateWorkerReportPdf(WorkerReportResponseDTO workerReport, TicketResponseDTO ticket, String fileName) {
         log.info("Generating PDF for worker report - Ticket ID: {}, Filename: {}", ticket.getId(), fileName);
-        
+        return toResource(renderPdf(workerReport, ticket), fileName);
+    }
+
+    @Override
+    public CompletableFuture<Resource> renderWorkerReportPdf(WorkerReportResponseDTO workerReport,
+            TicketResponseDTO ticket, String fileName) {
+        String cacheKey = workerReport.getUpdatedAt() != null
+                ? ticket.getId() + "|" + workerReport.getUpdatedAt()
+                : null;
+
+        if (cacheKey != null) {
+            byte[] cached;
+            synchronized (renderedPdfCache) {
+                cached = renderedPdfCache.get(cacheKey);
+            }
+            if (cached != null) {
+                cacheHits.incrementAndGet();
+                log.debug("Serving cached PDF for ticket ID: {}", ticket.getId());
+                return CompletableFuture.completedFuture(toResource(cached, fileName));
+            }
+        }
+        cacheMisses.incrementAndGet();
+
+        CompletableFuture<byte[]> render = new CompletableFuture<>();
+        if (cacheKey != null) {
+            // Concurrent requests for the same report share one render
+            CompletableFuture<byte[]> existing = inFlightRenders.putIfAbsent(cacheKey, render);
+            if (existing != null) {
+                joinedInFlight.incrementAndGet();
+                return existing.thenApply(bytes -> toResource(bytes, fileName));
+            }
+        }
+
+        try {
+            renderExecutor.execute(() -> {
+                try {
+                    byte[] pdfBytes = renderPdf(workerReport, ticket);
+                    if (cacheKey != null) {
+                        synchronized (renderedPdfCache) {
+                            renderedPdfCache.put(cacheKey, pdfBytes);
+                        }
+                    }
+                    completed.incrementAndGet();
+                    render.complete(pdfBytes);
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    render.completeExceptionally(e);
+                } finally {
+                    if (cacheKey != null) {
+                        inFlightRenders.remove(cacheKey, render);
+                    }
+                }
+            });
+            submitted.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            log.warn("PDF render queue is full ({} queued), rejecting render for ticket ID: {}",
+                    renderExecutor.getQueue().size(), ticket.getId());
+            if (cacheKey != null) {
+                inFlightRenders.remove(cacheKey, render);
+            }
+            render.completeExceptionally(e);
+        }
+
+        return render.thenApply(bytes -> toResource(bytes, fileName));
+    }
+
+    @Override
+    public Map<String, Long> getRenderStats() {
+        long cacheSize;
+        synchronized (renderedPdfCache) {
+            cacheSize = renderedPdfCache.size();
+        }
+
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("submitted", submitted.get());
+        stats.put("completed", completed.get());
+        stats.put("failed", failed.get());
+        stats.put("rejected", rejected.get());
+        stats.put("queued", (long) renderExecutor.getQueue().size());
+        stats.put("queueRemainingCapacity", (long) renderExecutor.getQueue().remainingCapacity());
+        stats.put("activeRenders", (long) renderExecutor.getActiveCount());
+        stats.put("inFlight", (long) inFlightRenders.size());
+        stats.put("joinedInFlight", joinedInFlight.get());
+        stats.put("cacheHits", cacheHits.get());
+        stats.put("cacheMisses", cacheMisses.get());
+        stats.put("cacheSize", cacheSize);
+        return stats;
+    }
+
+    private byte[] renderPdf(WorkerReportResponseDTO workerReport, TicketResponseDTO ticket) {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
             Document document = new Document(PageSize.A4);
             PdfWriter.getInstance(document, baos);
@@ -53,20 +190,36 @@ public class PdfServiceImpl implements PdfService {
             document.close();
             
             byte[] pdfBytes = baos.toByteArray();
-            log.info("PDF generated successfully - Size: {} bytes", pdfBytes.length);
-            
-            return new ByteArrayResource(pdfBytes) {
-                @Override
-                public String getFilename() {
-                    return fileName;
-                }
-            };
+            log.info("PDF generated successfully - Ticket ID: {}, Size: {} bytes", ticket.getId(), pdfBytes.length);
+            return pdfBytes;
             
         } catch (Exception e) {
             log.error("Failed to generate PDF for worker report - Ticket ID: {}", ticket.getId(), e);
             throw new RuntimeException("Failed to generate PDF report", e);
         }
     }
+
+    private Resource toResource(byte[] pdfBytes, String fileName) {
+        return new ByteArrayResource(pdfBytes) {
+            @Override
+            public String getFilename() {
+                return fileName;
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdown();
+        try {
+            if (!renderExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                renderExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            renderExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
     
     private void addTitle(Document document, TicketResponseDTO ticket) throws DocumentException {
         Paragraph title = new Paragraph("WORKER REPORT", TITLE_FONT);
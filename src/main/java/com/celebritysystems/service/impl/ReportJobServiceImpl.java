@@ -0,0 +1,431 @@
+package com.celebritysystems.service.impl;
+
+import com.celebritysystems.dto.Reports.ComponentChangesSummaryDTO;
+import com.celebritysystems.dto.Reports.DetailedChangeRecordDTO;
+import com.celebritysystems.dto.Reports.ReportJobDTO;
+import com.celebritysystems.dto.Reports.ReportJobResultDTO;
+import com.celebritysystems.dto.Reports.ReportingRequestDTO;
+import com.celebritysystems.dto.Reports.ReportingResponseDTO;
+import com.celebritysystems.entity.ReportJob;
+import com.celebritysystems.entity.ReportJobResult;
+import com.celebritysystems.entity.ReportJobResultChunk;
+import com.celebritysystems.entity.enums.ReportJobStatus;
+import com.celebritysystems.repository.ReportJobRepository;
+import com.celebritysystems.repository.ReportJobResultChunkRepository;
+import com.celebritysystems.repository.ReportJobResultRepository;
+import com.celebritysystems.service.ReportJobService;
+import com.celebritysystems.service.ReportingService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Runs reports on a bounded background pool so long DETAILED reports do not hold a request thread.
+ * Job state and results are stored in the database, so any instance can answer status and result requests.
+ */
+@Slf4j
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private static final List<ReportJobStatus> UNFINISHED_STATUSES =
+            List.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING);
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportJobResultRepository reportJobResultRepository;
+    private final ReportJobResultChunkRepository reportJobResultChunkRepository;
+    private final ReportingService reportingService;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    // Jobs this instance has queued or running; their heartbeat is renewed until they finish
+    private final Set<String> activeJobs = ConcurrentHashMap.newKeySet();
+
+    @Value("${reporting.jobs.max-per-user:2}")
+    private int maxJobsPerUser;
+
+    @Value("${reporting.jobs.default-page-size:500}")
+    private int defaultPageSize;
+
+    @Value("${reporting.jobs.max-page-size:5000}")
+    private int maxPageSize;
+
+    @Value("${reporting.jobs.result-chunk-size:500}")
+    private int resultChunkSize;
+
+    @Value("${reporting.jobs.stale-minutes:120}")
+    private long staleMinutes;
+
+    @Value("${reporting.jobs.orphan-minutes:5}")
+    private long orphanMinutes;
+
+    @Value("${reporting.jobs.retention-hours:24}")
+    private long retentionHours;
+
+    public ReportJobServiceImpl(ReportJobRepository reportJobRepository,
+                                ReportJobResultRepository reportJobResultRepository,
+                                ReportJobResultChunkRepository reportJobResultChunkRepository,
+                                ReportingService reportingService,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${reporting.jobs.threads:2}") int threads,
+                                @Value("${reporting.jobs.queue-capacity:20}") int queueCapacity) {
+        this.reportJobRepository = reportJobRepository;
+        this.reportJobResultRepository = reportJobResultRepository;
+        this.reportJobResultChunkRepository = reportJobResultChunkRepository;
+        this.reportingService = reportingService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "report-job-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public ReportJobDTO submit(ReportingRequestDTO request, Long userId) {
+        if (request.getReportType() == null || request.getStartDate() == null || request.getEndDate() == null) {
+            throw new IllegalArgumentException("Report type, start date and end date are required");
+        }
+        if (request.getStartDate().isAfter(request.getEndDate())) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+
+        if (countActiveJobs(userId) >= maxJobsPerUser) {
+            throw new IllegalStateException("At most " + maxJobsPerUser + " report jobs can run at once per user");
+        }
+
+        ReportJob job;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            job = reportJobRepository.save(ReportJob.builder()
+                    .id(UUID.randomUUID().toString())
+                    .requestedBy(userId)
+                    .status(ReportJobStatus.QUEUED)
+                    .reportType(request.getReportType())
+                    .requestJson(objectMapper.writeValueAsString(request))
+                    .createdAt(now)
+                    .heartbeatAt(now)
+                    .build());
+        } catch (JsonProcessingException | RuntimeException e) {
+            throw new RuntimeException("Failed to queue report job: " + e.getMessage(), e);
+        }
+
+        // Counted again with this job included: two submissions racing past the first check on different
+        // instances are both visible here, so the limit is never exceeded
+        if (countActiveJobs(userId) > maxJobsPerUser) {
+            reportJobRepository.delete(job);
+            throw new IllegalStateException("At most " + maxJobsPerUser + " report jobs can run at once per user");
+        }
+
+        activeJobs.add(job.getId());
+        try {
+            String jobId = job.getId();
+            executor.execute(() -> run(jobId, request));
+        } catch (RejectedExecutionException e) {
+            log.warn("Report job queue is full ({} queued), rejecting job {}", executor.getQueue().size(), job.getId());
+            activeJobs.remove(job.getId());
+            job.setStatus(ReportJobStatus.FAILED);
+            job.setLastError("Report job queue is full");
+            job.setCompletedAt(LocalDateTime.now());
+            reportJobRepository.save(job);
+            throw e;
+        }
+
+        log.info("Queued {} report job {} for user {}", request.getReportType(), job.getId(), userId);
+        return toDTO(job);
+    }
+
+    private long countActiveJobs(Long userId) {
+        return reportJobRepository.countActive(userId, UNFINISHED_STATUSES,
+                LocalDateTime.now().minusMinutes(orphanMinutes));
+    }
+
+    @Override
+    public ReportJobDTO getJob(String jobId, Long userId) {
+        return toDTO(findJob(jobId, userId));
+    }
+
+    @Override
+    public ReportJobResultDTO getResult(String jobId, Long userId, Integer page, Integer size) {
+        ReportJob job = findJob(jobId, userId);
+        if (job.getStatus() != ReportJobStatus.SUCCEEDED) {
+            throw new IllegalStateException("Report job " + jobId + " is " + job.getStatus());
+        }
+
+        ReportJobResult result = reportJobResultRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Result not found for report job: " + jobId));
+        ReportingResponseDTO report = readGzip(jobId, result.getContentGzip(),
+                objectMapper.constructType(ReportingResponseDTO.class));
+        int totalElements = job.getRecordCount() != null ? job.getRecordCount() : 0;
+
+        if (page == null && size == null) {
+            setPagedRecords(report, readRecords(jobId, report, result.getChunkSize(), 0, totalElements));
+            return ReportJobResultDTO.builder()
+                    .jobId(jobId)
+                    .page(0)
+                    .size(totalElements)
+                    .totalElements(totalElements)
+                    .totalPages(1)
+                    .report(report)
+                    .build();
+        }
+
+        int pageNumber = page != null ? Math.max(page, 0) : 0;
+        int pageSize = size != null ? Math.min(Math.max(size, 1), maxPageSize) : defaultPageSize;
+
+        int from = (int) Math.min((long) pageNumber * pageSize, totalElements);
+        int to = Math.min(from + pageSize, totalElements);
+        setPagedRecords(report, readRecords(jobId, report, result.getChunkSize(), from, to));
+
+        return ReportJobResultDTO.builder()
+                .jobId(jobId)
+                .page(pageNumber)
+                .size(pageSize)
+                .totalElements(totalElements)
+                .totalPages((totalElements + pageSize - 1) / pageSize)
+                .report(report)
+                .build();
+    }
+
+    @Override
+    public byte[] getCompressedResult(String jobId, Long userId, Integer page, Integer size) {
+        return gzip(getResult(jobId, userId, page, size));
+    }
+
+    @Override
+    @Transactional
+    public void cleanUp() {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = reportJobRepository.failStale(UNFINISHED_STATUSES, ReportJobStatus.FAILED,
+                "Report job did not finish in time", now.minusMinutes(staleMinutes), now.minusMinutes(orphanMinutes),
+                now);
+
+        LocalDateTime completedBefore = now.minusHours(retentionHours);
+        reportJobResultChunkRepository.deleteForJobsCompletedBefore(completedBefore);
+        reportJobResultRepository.deleteForJobsCompletedBefore(completedBefore);
+        int deleted = reportJobRepository.deleteCompletedBefore(completedBefore);
+
+        if (failed > 0 || deleted > 0) {
+            log.info("Report job cleanup: {} stale job(s) failed, {} expired job(s) deleted", failed, deleted);
+        }
+    }
+
+    @Override
+    public void renewHeartbeats() {
+        if (!activeJobs.isEmpty()) {
+            reportJobRepository.renewHeartbeats(List.copyOf(activeJobs), UNFINISHED_STATUSES, LocalDateTime.now());
+        }
+    }
+
+    private void run(String jobId, ReportingRequestDTO request) {
+        try {
+            // Every transition is a conditional update, so a job cleanUp failed as stale is never brought back
+            if (reportJobRepository.markRunning(jobId, ReportJobStatus.QUEUED, ReportJobStatus.RUNNING,
+                    LocalDateTime.now()) == 0) {
+                return; // Cleaned up or failed while queued
+            }
+
+            try {
+                ReportingResponseDTO report = reportingService.generateReport(request);
+                List<?> records = getPagedRecords(report);
+                setPagedRecords(report, null);
+                List<?> pagedRecords = records != null ? records : List.of();
+
+                // The result and the SUCCEEDED status commit together; a failed save leaves no orphaned chunks
+                boolean succeeded = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                    long resultSizeBytes = storeResult(jobId, report, pagedRecords);
+                    if (reportJobRepository.complete(jobId, ReportJobStatus.RUNNING, ReportJobStatus.SUCCEEDED,
+                            pagedRecords.size(), resultSizeBytes, null, LocalDateTime.now()) == 0) {
+                        status.setRollbackOnly();
+                        return false;
+                    }
+                    return true;
+                }));
+
+                if (succeeded) {
+                    log.info("Report job {} finished with {} record(s)", jobId, pagedRecords.size());
+                } else {
+                    log.warn("Report job {} was failed while running, discarding its result", jobId);
+                }
+            } catch (Exception e) {
+                log.error("Report job {} failed: {}", jobId, e.getMessage(), e);
+                reportJobRepository.complete(jobId, ReportJobStatus.RUNNING, ReportJobStatus.FAILED, null, null,
+                        truncate(e.getMessage()), LocalDateTime.now());
+            }
+        } catch (Exception e) {
+            // The job stays unfinished and is failed by cleanUp once its heartbeat stops
+            log.error("Failed to record outcome of report job {}", jobId, e);
+        } finally {
+            activeJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * Stores the report without its paged list, then the list in chunks of resultChunkSize records.
+     * Returns the uncompressed size of the stored JSON.
+     */
+    private long storeResult(String jobId, ReportingResponseDTO report, List<?> records) {
+        byte[] json = toJson(report);
+        long resultSizeBytes = json.length;
+
+        List<ReportJobResultChunk> chunks = new ArrayList<>();
+        for (int from = 0; from < records.size(); from += resultChunkSize) {
+            byte[] chunkJson = toJson(records.subList(from, Math.min(from + resultChunkSize, records.size())));
+            resultSizeBytes += chunkJson.length;
+            chunks.add(ReportJobResultChunk.builder()
+                    .jobId(jobId)
+                    .chunkIndex(from / resultChunkSize)
+                    .contentGzip(gzip(chunkJson))
+                    .build());
+        }
+
+        reportJobResultChunkRepository.saveAll(chunks);
+        reportJobResultRepository.save(ReportJobResult.builder()
+                .jobId(jobId)
+                .contentGzip(gzip(json))
+                .chunkSize(resultChunkSize)
+                .build());
+        return resultSizeBytes;
+    }
+
+    // Reads records [from, to) of the paged list, decompressing only the chunks that hold them
+    private List<?> readRecords(String jobId, ReportingResponseDTO report, int chunkSize, int from, int to) {
+        List<Object> records = new ArrayList<>(Math.max(to - from, 0));
+        if (from >= to) {
+            return records;
+        }
+
+        JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class,
+                isDetailed(report) ? DetailedChangeRecordDTO.class : ComponentChangesSummaryDTO.class);
+        List<ReportJobResultChunk> chunks = reportJobResultChunkRepository
+                .findByJobIdAndChunkIndexBetweenOrderByChunkIndexAsc(jobId, from / chunkSize, (to - 1) / chunkSize);
+        for (ReportJobResultChunk chunk : chunks) {
+            List<?> chunkRecords = readGzip(jobId, chunk.getContentGzip(), listType);
+            int chunkStart = chunk.getChunkIndex() * chunkSize;
+            int start = Math.max(from - chunkStart, 0);
+            int end = Math.min(to - chunkStart, chunkRecords.size());
+            records.addAll(chunkRecords.subList(start, end));
+        }
+        return records;
+    }
+
+    private <T> T readGzip(String jobId, byte[] contentGzip, JavaType type) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(contentGzip))) {
+            return objectMapper.readValue(in, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read result of report job " + jobId, e);
+        }
+    }
+
+    private boolean isDetailed(ReportingResponseDTO report) {
+        return report.getReportType() == ReportingRequestDTO.ReportType.DETAILED;
+    }
+
+    // The list a result is paged over: detailed records for DETAILED reports, component summaries otherwise
+    private List<?> getPagedRecords(ReportingResponseDTO report) {
+        return isDetailed(report) ? report.getDetailedRecords() : report.getComponentSummaries();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setPagedRecords(ReportingResponseDTO report, List<?> records) {
+        if (isDetailed(report)) {
+            report.setDetailedRecords((List<DetailedChangeRecordDTO>) records);
+        } else {
+            report.setComponentSummaries((List<ComponentChangesSummaryDTO>) records);
+        }
+    }
+
+    private ReportJob findJob(String jobId, Long userId) {
+        return reportJobRepository.findByIdAndRequestedBy(jobId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Report job not found: " + jobId));
+    }
+
+    private byte[] gzip(Object value) {
+        return gzip(toJson(value));
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(bytes.length / 4, 512));
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private ReportJobDTO toDTO(ReportJob job) {
+        return ReportJobDTO.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .reportType(job.getReportType())
+                .recordCount(job.getRecordCount())
+                .resultSizeBytes(job.getResultSizeBytes())
+                .error(job.getLastError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
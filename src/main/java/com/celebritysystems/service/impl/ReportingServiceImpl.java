@@ -1,16 +1,24 @@
 package com.celebritysystems.service.impl;
 
 import com.celebritysystems.dto.Reports.*;
-import com.celebritysystems.entity.WorkerReport;
+import com.celebritysystems.entity.enums.ChecklistComponent;
+import com.celebritysystems.repository.ComponentFailureRollupRepository;
 import com.celebritysystems.repository.WorkerReportRepository;
 import com.celebritysystems.service.ReportingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,24 +27,89 @@ import java.util.stream.Collectors;
 public class ReportingServiceImpl implements ReportingService {
 
     private final WorkerReportRepository workerReportRepository;
+    private final ComponentFailureRollupRepository componentFailureRollupRepository;
 
-    // Component name mappings for consistency - FIXED: Added all components
-    private static final Map<String, String> COMPONENT_FIELD_MAP = Map.ofEntries(
-            Map.entry("Data Cables (Cat6/RJ45)", "dataCables"),
-            Map.entry("Power Cable", "powerCable"),
-            Map.entry("Power Supplies", "powerSupplies"),
-            Map.entry("LED Modules", "ledModules"),
-            Map.entry("Cooling Systems", "coolingSystems"),
-            Map.entry("Service Lights & Sockets", "serviceLights"),
-            Map.entry("Operating Computers", "operatingComputers"),
-            Map.entry("Software", "software"),
-            Map.entry("Power DBs", "powerDBs"),
-            Map.entry("Media Converters", "mediaConverters"),
-            Map.entry("Control Systems", "controlSystems"),
-            Map.entry("Video Processors", "videoProcessors"));
+    @Value("${reporting.cache.max-entries:500}")
+    private int cacheMaxEntries;
+
+    @Value("${reporting.cache.ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    // Aggregated report results keyed by request; guarded by synchronized(reportCache), like cacheGeneration.
+    // Detailed records and screen histories grow with the number of reports, so they are never cached
+    private final Map<ReportKey, CachedReport> reportCache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ReportKey, CachedReport> eldest) {
+            return size() > cacheMaxEntries;
+        }
+    };
+    private final Map<ReportKey, CompletableFuture<Object>> inFlightReports = new ConcurrentHashMap<>();
+    private long cacheGeneration;
 
     @Override
     public ReportingResponseDTO generateReport(ReportingRequestDTO request) {
+        if (request.getReportType() == ReportingRequestDTO.ReportType.DETAILED) {
+            return computeReport(request);
+        }
+        return cached(ReportKey.of("generate:" + request.getReportType(), request.getScreenIds(),
+                        request.getStartDate(), request.getEndDate(), request.getComponents()),
+                () -> computeReport(request), this::copyReport);
+    }
+
+    @Override
+    public List<ComponentChangesSummaryDTO> getComponentChangesSummary(
+            List<Long> screenIds, LocalDate startDate, LocalDate endDate, List<String> components) {
+        return cached(ReportKey.of("summary", screenIds, startDate, endDate, components),
+                () -> computeComponentChangesSummary(screenIds, startDate, endDate, components), this::copySummaries);
+    }
+
+    @Override
+    public List<DetailedChangeRecordDTO> getDetailedChangeRecords(
+            List<Long> screenIds, LocalDate startDate, LocalDate endDate, List<String> components) {
+        return computeDetailedChangeRecords(screenIds, startDate, endDate, components);
+    }
+
+    @Override
+    public List<ScreenHistoryDTO> getScreenHistory(List<Long> screenIds, LocalDate startDate, LocalDate endDate) {
+        return computeScreenHistory(screenIds, startDate, endDate);
+    }
+
+    @Override
+    public ComponentChangesSummaryDTO getComponentSpecificReport(
+            String componentName, List<Long> screenIds, LocalDate startDate, LocalDate endDate) {
+        return cached(ReportKey.of("component", screenIds, startDate, endDate, Collections.singletonList(componentName)),
+                () -> computeComponentSpecificReport(componentName, screenIds, startDate, endDate), this::copySummary);
+    }
+
+    @Override
+    public Long getTotalChangeCount(List<Long> screenIds, LocalDate startDate, LocalDate endDate,
+            List<String> components) {
+        return cached(ReportKey.of("total", screenIds, startDate, endDate, components),
+                () -> computeTotalChangeCount(screenIds, startDate, endDate, components), total -> total);
+    }
+
+    @Override
+    public void invalidateCachedReports(Long screenId, LocalDate day) {
+        int evicted = 0;
+        synchronized (reportCache) {
+            // Results still being computed may have read the old data; they must not be cached
+            cacheGeneration++;
+            Iterator<ReportKey> keys = reportCache.keySet().iterator();
+            while (keys.hasNext()) {
+                if (keys.next().covers(screenId, day)) {
+                    keys.remove();
+                    evicted++;
+                }
+            }
+        }
+        inFlightReports.keySet().removeIf(key -> key.covers(screenId, day));
+
+        if (evicted > 0) {
+            log.debug("Evicted {} cached report(s) for screen {} on {}", evicted, screenId, day);
+        }
+    }
+
+    private ReportingResponseDTO computeReport(ReportingRequestDTO request) {
         log.info("Generating report for request: {}", request);
 
         LocalDate startDate = request.getStartDate();
@@ -68,8 +141,12 @@ public class ReportingServiceImpl implements ReportingService {
 
             case COMPONENT_SPECIFIC:
                 if (components != null && !components.isEmpty()) {
+                    // One fetch and aggregation pass covers every requested component
+                    Map<String, ComponentChangesSummaryDTO> summariesByComponent = getComponentChangesSummary(
+                            screenIds, startDate, endDate, components).stream()
+                            .collect(Collectors.toMap(ComponentChangesSummaryDTO::getComponentName, summary -> summary));
                     List<ComponentChangesSummaryDTO> componentSpecific = components.stream()
-                            .map(component -> getComponentSpecificReport(component, screenIds, startDate, endDate))
+                            .map(summariesByComponent::get)
                             .collect(Collectors.toList());
                     responseBuilder.componentSummaries(componentSpecific);
                 }
@@ -79,102 +156,98 @@ public class ReportingServiceImpl implements ReportingService {
         return responseBuilder.build();
     }
 
-    @Override
-    public List<ComponentChangesSummaryDTO> getComponentChangesSummary(
+    private List<ComponentChangesSummaryDTO> computeComponentChangesSummary(
             List<Long> screenIds, LocalDate startDate, LocalDate endDate, List<String> components) {
 
         log.info("Getting component changes summary for screens: {}, date range: {} to {}", screenIds, startDate, endDate);
 
-        List<WorkerReport> reports = getWorkerReports(screenIds, startDate, endDate);
-        List<String> targetComponents = components != null && !components.isEmpty()
-                ? components
-                : new ArrayList<>(COMPONENT_FIELD_MAP.keySet());
+        List<String> targetComponents = resolveTargetComponents(components);
 
-        Map<String, ComponentChangesSummaryDTO> summaryMap = new HashMap<>();
+        // Position of each checklist component among the requested names; unknown names stay at zero
+        int componentCount = targetComponents.size();
+        int[] targetIndex = new int[ChecklistComponent.values().length];
+        Arrays.fill(targetIndex, -1);
+        for (int c = 0; c < componentCount; c++) {
+            ChecklistComponent component = ChecklistComponent.fromDisplayName(targetComponents.get(c));
+            if (component != null) {
+                targetIndex[component.ordinal()] = c;
+            }
+        }
 
-        for (String componentName : targetComponents) {
-            ComponentChangesSummaryDTO summary = ComponentChangesSummaryDTO.builder()
-                    .componentName(componentName)
-                    .totalChanges(0L)
-                    .changesPerScreen(new HashMap<>())
-                    .changeTypeDistribution(new HashMap<>())
-                    .build();
-            summaryMap.put(componentName, summary);
+        long[] totals = new long[componentCount];
+        Map<Long, long[]> countsByScreen = new HashMap<>();
+        List<Map<String, long[]>> countsByValue = new ArrayList<>(componentCount);
+        for (int c = 0; c < componentCount; c++) {
+            countsByValue.add(new HashMap<>());
         }
 
-        reports.sort(Comparator.comparing(WorkerReport::getReportDate));
-
-        for (WorkerReport report : reports) {
-            // FIXED: Get the actual screen ID from the ticket's screen, not the ticket ID
-            Long screenId = report.getTicket().getScreen() != null ? 
-                           report.getTicket().getScreen().getId() : 
-                           null;
-            
-            // Skip if no screen is associated
-            if (screenId == null) {
-                log.warn("Worker report {} has no associated screen, skipping", report.getId());
+        // Rollup rows are already grouped by (screen, component, value), so this is independent of the report count
+        for (Object[] row : getRollupRows(screenIds, startDate, endDate)) {
+            Long screenId = (Long) row[0];
+            int c = targetIndex[ChecklistComponent.valueOf((String) row[1]).ordinal()];
+            long count = ((Number) row[3]).longValue();
+            if (c < 0 || count <= 0) {
                 continue;
             }
+            String checklistValue = (String) row[2];
 
-            for (String componentName : targetComponents) {
-                String currentValue = getComponentValue(report, componentName);
-
-                if (!"OK".equalsIgnoreCase(currentValue)) {
-                    ComponentChangesSummaryDTO summary = summaryMap.get(componentName);
-                    summary.setTotalChanges(summary.getTotalChanges() + 1);
-
-                    // Update changes per screen
-                    Long currentCount = summary.getChangesPerScreen().getOrDefault(screenId, 0L);
-                    summary.getChangesPerScreen().put(screenId, currentCount + 1);
+            totals[c] += count;
+            countsByScreen.computeIfAbsent(screenId, id -> new long[componentCount])[c] += count;
+            // Change type distribution is just a count by value; a missing value is stored as ""
+            countsByValue.get(c).computeIfAbsent(checklistValue.isEmpty() ? null : checklistValue,
+                    value -> new long[1])[0] += count;
+        }
 
-                    // Update change type distribution (just count by value)
-                    String changeType = currentValue;
-                    Long typeCount = summary.getChangeTypeDistribution().getOrDefault(changeType, 0L);
-                    summary.getChangeTypeDistribution().put(changeType, typeCount + 1);
+        List<ComponentChangesSummaryDTO> summaries = new ArrayList<>(componentCount);
+        for (int c = 0; c < componentCount; c++) {
+            Map<Long, Long> changesPerScreen = new HashMap<>();
+            for (Map.Entry<Long, long[]> entry : countsByScreen.entrySet()) {
+                long count = entry.getValue()[c];
+                if (count > 0) {
+                    changesPerScreen.put(entry.getKey(), count);
                 }
             }
+
+            Map<String, Long> changeTypeDistribution = new HashMap<>();
+            countsByValue.get(c).forEach((value, count) -> changeTypeDistribution.put(value, count[0]));
+
+            summaries.add(ComponentChangesSummaryDTO.builder()
+                    .componentName(targetComponents.get(c))
+                    .totalChanges(totals[c])
+                    .changesPerScreen(changesPerScreen)
+                    .changeTypeDistribution(changeTypeDistribution)
+                    .build());
         }
 
-        return new ArrayList<>(summaryMap.values());
+        return summaries;
     }
 
-    @Override
-    public List<DetailedChangeRecordDTO> getDetailedChangeRecords(
+    private List<DetailedChangeRecordDTO> computeDetailedChangeRecords(
             List<Long> screenIds, LocalDate startDate, LocalDate endDate, List<String> components) {
 
         log.info("Getting detailed change records for screens: {}, date range: {} to {}", screenIds, startDate, endDate);
 
-        List<WorkerReport> reports = getWorkerReports(screenIds, startDate, endDate);
-        List<String> targetComponents = components != null && !components.isEmpty()
-                ? components
-                : new ArrayList<>(COMPONENT_FIELD_MAP.keySet());
+        List<WorkerReportChecklistRow> rows = getChecklistRows(screenIds, startDate, endDate);
+        List<ChecklistComponent> targetComponents = resolveTargetComponents(components).stream()
+                .map(ChecklistComponent::fromDisplayName)
+                .filter(Objects::nonNull)
+                .toList();
 
         List<DetailedChangeRecordDTO> detailedRecords = new ArrayList<>();
-        reports.sort(Comparator.comparing(WorkerReport::getReportDate));
-
-        for (WorkerReport report : reports) {
-            // FIXED: Get the actual screen ID from the ticket's screen, not the ticket ID
-            Long screenId = report.getTicket().getScreen() != null ? 
-                           report.getTicket().getScreen().getId() : 
-                           null;
-            
-            // Skip if no screen is associated
-            if (screenId == null) {
-                log.warn("Worker report {} has no associated screen, skipping", report.getId());
-                continue;
-            }
 
-            for (String componentName : targetComponents) {
-                String currentValue = getComponentValue(report, componentName);
+        // Rows come ordered by report date, and reports without a screen are excluded by the query
+        for (WorkerReportChecklistRow row : rows) {
+            for (ChecklistComponent component : targetComponents) {
+                String currentValue = row.getChecklistValue(component);
 
-                if (!"OK".equalsIgnoreCase(currentValue)) {
+                if (ChecklistComponent.isChange(currentValue)) {
                     DetailedChangeRecordDTO record = DetailedChangeRecordDTO.builder()
-                            .ticketId(report.getTicket().getId())
-                            .screenId(screenId) // Now using the correct screen ID
-                            .componentName(componentName)
+                            .ticketId(row.getTicketId())
+                            .screenId(row.getScreenId())
+                            .componentName(component.getDisplayName())
                             .previousValue(null) // You can fill this if you want, but not needed for just counting
                             .currentValue(currentValue)
-                            .changeDate(report.getReportDate())
+                            .changeDate(row.getReportDate())
                             .build();
 
                     detailedRecords.add(record);
@@ -185,37 +258,28 @@ public class ReportingServiceImpl implements ReportingService {
         return detailedRecords;
     }
 
-    @Override
-    public List<ScreenHistoryDTO> getScreenHistory(List<Long> screenIds, LocalDate startDate, LocalDate endDate) {
+    private List<ScreenHistoryDTO> computeScreenHistory(List<Long> screenIds, LocalDate startDate, LocalDate endDate) {
         log.info("Getting screen history for screens: {}, date range: {} to {}", screenIds, startDate, endDate);
 
-        List<WorkerReport> reports = getWorkerReports(screenIds, startDate, endDate);
-        
-        // FIXED: Group by actual screen ID, not ticket ID
-        Map<Long, List<WorkerReport>> reportsByScreen = reports.stream()
-                .filter(report -> report.getTicket().getScreen() != null) // Filter out reports without screens
-                .collect(Collectors.groupingBy(report -> report.getTicket().getScreen().getId()));
+        // Grouping keeps the query's report date order within each screen
+        Map<Long, List<WorkerReportChecklistRow>> rowsByScreen = getChecklistRows(screenIds, startDate, endDate).stream()
+                .collect(Collectors.groupingBy(WorkerReportChecklistRow::getScreenId, LinkedHashMap::new,
+                        Collectors.toList()));
 
         List<ScreenHistoryDTO> screenHistories = new ArrayList<>();
 
-        for (Map.Entry<Long, List<WorkerReport>> entry : reportsByScreen.entrySet()) {
+        for (Map.Entry<Long, List<WorkerReportChecklistRow>> entry : rowsByScreen.entrySet()) {
             Long screenId = entry.getKey();
-            List<WorkerReport> screenReports = entry.getValue();
-            screenReports.sort(Comparator.comparing(WorkerReport::getReportDate));
-
-            // Get the screen name from the first report (assuming all reports have the same screen)
-            String screenName = screenReports.get(0).getTicket().getScreen() != null ? 
-                               screenReports.get(0).getTicket().getScreen().getName() : 
-                               "Screen " + screenId;
+            List<WorkerReportChecklistRow> screenRows = entry.getValue();
 
-            List<ComponentHistoryDTO> componentHistories = buildComponentHistories(screenReports);
+            List<ComponentHistoryDTO> componentHistories = buildComponentHistories(screenRows);
             Long totalChanges = componentHistories.stream()
                     .mapToLong(ComponentHistoryDTO::getChangeCount)
                     .sum();
 
             ScreenHistoryDTO screenHistory = ScreenHistoryDTO.builder()
                     .screenId(screenId)
-                    .screenName(screenName) // Using actual screen name
+                    .screenName(screenRows.get(0).getScreenName())
                     .componentHistories(componentHistories)
                     .totalChanges(totalChanges)
                     .build();
@@ -226,8 +290,7 @@ public class ReportingServiceImpl implements ReportingService {
         return screenHistories;
     }
 
-    @Override
-    public ComponentChangesSummaryDTO getComponentSpecificReport(
+    private ComponentChangesSummaryDTO computeComponentSpecificReport(
             String componentName, List<Long> screenIds, LocalDate startDate, LocalDate endDate) {
 
         log.info("Getting component-specific report for: {} across screens: {}", componentName, screenIds);
@@ -244,8 +307,7 @@ public class ReportingServiceImpl implements ReportingService {
                         .build());
     }
 
-    @Override
-    public Long getTotalChangeCount(List<Long> screenIds, LocalDate startDate, LocalDate endDate,
+    private Long computeTotalChangeCount(List<Long> screenIds, LocalDate startDate, LocalDate endDate,
             List<String> components) {
         List<ComponentChangesSummaryDTO> summaries = getComponentChangesSummary(screenIds, startDate, endDate,
                 components);
@@ -256,83 +318,148 @@ public class ReportingServiceImpl implements ReportingService {
 
     // Helper methods
 
-    private List<WorkerReport> getWorkerReports(List<Long> screenIds, LocalDate startDate, LocalDate endDate) {
+    /**
+     * Returns the cached result for the key, or computes it on the calling thread. Concurrent misses for the
+     * same key wait for the first caller's computation instead of repeating it. The DTOs are mutable, so every
+     * caller gets its own copy and the cached instance is never handed out.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T cached(ReportKey key, Supplier<T> loader, UnaryOperator<T> copy) {
+        long generation;
+        synchronized (reportCache) {
+            CachedReport cachedReport = reportCache.get(key);
+            if (cachedReport != null && !cachedReport.isExpired(cacheTtlSeconds)) {
+                return copy.apply((T) cachedReport.result());
+            }
+            generation = cacheGeneration;
+        }
+
+        CompletableFuture<Object> computation = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlightReports.putIfAbsent(key, computation);
+        if (existing != null) {
+            try {
+                return copy.apply((T) existing.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            T result = loader.get();
+            synchronized (reportCache) {
+                if (generation == cacheGeneration) {
+                    reportCache.put(key, new CachedReport(result, System.nanoTime()));
+                }
+            }
+            computation.complete(result);
+            return copy.apply(result);
+        } catch (RuntimeException e) {
+            computation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightReports.remove(key, computation);
+        }
+    }
+
+    private ReportingResponseDTO copyReport(ReportingResponseDTO report) {
+        Map<String, Object> totalCounts = null;
+        if (report.getTotalCounts() != null) {
+            totalCounts = new HashMap<>(report.getTotalCounts());
+            totalCounts.replaceAll((name, value) -> value instanceof Map<?, ?> nested ? new HashMap<>(nested) : value);
+        }
+        return ReportingResponseDTO.builder()
+                .reportType(report.getReportType())
+                .startDate(report.getStartDate())
+                .endDate(report.getEndDate())
+                .screenIds(report.getScreenIds() == null ? null : new ArrayList<>(report.getScreenIds()))
+                .componentSummaries(report.getComponentSummaries() == null ? null
+                        : copySummaries(report.getComponentSummaries()))
+                .totalCounts(totalCounts)
+                .build();
+    }
+
+    private List<ComponentChangesSummaryDTO> copySummaries(List<ComponentChangesSummaryDTO> summaries) {
+        List<ComponentChangesSummaryDTO> copies = new ArrayList<>(summaries.size());
+        for (ComponentChangesSummaryDTO summary : summaries) {
+            copies.add(copySummary(summary));
+        }
+        return copies;
+    }
+
+    private ComponentChangesSummaryDTO copySummary(ComponentChangesSummaryDTO summary) {
+        if (summary == null) {
+            return null; // A requested component that does not exist
+        }
+        return ComponentChangesSummaryDTO.builder()
+                .componentName(summary.getComponentName())
+                .totalChanges(summary.getTotalChanges())
+                .changesPerScreen(new HashMap<>(summary.getChangesPerScreen()))
+                .changeTypeDistribution(new HashMap<>(summary.getChangeTypeDistribution()))
+                .build();
+    }
+
+    private List<Object[]> getRollupRows(List<Long> screenIds, LocalDate startDate, LocalDate endDate) {
+        if (screenIds == null || screenIds.isEmpty()) {
+            return componentFailureRollupRepository.sumChangesBetween(startDate, endDate);
+        }
+        return componentFailureRollupRepository.sumChangesByScreenIdsBetween(screenIds, startDate, endDate);
+    }
+
+    private List<WorkerReportChecklistRow> getChecklistRows(List<Long> screenIds, LocalDate startDate, LocalDate endDate) {
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
 
         if (screenIds == null || screenIds.isEmpty()) {
-            return workerReportRepository.findByReportDateBetween(startDateTime, endDateTime);
-        } else {
-            // FIXED: This method should filter by the screen ID associated with the ticket
-            // You'll need to add this method to your WorkerReportRepository
-            return workerReportRepository.findByTicketScreenIdInAndReportDateBetween(screenIds, startDateTime, endDateTime);
+            return workerReportRepository.findChecklistRowsBetween(startDateTime, endDateTime);
         }
+        return workerReportRepository.findChecklistRowsByScreenIdsBetween(screenIds, startDateTime, endDateTime);
     }
 
-    private String getComponentValue(WorkerReport report, String componentName) {
-        // Use switch statement to get the value based on component name
-        switch (componentName) {
-            case "Data Cables (Cat6/RJ45)":
-                return report.getDataCables();
-            case "Power Cable":
-                return report.getPowerCable();
-            case "Power Supplies":
-                return report.getPowerSupplies();
-            case "LED Modules":
-                return report.getLedModules();
-            case "Cooling Systems":
-                return report.getCoolingSystems();
-            case "Service Lights & Sockets":
-                return report.getServiceLights();
-            case "Operating Computers":
-                return report.getOperatingComputers();
-            case "Software":
-                return report.getSoftware();
-            case "Power DBs":
-                return report.getPowerDBs();
-            case "Media Converters":
-                return report.getMediaConverters();
-            case "Control Systems":
-                return report.getControlSystems();
-            case "Video Processors":
-                return report.getVideoProcessors();
-            default:
-                return "OK";
+    private List<String> resolveTargetComponents(List<String> components) {
+        if (components == null || components.isEmpty()) {
+            return Arrays.stream(ChecklistComponent.values())
+                    .map(ChecklistComponent::getDisplayName)
+                    .toList();
         }
+        return components.stream().distinct().toList();
     }
 
-    private List<ComponentHistoryDTO> buildComponentHistories(List<WorkerReport> screenReports) {
-        Map<String, ComponentHistoryDTO> componentHistoryMap = new HashMap<>();
-
-        for (String componentName : COMPONENT_FIELD_MAP.keySet()) {
-            ComponentHistoryDTO componentHistory = ComponentHistoryDTO.builder()
-                    .componentName(componentName)
-                    .changeCount(0L)
-                    .changes(new ArrayList<>())
-                    .build();
-            componentHistoryMap.put(componentName, componentHistory);
+    private List<ComponentHistoryDTO> buildComponentHistories(List<WorkerReportChecklistRow> screenRows) {
+        ChecklistComponent[] allComponents = ChecklistComponent.values();
+        long[] changeCounts = new long[allComponents.length];
+        List<List<ComponentChangeEventDTO>> changes = new ArrayList<>(allComponents.length);
+        for (int c = 0; c < allComponents.length; c++) {
+            changes.add(new ArrayList<>());
         }
 
-        for (WorkerReport report : screenReports) {
-            for (String componentName : COMPONENT_FIELD_MAP.keySet()) {
-                String currentValue = getComponentValue(report, componentName);
+        for (WorkerReportChecklistRow row : screenRows) {
+            for (int c = 0; c < allComponents.length; c++) {
+                String currentValue = row.getChecklistValue(allComponents[c]);
 
-                if (!"OK".equalsIgnoreCase(currentValue)) {
-                    ComponentChangeEventDTO changeEvent = ComponentChangeEventDTO.builder()
-                            .changeDate(report.getReportDate())
+                if (ChecklistComponent.isChange(currentValue)) {
+                    changes.get(c).add(ComponentChangeEventDTO.builder()
+                            .changeDate(row.getReportDate())
                             .fromValue(null) // You can fill this if you want, but not needed for just counting
                             .toValue(currentValue)
-                            .ticketId(report.getTicket().getId())
-                            .build();
-
-                    ComponentHistoryDTO componentHistory = componentHistoryMap.get(componentName);
-                    componentHistory.getChanges().add(changeEvent);
-                    componentHistory.setChangeCount(componentHistory.getChangeCount() + 1);
+                            .ticketId(row.getTicketId())
+                            .build());
+                    changeCounts[c]++;
                 }
             }
         }
 
-        return new ArrayList<>(componentHistoryMap.values());
+        List<ComponentHistoryDTO> componentHistories = new ArrayList<>(allComponents.length);
+        for (int c = 0; c < allComponents.length; c++) {
+            componentHistories.add(ComponentHistoryDTO.builder()
+                    .componentName(allComponents[c].getDisplayName())
+                    .changeCount(changeCounts[c])
+                    .changes(changes.get(c))
+                    .build());
+        }
+        return componentHistories;
     }
 
     private Map<String, Object> calculateTotalCounts(List<ComponentChangesSummaryDTO> summaries) {
@@ -353,4 +480,34 @@ public class ReportingServiceImpl implements ReportingService {
 
         return totalCounts;
     }
-}
\ No newline at end of file
+
+    private record CachedReport(Object result, long cachedAtNanos) {
+
+        boolean isExpired(long ttlSeconds) {
+            return System.nanoTime() - cachedAtNanos > TimeUnit.SECONDS.toNanos(ttlSeconds);
+        }
+    }
+
+    /**
+     * Identifies a report request. Screen ids are normalized so that the same selection in a different order
+     * shares an entry; an empty list means all screens.
+     */
+    private record ReportKey(String type, List<Long> screenIds, LocalDate startDate, LocalDate endDate,
+                             List<String> components) {
+
+        static ReportKey of(String type, List<Long> screenIds, LocalDate startDate, LocalDate endDate,
+                            List<String> components) {
+            List<Long> normalizedScreenIds = screenIds == null ? List.of()
+                    : screenIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+            List<String> normalizedComponents = components == null ? List.of() : List.copyOf(components);
+            return new ReportKey(type, normalizedScreenIds, startDate, endDate, normalizedComponents);
+        }
+
+        boolean covers(Long screenId, LocalDate day) {
+            boolean screenMatches = screenIds.isEmpty() || screenIds.contains(screenId);
+            boolean dayMatches = startDate == null || endDate == null
+                    || (!day.isBefore(startDate) && !day.isAfter(endDate));
+            return screenMatches && dayMatches;
+        }
+    }
+}
@@ -1,14 +1,32 @@
 package com.celebritysystems.service.impl;
 
+import com.celebritysystems.dto.ConfirmDirectUploadDTO;
+import com.celebritysystems.dto.DirectUploadDTO;
+import com.celebritysystems.dto.FileDownloadDTO;
+import com.celebritysystems.entity.DirectUpload;
+import com.celebritysystems.entity.S3DeletionTask;
+import com.celebritysystems.entity.enums.StoredObjectStatus;
+import com.celebritysystems.repository.DirectUploadRepository;
+import com.celebritysystems.repository.S3DeletionTaskRepository;
+import com.celebritysystems.repository.StoredObjectRepository;
 import com.celebritysystems.service.S3Service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpStatus;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import software.amazon.awssdk.core.ResponseInputStream;
@@ -18,13 +36,45 @@ import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedUploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -36,6 +86,10 @@ public class S3ServiceImpl implements S3Service {
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final StoredObjectRepository storedObjectRepository;
+    private final S3DeletionTaskRepository s3DeletionTaskRepository;
+    private final DirectUploadRepository directUploadRepository;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${s3.bucket-name}")
     private String bucketName;
@@ -46,7 +100,152 @@ public class S3ServiceImpl implements S3Service {
     @Value("${s3.endpoint}")
     private String endpoint;
     
-    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    @Value("${s3.presigned-url-cache.max-entries:10000}")
+    private int presignedUrlCacheMaxEntries;
+
+    @Value("${s3.presigned-url-cache.safety-margin-minutes:10}")
+    private int presignedUrlSafetyMarginMinutes;
+
+    // Largest file accepted through uploadFile; checked at startup against the multipart settings below
+    @Value("${s3.upload.max-file-size-bytes:10485760}")
+    private long maxFileSizeBytes;
+
+    @Value("${s3.multipart.threshold-bytes:8388608}")
+    private long multipartThresholdBytes;
+
+    @Value("${s3.multipart.part-size-bytes:5242880}")
+    private long multipartPartSizeBytes;
+
+    @Value("${s3.multipart.upload-threads:4}")
+    private int multipartUploadThreads;
+
+    // Uploads under these key prefixes are stored once per distinct content and shared by reference count
+    @Value("${s3.dedup.key-prefixes:}")
+    private Set<String> dedupKeyPrefixes;
+
+    // How long an upload waits for another upload of the same content to finish before storing its own copy
+    @Value("${s3.dedup.pending-wait-ms:10000}")
+    private long dedupPendingWaitMs;
+
+    @Value("${s3.dedup.pending-timeout-minutes:60}")
+    private long dedupPendingTimeoutMinutes;
+
+    @Value("${s3.parallel-upload.max-concurrent:16}")
+    private int parallelUploadMaxConcurrent;
+
+    @Value("${s3.deletion-queue.batch-size:1000}")
+    private int deletionBatchSize;
+
+    @Value("${s3.deletion-queue.lease-minutes:5}")
+    private long deletionLeaseMinutes;
+
+    @Value("${s3.direct-upload.max-file-size-bytes:1073741824}")
+    private long directUploadMaxFileSize;
+
+    @Value("${s3.direct-upload.url-expiration-minutes:60}")
+    private int directUploadUrlExpirationMinutes;
+
+    // How long after its URLs expire an issued upload can still be confirmed before it is discarded
+    @Value("${s3.direct-upload.confirm-grace-minutes:60}")
+    private int directUploadConfirmGraceMinutes;
+
+    private static final int MAX_PART_COUNT = 10000; // S3 limit per multipart upload
+    private static final int MAX_DELETE_OBJECTS_KEYS = 1000; // S3 limit per DeleteObjects call
+    private static final Pattern SINGLE_BYTE_RANGE = Pattern.compile("bytes=(\\d+-\\d*|-\\d+)");
+    private static final long MIN_PART_SIZE = 5 * 1024 * 1024; // S3 minimum for every part but the last
+    private static final long MAX_SINGLE_PUT_SIZE = 5L * 1024 * 1024 * 1024; // S3 limit per PutObject call
+    private static final long DEDUP_POLL_INTERVAL_MS = 200;
+
+    private ThreadPoolExecutor multipartExecutor;
+
+    // Shared-object bookkeeping that must commit on its own, whatever the caller's transaction does
+    private TransactionTemplate requiresNewTransaction;
+
+    // Uploads block on network I/O, so each file of a batch gets its own virtual thread; the semaphore caps
+    // how many run against S3 at once across all requests
+    private final ExecutorService parallelUploadExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("s3-upload-", 0).factory());
+    private Semaphore parallelUploadPermits;
+
+    // Refreshed at startup and by S3BucketHealthChecker so uploads don't pay a HeadBucket round trip each
+    private volatile boolean bucketAvailable;
+    private volatile LocalDateTime bucketLastCheckedAt;
+
+    // Presigned URLs keyed by "objectKey|expirationMinutes", least recently used entries evicted first
+    private final Map<String, CachedPresignedUrl> presignedUrlCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedPresignedUrl> eldest) {
+            return size() > presignedUrlCacheMaxEntries;
+        }
+    };
+    private final AtomicLong presignedUrlCacheHits = new AtomicLong();
+    private final AtomicLong presignedUrlCacheMisses = new AtomicLong();
+
+    @PostConstruct
+    void initMultipartExecutor() {
+        multipartPartSizeBytes = Math.max(multipartPartSizeBytes, MIN_PART_SIZE);
+        checkUploadLimits();
+
+        // When every thread is busy the uploading request thread sends the part itself, which bounds
+        // in-flight parts without rejecting uploads
+        AtomicInteger threadCounter = new AtomicInteger();
+        multipartExecutor = new ThreadPoolExecutor(multipartUploadThreads, multipartUploadThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(multipartUploadThreads),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-multipart-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // Fails startup on settings that would only break once a large enough file is uploaded
+    private void checkUploadLimits() {
+        if (maxFileSizeBytes <= 0) {
+            throw new IllegalStateException("s3.upload.max-file-size-bytes must be positive");
+        }
+        long largestSinglePut = Math.min(maxFileSizeBytes, multipartThresholdBytes - 1);
+        if (largestSinglePut > MAX_SINGLE_PUT_SIZE) {
+            throw new IllegalStateException("s3.multipart.threshold-bytes must not exceed " + MAX_SINGLE_PUT_SIZE +
+                    " bytes while s3.upload.max-file-size-bytes allows larger files");
+        }
+        if (maxFileSizeBytes >= multipartThresholdBytes
+                && (maxFileSizeBytes + multipartPartSizeBytes - 1) / multipartPartSizeBytes > MAX_PART_COUNT) {
+            throw new IllegalStateException("s3.upload.max-file-size-bytes of " + maxFileSizeBytes + " bytes needs more than "
+                    + MAX_PART_COUNT + " parts of " + multipartPartSizeBytes + " bytes; raise s3.multipart.part-size-bytes");
+        }
+        if (maxFileSizeBytes < multipartThresholdBytes) {
+            log.warn("s3.multipart.threshold-bytes ({}) is above s3.upload.max-file-size-bytes ({}), uploads never use multipart",
+                    multipartThresholdBytes, maxFileSizeBytes);
+        }
+    }
+
+    @PostConstruct
+    void checkBucketAtStartup() {
+        if (refreshBucketAvailability()) {
+            log.info("Bucket {} exists and is accessible", bucketName);
+        } else {
+            log.warn("Bucket {} is not accessible at startup, uploads are rejected until it becomes available", bucketName);
+        }
+    }
+
+    @PostConstruct
+    void initParallelUploadPermits() {
+        parallelUploadPermits = new Semaphore(parallelUploadMaxConcurrent);
+    }
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        requiresNewTransaction = new TransactionTemplate(transactionManager);
+        requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PreDestroy
+    void shutdownMultipartExecutor() {
+        parallelUploadExecutor.shutdown();
+        multipartExecutor.shutdown();
+    }
 
     @Override
     public String uploadFile(MultipartFile file, String keyPrefix) {
@@ -60,41 +259,89 @@ public class S3ServiceImpl implements S3Service {
         validateFile(file);
 
         try {
-            // Check if bucket exists first
-            if (!bucketExists()) {
+            if (!bucketAvailable) {
                 throw new RuntimeException("Bucket does not exist or is not accessible: " + bucketName);
             }
 
-            String fileKey = generateFileKey(keyPrefix, file.getOriginalFilename());
+            String fileKey = null;
+            String uploadToken = null; // Set when this upload owns a PENDING shared object
+            if (dedupKeyPrefixes.contains(keyPrefix)) {
+                String contentHash = sha256Hex(file);
+                String sharedKey = contentAddressedKey(contentHash);
+                String token = UUID.randomUUID().toString();
+                switch (claimSharedObject(contentHash, sharedKey, file.getSize(), token)) {
+                    case SHARED -> {
+                        String fileUrl = buildFileUrl(sharedKey);
+                        log.info("Identical content already stored, skipped upload of {}: {}", file.getOriginalFilename(), fileUrl);
+                        return fileUrl;
+                    }
+                    case UPLOAD -> {
+                        fileKey = sharedKey;
+                        uploadToken = token;
+                    }
+                    case UNAVAILABLE -> log.warn("Shared copy of {} is still being uploaded or deleted, storing it separately",
+                            file.getOriginalFilename());
+                }
+            }
+            if (fileKey == null) {
+                fileKey = generateFileKey(keyPrefix, file.getOriginalFilename());
+            }
             log.info("Generated file key: {}", fileKey);
             
             // Use application/octet-stream as default if content type is null
             String contentType = file.getContentType() != null ? file.getContentType() : "application/octet-stream";
-            
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileKey)
-                    .contentType(contentType)
-                    .contentLength(file.getSize())
-                    .metadata(Map.of(
-                        "original-filename", file.getOriginalFilename(),
-                        "upload-timestamp", LocalDateTime.now().toString()
-                    ))
-                    .build();
+            Map<String, String> metadata = Map.of(
+                    "original-filename", file.getOriginalFilename(),
+                    "upload-timestamp", LocalDateTime.now().toString()
+            );
+
+            try {
+                if (file.getSize() >= multipartThresholdBytes) {
+                    uploadMultipart(file, fileKey, contentType, metadata);
+                } else {
+                    PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(fileKey)
+                            .contentType(contentType)
+                            .contentLength(file.getSize())
+                            .metadata(metadata)
+                            .build();
+
+                    log.info("Uploading file to bucket: {}, key: {}", bucketName, fileKey);
+                    // Stream from the servlet's temp file instead of copying the whole upload into the heap
+                    try (InputStream inputStream = file.getInputStream()) {
+                        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, file.getSize()));
+                    }
+                }
+            } catch (RuntimeException | IOException e) {
+                if (uploadToken != null) {
+                    // Drop the row this upload created so a later upload of the same content stores it again
+                    storedObjectRepository.deletePending(fileKey, uploadToken, StoredObjectStatus.PENDING);
+                }
+                throw e;
+            }
 
-            log.info("Uploading file to bucket: {}, key: {}", bucketName, fileKey);
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
+            if (uploadToken != null && storedObjectRepository.markStored(fileKey, uploadToken,
+                    StoredObjectStatus.PENDING, StoredObjectStatus.STORED) == 0) {
+                // Outlived the pending timeout, so the row was reclaimed and the object is queued for deletion
+                throw new RuntimeException("Upload of " + file.getOriginalFilename() + " took too long and was discarded");
+            }
             
             String fileUrl = buildFileUrl(fileKey);
             log.info("File uploaded successfully to S3: {}", fileUrl);
             return fileUrl;
             
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             log.error("Failed to read file content: {}", file.getOriginalFilename(), e);
             throw new RuntimeException("Failed to read file content", e);
         } catch (S3Exception e) {
             log.error("S3 service error while uploading file: {} - Status Code: {}, Error Code: {}, Message: {}", 
                      file.getOriginalFilename(), e.statusCode(), e.awsErrorDetails().errorCode(), e.getMessage(), e);
+
+            if ("NoSuchBucket".equals(e.awsErrorDetails().errorCode())) {
+                // Don't wait for the next health check to stop sending uploads to a missing bucket
+                bucketAvailable = false;
+            }
             
             // Provide more specific error messages based on status code
             String errorMessage = switch (e.statusCode()) {
@@ -115,13 +362,232 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    /**
+     * Uploads every non-empty file concurrently and returns their URLs keyed by key prefix. If any upload fails,
+     * the ones that succeeded are deleted before the failure is rethrown. Inside a transaction the uploaded
+     * objects are also deleted when it rolls back.
+     */
+    @Override
+    public Map<String, String> uploadFiles(Map<String, MultipartFile> filesByKeyPrefix) {
+        Map<String, MultipartFile> files = new LinkedHashMap<>();
+        filesByKeyPrefix.forEach((keyPrefix, file) -> {
+            if (file != null && !file.isEmpty()) {
+                files.put(keyPrefix, file);
+            }
+        });
+
+        Map<String, String> fileUrls = new LinkedHashMap<>();
+        if (files.size() == 1) {
+            Map.Entry<String, MultipartFile> only = files.entrySet().iterator().next();
+            fileUrls.put(only.getKey(), uploadFile(only.getValue(), only.getKey()));
+        } else if (!files.isEmpty()) {
+            Map<String, CompletableFuture<String>> uploads = new LinkedHashMap<>();
+            files.forEach((keyPrefix, file) -> uploads.put(keyPrefix,
+                    CompletableFuture.supplyAsync(() -> uploadWithPermit(file, keyPrefix), parallelUploadExecutor)));
+
+            // Wait for every upload, not just the first failure, so cleanup sees all objects that made it to S3
+            RuntimeException failure = null;
+            for (Map.Entry<String, CompletableFuture<String>> upload : uploads.entrySet()) {
+                try {
+                    fileUrls.put(upload.getKey(), upload.getValue().join());
+                } catch (CompletionException e) {
+                    RuntimeException cause = e.getCause() instanceof RuntimeException runtimeException
+                            ? runtimeException : e;
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+
+            if (failure != null) {
+                log.warn("Upload of {} file(s) failed, removing {} already uploaded", files.size(), fileUrls.size());
+                fileUrls.values().forEach(this::deleteQuietly);
+                throw failure;
+            }
+        }
+
+        if (!fileUrls.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<String> uploadedUrls = List.copyOf(fileUrls.values());
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        log.info("Transaction rolled back, removing {} uploaded file(s)", uploadedUrls.size());
+                        uploadedUrls.forEach(S3ServiceImpl.this::deleteQuietly);
+                    }
+                }
+            });
+        }
+        return fileUrls;
+    }
+
+    private String uploadWithPermit(MultipartFile file, String keyPrefix) {
+        try {
+            parallelUploadPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting to upload " + file.getOriginalFilename(), e);
+        }
+        try {
+            return uploadFile(file, keyPrefix);
+        } finally {
+            parallelUploadPermits.release();
+        }
+    }
+
+    /**
+     * Takes a reference to the shared object for this hash. Returns UPLOAD when this call created the row and
+     * must store the object, SHARED when a stored copy now counts this upload, and UNAVAILABLE when another
+     * upload or a pending delete held the row for longer than the wait allows.
+     */
+    private SharedObjectClaim claimSharedObject(String contentHash, String fileKey, long sizeBytes, String uploadToken) {
+        long waitUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(dedupPendingWaitMs);
+        while (true) {
+            if (storedObjectRepository.insertPending(contentHash, fileKey, sizeBytes, uploadToken, LocalDateTime.now()) == 1) {
+                return SharedObjectClaim.UPLOAD;
+            }
+            if (storedObjectRepository.addReference(fileKey, StoredObjectStatus.STORED, LocalDateTime.now()) == 1) {
+                return SharedObjectClaim.SHARED;
+            }
+            if (System.nanoTime() >= waitUntil) {
+                return SharedObjectClaim.UNAVAILABLE;
+            }
+            try {
+                Thread.sleep(DEDUP_POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a shared upload of " + fileKey, e);
+            }
+        }
+    }
+
+    private void deleteQuietly(String fileUrl) {
+        try {
+            deleteFile(fileUrl);
+        } catch (Exception e) {
+            log.error("Failed to remove uploaded file {}", fileUrl, e);
+        }
+    }
+
+    // Parts are read from their own stream over the uploaded file, so memory per upload stays around one part per thread
+    private void uploadMultipart(MultipartFile file, String fileKey, String contentType, Map<String, String> metadata) {
+        long size = file.getSize();
+        int partCount = (int) ((size + multipartPartSizeBytes - 1) / multipartPartSizeBytes);
+
+        CreateMultipartUploadResponse createResponse = s3Client.createMultipartUpload(
+                CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(fileKey)
+                        .contentType(contentType)
+                        .metadata(metadata)
+                        .build());
+        String uploadId = createResponse.uploadId();
+        log.info("Uploading file to bucket: {}, key: {} as {} parts (upload ID: {})",
+                bucketName, fileKey, partCount, uploadId);
+
+        try {
+            List<CompletableFuture<CompletedPart>> partUploads = new ArrayList<>(partCount);
+            for (int i = 0; i < partCount; i++) {
+                int partNumber = i + 1;
+                long offset = i * multipartPartSizeBytes;
+                long length = Math.min(multipartPartSizeBytes, size - offset);
+                partUploads.add(CompletableFuture.supplyAsync(
+                        () -> uploadPart(file, fileKey, uploadId, partNumber, offset, length), multipartExecutor));
+            }
+
+            List<CompletedPart> completedParts = new ArrayList<>(partCount);
+            for (CompletableFuture<CompletedPart> partUpload : partUploads) {
+                completedParts.add(partUpload.join());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (RuntimeException e) {
+            abortMultipartUpload(fileKey, uploadId);
+            if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CompletedPart uploadPart(MultipartFile file, String fileKey, String uploadId, int partNumber,
+            long offset, long length) {
+        try (InputStream inputStream = file.getInputStream()) {
+            inputStream.skipNBytes(offset);
+
+            // The SDK reads exactly contentLength bytes from the stream
+            UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                            .bucket(bucketName)
+                            .key(fileKey)
+                            .uploadId(uploadId)
+                            .partNumber(partNumber)
+                            .contentLength(length)
+                            .build(),
+                    RequestBody.fromInputStream(inputStream, length));
+
+            log.debug("Uploaded part {} ({} bytes) of {}", partNumber, length, fileKey);
+            return CompletedPart.builder()
+                    .partNumber(partNumber)
+                    .eTag(response.eTag())
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read part " + partNumber + " of " + fileKey, e);
+        }
+    }
+
+    private void abortMultipartUpload(String fileKey, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileKey)
+                    .uploadId(uploadId)
+                    .build());
+            log.info("Aborted multipart upload {} for key: {}", uploadId, fileKey);
+        } catch (Exception e) {
+            log.error("Failed to abort multipart upload {} for key: {}", uploadId, fileKey, e);
+        }
+    }
+
+    @Override
+    public boolean refreshBucketAvailability() {
+        boolean available = bucketExists();
+        if (available != bucketAvailable && bucketLastCheckedAt != null) {
+            log.warn("Bucket {} is now {}", bucketName, available ? "accessible" : "not accessible");
+        }
+        bucketAvailable = available;
+        bucketLastCheckedAt = LocalDateTime.now();
+        return available;
+    }
+
+    @Override
+    public boolean isBucketAvailable() {
+        return bucketAvailable;
+    }
+
+    @Override
+    public LocalDateTime getBucketLastCheckedAt() {
+        return bucketLastCheckedAt;
+    }
+
+    @Override
+    public String getBucketName() {
+        return bucketName;
+    }
+
     private boolean bucketExists() {
         try {
             HeadBucketRequest headBucketRequest = HeadBucketRequest.builder()
                     .bucket(bucketName)
                     .build();
             s3Client.headBucket(headBucketRequest);
-            log.info("Bucket {} exists and is accessible", bucketName);
+            log.debug("Bucket {} exists and is accessible", bucketName);
             return true;
         } catch (S3Exception e) {
             log.error("Bucket check failed for bucket: {} - Status Code: {}, Error: {}", 
@@ -134,8 +600,8 @@ public class S3ServiceImpl implements S3Service {
     }
 
     private void validateFile(MultipartFile file) {
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw new IllegalArgumentException("File size exceeds maximum allowed size of " + MAX_FILE_SIZE + " bytes");
+        if (file.getSize() > maxFileSizeBytes) {
+            throw new IllegalArgumentException("File size exceeds maximum allowed size of " + maxFileSizeBytes + " bytes");
         }
         
         // Removed file type validation - now accepts all file types
@@ -150,6 +616,13 @@ public class S3ServiceImpl implements S3Service {
 
         try {
             String fileKey = extractKeyFromUrl(fileUrl);
+
+            if (fileKey.startsWith(contentAddressedKeyPrefix())) {
+                // The reference was taken in its own transaction, so it is given back in one too; the object
+                // itself goes through the deletion queue once nothing references it
+                requiresNewTransaction.executeWithoutResult(status -> enqueueDeletion(List.of(fileUrl)));
+                return;
+            }
             
             DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
                     .bucket(bucketName)
@@ -168,6 +641,176 @@ public class S3ServiceImpl implements S3Service {
         }
     }
 
+    /**
+     * Queues the objects for deletion in the caller's transaction. A shared object gives up one reference here,
+     * once per URL, and is only queued when that was its last one.
+     */
+    @Override
+    public void enqueueDeletion(Collection<String> fileUrls) {
+        LocalDateTime now = LocalDateTime.now();
+        List<S3DeletionTask> tasks = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl == null || fileUrl.isEmpty()) {
+                continue;
+            }
+            String fileKey = extractKeyFromUrl(fileUrl);
+            if (fileKey.startsWith(contentAddressedKeyPrefix()) && !releaseSharedObject(fileKey)) {
+                log.info("Released reference to shared file, still in use: {}", fileUrl);
+                continue;
+            }
+            tasks.add(newDeletionTask(fileKey, now));
+        }
+
+        if (!tasks.isEmpty()) {
+            s3DeletionTaskRepository.saveAll(tasks);
+            log.info("Queued {} file(s) for deletion from S3", tasks.size());
+        }
+    }
+
+    // Returns true when the object lost its last reference and is now tombstoned for the deletion queue
+    private boolean releaseSharedObject(String fileKey) {
+        storedObjectRepository.release(fileKey, StoredObjectStatus.STORED);
+        return storedObjectRepository.tombstoneIfUnreferenced(fileKey,
+                StoredObjectStatus.STORED, StoredObjectStatus.DELETING) == 1;
+    }
+
+    private S3DeletionTask newDeletionTask(String fileKey, LocalDateTime now) {
+        return S3DeletionTask.builder()
+                .fileKey(fileKey)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    @Override
+    public int reclaimStalePendingObjects() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusMinutes(dedupPendingTimeoutMinutes);
+        List<String> staleKeys = storedObjectRepository.findStalePendingKeys(StoredObjectStatus.PENDING, staleBefore,
+                PageRequest.of(0, deletionBatchSize));
+
+        int reclaimed = 0;
+        for (String fileKey : staleKeys) {
+            Boolean queued = requiresNewTransaction.execute(status -> {
+                if (storedObjectRepository.tombstoneStalePending(fileKey, staleBefore,
+                        StoredObjectStatus.PENDING, StoredObjectStatus.DELETING) == 0) {
+                    return false; // Finished or reclaimed in the meantime
+                }
+                s3DeletionTaskRepository.save(newDeletionTask(fileKey, now));
+                return true;
+            });
+            if (Boolean.TRUE.equals(queued)) {
+                reclaimed++;
+            }
+        }
+
+        if (reclaimed > 0) {
+            log.warn("Reclaimed {} shared upload(s) pending for more than {} minutes", reclaimed, dedupPendingTimeoutMinutes);
+        }
+        return reclaimed;
+    }
+
+    @Override
+    public int sweepDeletionQueue() {
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = Math.min(deletionBatchSize, MAX_DELETE_OBJECTS_KEYS);
+        List<Long> dueIds = s3DeletionTaskRepository.findDueIds(now, PageRequest.of(0, batchSize));
+        if (dueIds.isEmpty()) {
+            return 0;
+        }
+
+        String claimToken = UUID.randomUUID().toString();
+        if (s3DeletionTaskRepository.claim(dueIds, claimToken, now.plusMinutes(deletionLeaseMinutes), now) == 0) {
+            return 0; // Claimed by another node
+        }
+        List<S3DeletionTask> tasks = s3DeletionTaskRepository.findByClaimToken(claimToken);
+
+        // A shared object is only deleted while its row is tombstoned. Without the tombstone an earlier run
+        // already removed it, and the same content may have been stored again since
+        Set<String> sharedKeys = tasks.stream()
+                .map(S3DeletionTask::getFileKey)
+                .filter(fileKey -> fileKey.startsWith(contentAddressedKeyPrefix()))
+                .collect(Collectors.toSet());
+        Set<String> tombstonedKeys = sharedKeys.isEmpty() ? Set.of()
+                : new HashSet<>(storedObjectRepository.findFileKeysByStatus(sharedKeys, StoredObjectStatus.DELETING));
+
+        List<Long> completedIds = new ArrayList<>();
+        List<String> deletedSharedKeys = new ArrayList<>();
+        List<S3DeletionTask> failedTasks = new ArrayList<>();
+        // The same key can be queued more than once; it is sent to S3 once and settles all its rows
+        Map<String, List<S3DeletionTask>> tasksByKey = new LinkedHashMap<>();
+        for (S3DeletionTask task : tasks) {
+            String fileKey = task.getFileKey();
+            if (sharedKeys.contains(fileKey) && !tombstonedKeys.contains(fileKey)) {
+                completedIds.add(task.getId());
+                continue;
+            }
+            tasksByKey.computeIfAbsent(fileKey, key -> new ArrayList<>()).add(task);
+        }
+
+        if (!tasksByKey.isEmpty()) {
+            try {
+                List<ObjectIdentifier> objects = tasksByKey.keySet().stream()
+                        .map(fileKey -> ObjectIdentifier.builder().key(fileKey).build())
+                        .toList();
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder().objects(objects).quiet(true).build())
+                        .build());
+
+                // Quiet mode only reports the keys that could not be deleted
+                Map<String, String> errors = new HashMap<>();
+                response.errors().forEach(error -> errors.putIfAbsent(error.key(), error.code() + ": " + error.message()));
+                tasksByKey.forEach((fileKey, keyTasks) -> {
+                    if (errors.containsKey(fileKey)) {
+                        keyTasks.forEach(task -> task.setLastError(truncate(errors.get(fileKey))));
+                        failedTasks.addAll(keyTasks);
+                    } else {
+                        keyTasks.forEach(task -> completedIds.add(task.getId()));
+                        if (sharedKeys.contains(fileKey)) {
+                            deletedSharedKeys.add(fileKey);
+                        }
+                    }
+                });
+            } catch (AwsServiceException | SdkClientException e) {
+                log.error("Batch delete of {} S3 object(s) failed", tasksByKey.size(), e);
+                tasksByKey.values().forEach(keyTasks -> {
+                    keyTasks.forEach(task -> task.setLastError(truncate(e.getMessage())));
+                    failedTasks.addAll(keyTasks);
+                });
+            }
+        }
+
+        // Tombstones go first: a task left behind by a crash here finds no tombstone and completes without a delete
+        if (!deletedSharedKeys.isEmpty()) {
+            storedObjectRepository.deleteTombstones(deletedSharedKeys, StoredObjectStatus.DELETING);
+        }
+        if (!completedIds.isEmpty()) {
+            s3DeletionTaskRepository.deleteByIds(completedIds);
+        }
+        if (!failedTasks.isEmpty()) {
+            for (S3DeletionTask task : failedTasks) {
+                task.setAttempts(task.getAttempts() + 1);
+                // Exponential backoff capped at an hour; objects are never given up on, or they would leak
+                long delayMinutes = Math.min(60, 1L << Math.min(task.getAttempts(), 6));
+                task.setNextAttemptAt(now.plusMinutes(delayMinutes));
+                task.setClaimToken(null);
+            }
+            s3DeletionTaskRepository.saveAll(failedTasks);
+            log.warn("Failed to delete {} S3 object(s), will retry", failedTasks.size());
+        }
+
+        log.debug("Deleted {} S3 object(s) from the deletion queue", completedIds.size());
+        return tasks.size();
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
     @Override
     public String generateFileKey(String keyPrefix, String originalFilename) {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
@@ -186,6 +829,34 @@ public class S3ServiceImpl implements S3Service {
         return fileKey;
     }
 
+    private String contentAddressedKeyPrefix() {
+        String prefix = String.format("%s/objects/sha256/", pathPrefix).replaceAll("/+", "/");
+        return prefix.startsWith("/") ? prefix.substring(1) : prefix;
+    }
+
+    private String contentAddressedKey(String contentHash) {
+        return contentAddressedKeyPrefix() + contentHash.substring(0, 2) + "/" + contentHash;
+    }
+
+    // Streams the servlet's temp file through the digest; the content is never held in memory as a whole
+    private String sha256Hex(MultipartFile file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        try (InputStream inputStream = file.getInputStream()) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
     private String buildFileUrl(String fileKey) {
         String baseUrl = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
         return String.format("%s/%s/%s", baseUrl, bucketName, fileKey);
@@ -222,15 +893,11 @@ public class S3ServiceImpl implements S3Service {
                     .key(fileKey)
                     .build();
 
-            try (ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest)) {
-                byte[] content = s3Object.readAllBytes();
-                log.info("File downloaded successfully from S3: {}", fileUrl);
-                return new ByteArrayResource(content);
-            }
+            // The caller reads and closes the stream, so the object is never held in heap as a whole
+            ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest);
+            log.info("File download opened from S3: {}", fileUrl);
+            return new InputStreamResource(s3Object);
             
-        } catch (IOException e) {
-            log.error("IO error while downloading file from S3: {}", fileUrl, e);
-            throw new RuntimeException("IO error during file download", e);
         } catch (AwsServiceException e) {
             log.error("AWS service error while downloading file: {}", fileUrl, e);
             throw new RuntimeException("AWS service error during file download", e);
@@ -241,34 +908,90 @@ public class S3ServiceImpl implements S3Service {
     }
 
     @Override
-    public byte[] getFileAsBytes(String fileUrl) {
+    public FileDownloadDTO openDownload(String fileUrl, String fileName, String range, String ifNoneMatch,
+            String ifRange) {
         if (fileUrl == null || fileUrl.isEmpty()) {
             throw new IllegalArgumentException("File URL cannot be null or empty");
         }
 
+        String fileKey = extractKeyFromUrl(fileUrl);
+        // S3 serves a single byte range; anything else is answered with the full object, as HTTP allows.
+        // If-Range needs a strong ETag to resume safely; with a date or a weak ETag the range is ignored
+        boolean strongIfRange = ifRange == null || ifRange.trim().startsWith("\"");
+        String byteRange = range != null && strongIfRange && SINGLE_BYTE_RANGE.matcher(range.trim()).matches()
+                ? range.trim() : null;
+
+        GetObjectRequest.Builder getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileKey);
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
+            getObjectRequest.ifNoneMatch(ifNoneMatch);
+        }
+        if (byteRange != null) {
+            getObjectRequest.range(byteRange);
+            // Only resume when the object is unchanged
+            if (ifRange != null) {
+                getObjectRequest.ifMatch(ifRange.trim());
+            }
+        }
+
         try {
-            String fileKey = extractKeyFromUrl(fileUrl);
-            
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileKey)
+            ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest.build());
+            GetObjectResponse response = s3Object.response();
+
+            log.info("Streaming {} from S3{}", fileUrl, byteRange != null ? " (" + byteRange + ")" : "");
+            return FileDownloadDTO.builder()
+                    .status(response.contentRange() != null ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                    .fileName(fileName)
+                    .etag(response.eTag())
+                    .contentType(response.contentType())
+                    .contentLength(response.contentLength())
+                    .contentRange(response.contentRange())
+                    .lastModified(response.lastModified())
+                    .content(s3Object)
                     .build();
 
-            try (ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest)) {
-                byte[] content = s3Object.readAllBytes();
-                log.info("File retrieved as bytes from S3: {}", fileUrl);
-                return content;
+        } catch (S3Exception e) {
+            switch (e.statusCode()) {
+                case 304 -> {
+                    return FileDownloadDTO.builder()
+                            .status(HttpStatus.NOT_MODIFIED)
+                            .fileName(fileName)
+                            .etag(ifNoneMatch)
+                            .build();
+                }
+                case 412 -> {
+                    // The object changed since the client's partial download; send it again in full
+                    log.info("If-Range did not match for {}, serving the full object", fileUrl);
+                    return openDownload(fileUrl, fileName, null, ifNoneMatch, null);
+                }
+                case 416 -> {
+                    return FileDownloadDTO.builder()
+                            .status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                            .fileName(fileName)
+                            .totalLength(s3Client.headObject(HeadObjectRequest.builder()
+                                    .bucket(bucketName)
+                                    .key(fileKey)
+                                    .build()).contentLength())
+                            .build();
+                }
+                case 404 -> {
+                    return FileDownloadDTO.builder()
+                            .status(HttpStatus.NOT_FOUND)
+                            .fileName(fileName)
+                            .build();
+                }
+                default -> {
+                    log.error("S3 service error while streaming file: {}", fileUrl, e);
+                    throw new RuntimeException("S3 service error: " + e.getMessage(), e);
+                }
             }
-            
-        } catch (IOException e) {
-            log.error("IO error while getting file as bytes from S3: {}", fileUrl, e);
-            throw new RuntimeException("IO error during file retrieval", e);
         } catch (AwsServiceException e) {
-            log.error("AWS service error while getting file as bytes: {}", fileUrl, e);
-            throw new RuntimeException("AWS service error during file retrieval", e);
+            log.error("AWS service error while streaming file: {}", fileUrl, e);
+            throw new RuntimeException("AWS service error during file download", e);
         } catch (SdkClientException e) {
-            log.error("SDK client error while getting file as bytes: {}", fileUrl, e);
-            throw new RuntimeException("SDK client error during file retrieval", e);
+            log.error("SDK client error while streaming file: {}", fileUrl, e);
+            throw new RuntimeException("SDK client error during file download", e);
         }
     }
 
@@ -284,6 +1007,18 @@ public class S3ServiceImpl implements S3Service {
 
         try {
             String fileKey = extractKeyFromUrl(fileUrl);
+            String cacheKey = fileKey + "|" + expirationMinutes;
+            Instant now = Instant.now();
+
+            synchronized (presignedUrlCache) {
+                CachedPresignedUrl cached = presignedUrlCache.get(cacheKey);
+                if (cached != null && now.isBefore(cached.reuseUntil())) {
+                    presignedUrlCacheHits.incrementAndGet();
+                    log.debug("Presigned URL cache hit for file: {}", fileUrl);
+                    return cached.url();
+                }
+            }
+            presignedUrlCacheMisses.incrementAndGet();
             
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                     .bucket(bucketName)
@@ -297,6 +1032,13 @@ public class S3ServiceImpl implements S3Service {
 
             PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
             String presignedUrl = presignedRequest.url().toString();
+
+            // Stop handing the URL out once less than the safety margin of its lifetime is left
+            long marginMinutes = Math.min(presignedUrlSafetyMarginMinutes, expirationMinutes / 2);
+            Instant reuseUntil = presignedRequest.expiration().minus(Duration.ofMinutes(marginMinutes));
+            synchronized (presignedUrlCache) {
+                presignedUrlCache.put(cacheKey, new CachedPresignedUrl(presignedUrl, reuseUntil));
+            }
             
             log.info("Generated presigned URL for file: {}", fileUrl);
             return presignedUrl;
@@ -312,4 +1054,323 @@ public class S3ServiceImpl implements S3Service {
             throw new RuntimeException("Unexpected error during presigned URL generation", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<String, Long> getPresignedUrlCacheStats() {
+        long size;
+        synchronized (presignedUrlCache) {
+            size = presignedUrlCache.size();
+        }
+        return Map.of(
+                "hits", presignedUrlCacheHits.get(),
+                "misses", presignedUrlCacheMisses.get(),
+                "size", size);
+    }
+
+    @Override
+    public DirectUploadDTO createDirectUpload(String keyPrefix, Long targetId, String fileName, String contentType,
+            long fileSize) {
+        if (fileSize <= 0) {
+            throw new IllegalArgumentException("File size must be greater than 0");
+        }
+        if (fileSize > directUploadMaxFileSize) {
+            throw new IllegalArgumentException("File size exceeds maximum allowed size of " + directUploadMaxFileSize + " bytes");
+        }
+        if (!bucketAvailable) {
+            throw new RuntimeException("Bucket does not exist or is not accessible: " + bucketName);
+        }
+
+        String fileKey = generateFileKey(keyPrefix, fileName);
+        String resolvedContentType = contentType != null && !contentType.isBlank() ? contentType : "application/octet-stream";
+        Duration signatureDuration = Duration.ofMinutes(directUploadUrlExpirationMinutes);
+        Instant expiresAt = Instant.now().plus(signatureDuration);
+
+        try {
+            if (fileSize < multipartThresholdBytes) {
+                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(fileKey)
+                        .contentType(resolvedContentType)
+                        .contentLength(fileSize)
+                        .build();
+
+                PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                        .signatureDuration(signatureDuration)
+                        .putObjectRequest(putObjectRequest)
+                        .build());
+
+                recordDirectUpload(fileKey, null, keyPrefix, targetId, expiresAt);
+                log.info("Issued presigned PUT for key: {} ({} bytes)", fileKey, fileSize);
+                return DirectUploadDTO.builder()
+                        .fileKey(fileKey)
+                        .contentType(resolvedContentType)
+                        .uploadUrl(presignedRequest.url().toString())
+                        .expiresAt(expiresAt)
+                        .build();
+            }
+
+            // Grow the part size for very large files so the upload stays within S3's part count limit
+            long partSize = Math.max(multipartPartSizeBytes, (fileSize + MAX_PART_COUNT - 1) / MAX_PART_COUNT);
+            int partCount = (int) ((fileSize + partSize - 1) / partSize);
+
+            String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileKey)
+                    .contentType(resolvedContentType)
+                    .build()).uploadId();
+
+            recordDirectUpload(fileKey, uploadId, keyPrefix, targetId, expiresAt);
+
+            List<Integer> partNumbers = new ArrayList<>(partCount);
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                partNumbers.add(partNumber);
+            }
+
+            log.info("Issued presigned multipart upload {} for key: {} ({} bytes, {} parts)",
+                    uploadId, fileKey, fileSize, partCount);
+            return DirectUploadDTO.builder()
+                    .fileKey(fileKey)
+                    .contentType(resolvedContentType)
+                    .uploadId(uploadId)
+                    .partSize(partSize)
+                    .parts(presignParts(fileKey, uploadId, partNumbers, signatureDuration))
+                    .expiresAt(expiresAt)
+                    .build();
+
+        } catch (AwsServiceException e) {
+            log.error("AWS service error while creating direct upload for: {}", fileName, e);
+            throw new RuntimeException("AWS service error during direct upload creation", e);
+        } catch (SdkClientException e) {
+            log.error("SDK client error while creating direct upload for: {}", fileName, e);
+            throw new RuntimeException("SDK client error during direct upload creation", e);
+        }
+    }
+
+    private void recordDirectUpload(String fileKey, String uploadId, String keyPrefix, Long targetId, Instant expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        directUploadRepository.save(DirectUpload.builder()
+                .fileKey(fileKey)
+                .uploadId(uploadId)
+                .keyPrefix(keyPrefix)
+                .targetId(targetId)
+                .confirmBy(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())
+                        .plusMinutes(directUploadConfirmGraceMinutes))
+                .createdAt(now)
+                .build());
+    }
+
+    // Part operations are only allowed on multipart uploads this server issued and nobody has confirmed yet
+    private DirectUpload requireIssuedUpload(String fileKey, String uploadId) {
+        return directUploadRepository.findByFileKeyAndUploadId(fileKey, uploadId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload not found: " + uploadId));
+    }
+
+    @Override
+    public List<DirectUploadDTO.Part> presignUploadParts(String fileKey, String uploadId, List<Integer> partNumbers) {
+        if (fileKey == null || uploadId == null || partNumbers == null || partNumbers.isEmpty()) {
+            throw new IllegalArgumentException("File key, upload ID and part numbers are required");
+        }
+        requireIssuedUpload(fileKey, uploadId);
+        for (Integer partNumber : partNumbers) {
+            if (partNumber == null || partNumber < 1 || partNumber > MAX_PART_COUNT) {
+                throw new IllegalArgumentException("Part numbers must be between 1 and " + MAX_PART_COUNT);
+            }
+        }
+
+        try {
+            return presignParts(fileKey, uploadId, partNumbers, Duration.ofMinutes(directUploadUrlExpirationMinutes));
+        } catch (SdkClientException e) {
+            log.error("SDK client error while presigning parts of upload {}", uploadId, e);
+            throw new RuntimeException("SDK client error during presigned URL generation", e);
+        }
+    }
+
+    @Override
+    public List<DirectUploadDTO.Part> listUploadedParts(String fileKey, String uploadId) {
+        if (fileKey == null || uploadId == null) {
+            throw new IllegalArgumentException("File key and upload ID are required");
+        }
+        requireIssuedUpload(fileKey, uploadId);
+
+        try {
+            List<DirectUploadDTO.Part> uploadedParts = new ArrayList<>();
+            ListPartsRequest listPartsRequest = ListPartsRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileKey)
+                    .uploadId(uploadId)
+                    .build();
+
+            for (Part part : s3Client.listPartsPaginator(listPartsRequest).parts()) {
+                uploadedParts.add(DirectUploadDTO.Part.builder()
+                        .partNumber(part.partNumber())
+                        .etag(part.eTag())
+                        .size(part.size())
+                        .build());
+            }
+            return uploadedParts;
+
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new IllegalArgumentException("Upload not found: " + uploadId);
+            }
+            log.error("S3 service error while listing parts of upload {}", uploadId, e);
+            throw new RuntimeException("S3 service error: " + e.getMessage(), e);
+        } catch (AwsServiceException e) {
+            log.error("AWS service error while listing parts of upload {}", uploadId, e);
+            throw new RuntimeException("AWS service error while listing uploaded parts", e);
+        } catch (SdkClientException e) {
+            log.error("SDK client error while listing parts of upload {}", uploadId, e);
+            throw new RuntimeException("SDK client error while listing uploaded parts", e);
+        }
+    }
+
+    /**
+     * Completes an upload issued for this kind of file and target. The issued upload is consumed in the
+     * caller's transaction, so a confirmation that fails can be retried and one that succeeds cannot be repeated.
+     */
+    @Override
+    public String completeDirectUpload(String keyPrefix, Long targetId, ConfirmDirectUploadDTO confirmDTO) {
+        String fileKey = confirmDTO.getFileKey();
+        if (fileKey == null || fileKey.isBlank()) {
+            throw new IllegalArgumentException("File key is required");
+        }
+        DirectUpload issued = directUploadRepository.findByFileKey(fileKey)
+                .filter(upload -> upload.getKeyPrefix().equals(keyPrefix) && upload.getTargetId().equals(targetId))
+                .orElseThrow(() -> new IllegalArgumentException("File key was not issued for this upload: " + fileKey));
+        if (!Objects.equals(issued.getUploadId(), confirmDTO.getUploadId())) {
+            throw new IllegalArgumentException("Upload ID does not match the issued upload");
+        }
+        if (directUploadRepository.deleteIssued(issued.getId()) == 0) {
+            throw new IllegalArgumentException("Upload has already been confirmed or has expired: " + fileKey);
+        }
+
+        try {
+            if (confirmDTO.getUploadId() != null) {
+                if (confirmDTO.getParts() == null || confirmDTO.getParts().isEmpty()) {
+                    throw new IllegalArgumentException("Uploaded parts are required to complete a multipart upload");
+                }
+
+                if (confirmDTO.getParts().stream().anyMatch(part -> part.getPartNumber() == null || part.getEtag() == null)) {
+                    throw new IllegalArgumentException("Every uploaded part needs a part number and ETag");
+                }
+
+                List<CompletedPart> completedParts = confirmDTO.getParts().stream()
+                        .sorted(Comparator.comparing(DirectUploadDTO.Part::getPartNumber))
+                        .map(part -> CompletedPart.builder()
+                                .partNumber(part.getPartNumber())
+                                .eTag(part.getEtag())
+                                .build())
+                        .toList();
+
+                s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(fileKey)
+                        .uploadId(confirmDTO.getUploadId())
+                        .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                        .build());
+                log.info("Completed multipart upload {} for key: {}", confirmDTO.getUploadId(), fileKey);
+            }
+
+            HeadObjectResponse object = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileKey)
+                    .build());
+
+            if (object.contentLength() > directUploadMaxFileSize) {
+                s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucketName).key(fileKey).build());
+                throw new IllegalArgumentException("File size exceeds maximum allowed size of " + directUploadMaxFileSize + " bytes");
+            }
+
+            log.info("Confirmed direct upload for key: {} ({} bytes)", fileKey, object.contentLength());
+            return buildFileUrl(fileKey);
+
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404 || e.statusCode() == 400) {
+                throw new IllegalArgumentException("Uploaded file not found or incomplete: " + fileKey, e);
+            }
+            log.error("S3 service error while confirming upload for key: {}", fileKey, e);
+            throw new RuntimeException("S3 service error: " + e.getMessage(), e);
+        } catch (AwsServiceException e) {
+            log.error("AWS service error while confirming upload for key: {}", fileKey, e);
+            throw new RuntimeException("AWS service error during upload confirmation", e);
+        } catch (SdkClientException e) {
+            log.error("SDK client error while confirming upload for key: {}", fileKey, e);
+            throw new RuntimeException("SDK client error during upload confirmation", e);
+        }
+    }
+
+    @Override
+    public void abortDirectUpload(String fileKey, String uploadId) {
+        if (fileKey == null || uploadId == null) {
+            throw new IllegalArgumentException("File key and upload ID are required");
+        }
+        DirectUpload issued = requireIssuedUpload(fileKey, uploadId);
+        if (directUploadRepository.deleteIssued(issued.getId()) == 1) {
+            abortMultipartUpload(fileKey, uploadId);
+        }
+    }
+
+    @Override
+    public int expireDirectUploads() {
+        List<DirectUpload> expired = directUploadRepository.findByConfirmByBefore(LocalDateTime.now(),
+                PageRequest.of(0, deletionBatchSize));
+
+        int discarded = 0;
+        for (DirectUpload upload : expired) {
+            Boolean claimed = requiresNewTransaction.execute(status -> {
+                if (directUploadRepository.deleteIssued(upload.getId()) == 0) {
+                    return false; // Confirmed in the meantime
+                }
+                if (upload.getUploadId() == null) {
+                    // The client may have PUT the object without ever confirming it
+                    s3DeletionTaskRepository.save(newDeletionTask(upload.getFileKey(), LocalDateTime.now()));
+                }
+                return true;
+            });
+            if (Boolean.TRUE.equals(claimed)) {
+                if (upload.getUploadId() != null) {
+                    abortMultipartUpload(upload.getFileKey(), upload.getUploadId());
+                }
+                discarded++;
+            }
+        }
+
+        if (discarded > 0) {
+            log.info("Discarded {} direct upload(s) that were never confirmed", discarded);
+        }
+        return discarded;
+    }
+
+    private List<DirectUploadDTO.Part> presignParts(String fileKey, String uploadId, List<Integer> partNumbers,
+            Duration signatureDuration) {
+        List<DirectUploadDTO.Part> parts = new ArrayList<>(partNumbers.size());
+        for (Integer partNumber : partNumbers) {
+            UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileKey)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber)
+                    .build();
+
+            PresignedUploadPartRequest presignedRequest = s3Presigner.presignUploadPart(UploadPartPresignRequest.builder()
+                    .signatureDuration(signatureDuration)
+                    .uploadPartRequest(uploadPartRequest)
+                    .build());
+
+            parts.add(DirectUploadDTO.Part.builder()
+                    .partNumber(partNumber)
+                    .uploadUrl(presignedRequest.url().toString())
+                    .build());
+        }
+        return parts;
+    }
+
+    private record CachedPresignedUrl(String url, Instant reuseUntil) {
+    }
+
+    private enum SharedObjectClaim {
+        UPLOAD,
+        SHARED,
+        UNAVAILABLE
+    }
+}
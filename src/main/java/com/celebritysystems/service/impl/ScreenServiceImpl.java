@@ -20,9 +20,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -30,6 +36,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class ScreenServiceImpl implements ScreenService {
+    private static final String CONNECTION_FILE_KEY_PREFIX = "screen-files/connection";
+    private static final String CONFIG_FILE_KEY_PREFIX = "screen-files/config";
+    private static final String VERSION_FILE_KEY_PREFIX = "screen-files/version";
+
     private final ScreenRepository screenRepository;
     private final ModuleRepository moduleRepository;
     private final CabinRepository cabinRepository;
@@ -212,22 +222,25 @@ public class ScreenServiceImpl implements ScreenService {
         screen.setHubQuantity(dto.getHubQuantity());
         screen.setSpareHubQuantity(dto.getSpareHubQuantity());
 
-        // File Upload Fields
-        if (dto.getConnectionFile() != null && !dto.getConnectionFile().isEmpty()) {
-            String connectionUrl = s3Service.uploadFile(dto.getConnectionFile(), "screen-files/connection");
-            screen.setConnectionFileUrl(connectionUrl);
+        // File Upload Fields (uploaded concurrently; all are removed again if one fails)
+        Map<String, MultipartFile> files = new HashMap<>();
+        files.put(CONNECTION_FILE_KEY_PREFIX, dto.getConnectionFile());
+        files.put(CONFIG_FILE_KEY_PREFIX, dto.getConfigFile());
+        files.put(VERSION_FILE_KEY_PREFIX, dto.getVersionFile());
+        Map<String, String> fileUrls = s3Service.uploadFiles(files);
+
+        if (fileUrls.containsKey(CONNECTION_FILE_KEY_PREFIX)) {
+            screen.setConnectionFileUrl(fileUrls.get(CONNECTION_FILE_KEY_PREFIX));
             screen.setConnectionFileName(dto.getConnectionFile().getOriginalFilename());
         }
 
-        if (dto.getConfigFile() != null && !dto.getConfigFile().isEmpty()) {
-            String configUrl = s3Service.uploadFile(dto.getConfigFile(), "screen-files/config");
-            screen.setConfigFileUrl(configUrl);
+        if (fileUrls.containsKey(CONFIG_FILE_KEY_PREFIX)) {
+            screen.setConfigFileUrl(fileUrls.get(CONFIG_FILE_KEY_PREFIX));
             screen.setConfigFileName(dto.getConfigFile().getOriginalFilename());
         }
 
-        if (dto.getVersionFile() != null && !dto.getVersionFile().isEmpty()) {
-            String versionUrl = s3Service.uploadFile(dto.getVersionFile(), "screen-files/version");
-            screen.setVersionFileUrl(versionUrl);
+        if (fileUrls.containsKey(VERSION_FILE_KEY_PREFIX)) {
+            screen.setVersionFileUrl(fileUrls.get(VERSION_FILE_KEY_PREFIX));
             screen.setVersionFileName(dto.getVersionFile().getOriginalFilename());
         }
 
@@ -333,12 +346,71 @@ public class ScreenServiceImpl implements ScreenService {
     }
 
     @Override
+    @Transactional
     public void deleteScreen(Long id) {
-        if (!screenRepository.existsById(id)) {
-            // Or throw a custom exception
-            throw new RuntimeException("Screen not found with id: " + id);
+        Screen screen = screenRepository.findById(id)
+                // Or throw a custom exception
+                .orElseThrow(() -> new RuntimeException("Screen not found with id: " + id));
+        screenRepository.delete(screen);
+        s3Service.enqueueDeletion(Arrays.asList(
+                screen.getConnectionFileUrl(), screen.getConfigFileUrl(), screen.getVersionFileUrl()));
+    }
+
+    @Override
+    public DirectUploadDTO createScreenFileUpload(Long screenId, String fileType, DirectUploadRequestDTO uploadRequest) {
+        String keyPrefix = screenFileKeyPrefix(fileType);
+        if (!screenRepository.existsById(screenId)) {
+            throw new IllegalArgumentException("Screen not found with id: " + screenId);
         }
-        screenRepository.deleteById(id);
+        if (uploadRequest.getFileSize() == null) {
+            throw new IllegalArgumentException("File size is required");
+        }
+
+        return s3Service.createDirectUpload(keyPrefix, screenId, uploadRequest.getFileName(),
+                uploadRequest.getContentType(), uploadRequest.getFileSize());
+    }
+
+    @Override
+    @Transactional
+    public ScreenResponse confirmScreenFileUpload(Long screenId, String fileType, ConfirmDirectUploadDTO confirmDTO) {
+        String keyPrefix = screenFileKeyPrefix(fileType);
+        Screen screen = screenRepository.findById(screenId)
+                .orElseThrow(() -> new IllegalArgumentException("Screen not found with id: " + screenId));
+
+        String fileUrl = s3Service.completeDirectUpload(keyPrefix, screenId, confirmDTO);
+        String replacedFileUrl = switch (fileType.toLowerCase()) {
+            case "connection" -> screen.getConnectionFileUrl();
+            case "config" -> screen.getConfigFileUrl();
+            default -> screen.getVersionFileUrl();
+        };
+        s3Service.enqueueDeletion(Collections.singletonList(replacedFileUrl));
+        switch (fileType.toLowerCase()) {
+            case "connection" -> {
+                screen.setConnectionFileUrl(fileUrl);
+                screen.setConnectionFileName(confirmDTO.getFileName());
+            }
+            case "config" -> {
+                screen.setConfigFileUrl(fileUrl);
+                screen.setConfigFileName(confirmDTO.getFileName());
+            }
+            case "version" -> {
+                screen.setVersionFileUrl(fileUrl);
+                screen.setVersionFileName(confirmDTO.getFileName());
+            }
+        }
+        screenRepository.save(screen);
+
+        log.info("Attached directly uploaded {} file to screen ID: {}", fileType, screenId);
+        return getScreenById(screenId).orElseThrow();
+    }
+
+    private String screenFileKeyPrefix(String fileType) {
+        return switch (fileType == null ? "" : fileType.toLowerCase()) {
+            case "connection" -> CONNECTION_FILE_KEY_PREFIX;
+            case "config" -> CONFIG_FILE_KEY_PREFIX;
+            case "version" -> VERSION_FILE_KEY_PREFIX;
+            default -> throw new IllegalArgumentException("Invalid file type: " + fileType);
+        };
     }
 
     @Override
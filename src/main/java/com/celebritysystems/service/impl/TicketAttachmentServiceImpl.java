@@ -2,6 +2,9 @@ package com.celebritysystems.service.impl;
 
 import com.celebritysystems.dto.TicketAttachmentDTO;
 import com.celebritysystems.dto.CreateTicketAttachmentDTO;
+import com.celebritysystems.dto.ConfirmAttachmentUploadDTO;
+import com.celebritysystems.dto.DirectUploadDTO;
+import com.celebritysystems.dto.DirectUploadRequestDTO;
 import com.celebritysystems.entity.Ticket;
 import com.celebritysystems.entity.TicketAttachment;
 import com.celebritysystems.entity.User;
@@ -12,13 +15,16 @@ import com.celebritysystems.service.TicketAttachmentService;
 import com.celebritysystems.service.S3Service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 
 @Service
 @RequiredArgsConstructor
 public class TicketAttachmentServiceImpl implements TicketAttachmentService {
+    private static final String ATTACHMENT_KEY_PREFIX = "ticket-attachments";
 
     private final TicketAttachmentRepository ticketAttachmentRepository;
     private final TicketRepository ticketRepository;
@@ -40,7 +46,7 @@ public class TicketAttachmentServiceImpl implements TicketAttachmentService {
         User uploadedBy = userRepository.findById(dto.getUploadedBy())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        String fileUrl = s3Service.uploadFile(dto.getFilePath(), "ticket-attachments");
+        String fileUrl = s3Service.uploadFile(dto.getFilePath(), ATTACHMENT_KEY_PREFIX);
 
         TicketAttachment attachment = TicketAttachment.builder()
                 .ticket(ticket)
@@ -54,15 +60,52 @@ public class TicketAttachmentServiceImpl implements TicketAttachmentService {
     }
 
     @Override
+    public DirectUploadDTO createAttachmentUpload(Long ticketId, DirectUploadRequestDTO uploadRequest) {
+        if (ticketId == null || !ticketRepository.existsById(ticketId)) {
+            throw new IllegalArgumentException("Ticket not found");
+        }
+        if (uploadRequest.getFileSize() == null) {
+            throw new IllegalArgumentException("File size is required");
+        }
+
+        return s3Service.createDirectUpload(ATTACHMENT_KEY_PREFIX, ticketId, uploadRequest.getFileName(),
+                uploadRequest.getContentType(), uploadRequest.getFileSize());
+    }
+
+    @Override
+    @Transactional
+    public TicketAttachmentDTO confirmAttachmentUpload(ConfirmAttachmentUploadDTO confirmDTO) {
+        if (confirmDTO.getTicketId() == null || confirmDTO.getUploadedBy() == null) {
+            throw new IllegalArgumentException("Ticket ID and uploader are required");
+        }
+
+        Ticket ticket = ticketRepository.findById(confirmDTO.getTicketId())
+                .orElseThrow(() -> new IllegalArgumentException("Ticket not found"));
+
+        User uploadedBy = userRepository.findById(confirmDTO.getUploadedBy())
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        String fileUrl = s3Service.completeDirectUpload(ATTACHMENT_KEY_PREFIX, ticket.getId(), confirmDTO);
+
+        TicketAttachment attachment = TicketAttachment.builder()
+                .ticket(ticket)
+                .fileUrl(fileUrl)
+                .fileName(confirmDTO.getFileName())
+                .note(confirmDTO.getNote())
+                .uploadedBy(uploadedBy)
+                .build();
+
+        return toDTO(ticketAttachmentRepository.save(attachment));
+    }
+
+    @Override
+    @Transactional
     public void deleteAttachment(Long id) {
         TicketAttachment attachment = ticketAttachmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Attachment not found"));
         
-        if (attachment.getFileUrl() != null) {
-            s3Service.deleteFile(attachment.getFileUrl());
-        }
-        
         ticketAttachmentRepository.deleteById(id);
+        s3Service.enqueueDeletion(Collections.singletonList(attachment.getFileUrl()));
     }
 
     private TicketAttachmentDTO toDTO(TicketAttachment attachment) {
@@ -0,0 +1,195 @@
+package com.celebritysystems.service.impl;
+
+import com.celebritysystems.dto.TicketEventDTO;
+import com.celebritysystems.entity.Ticket;
+import com.celebritysystems.entity.User;
+import com.celebritysystems.entity.enums.RoleInSystem;
+import com.celebritysystems.entity.enums.TicketStatus;
+import com.celebritysystems.repository.UserRepository;
+import com.celebritysystems.service.TicketEventService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes ticket changes to SSE subscribers. Events are published after the ticket transaction commits
+ * and fanned out on a single background thread, so a slow client never holds up a ticket write.
+ */
+@Slf4j
+@Service
+public class TicketEventServiceImpl implements TicketEventService {
+
+    private final UserRepository userRepository;
+    private final ThreadPoolExecutor executor;
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    @Value("${tickets.events.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${tickets.events.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    public TicketEventServiceImpl(UserRepository userRepository,
+                                  @Value("${tickets.events.queue-capacity:1000}") int queueCapacity) {
+        this.userRepository = userRepository;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ticket-events");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId, Set<String> roles) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many ticket event subscribers");
+        }
+
+        Subscriber subscriber = resolveScope(userId, roles);
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber registered = new Subscriber(emitter, subscriber.userId(), subscriber.companyId(),
+                subscriber.seesAll());
+
+        emitter.onCompletion(() -> subscribers.remove(registered));
+        emitter.onTimeout(() -> subscribers.remove(registered));
+        emitter.onError(e -> subscribers.remove(registered));
+        subscribers.add(registered);
+
+        log.info("User {} subscribed to ticket events ({} subscribers)", userId, subscribers.size());
+        return emitter;
+    }
+
+    @Override
+    public void publish(TicketEventDTO.EventType eventType, Ticket ticket, TicketStatus previousStatus,
+            User previousWorker) {
+        // Snapshot the ticket now; it is only sent once the transaction has committed
+        TicketEventDTO event = TicketEventDTO.builder()
+                .eventType(eventType)
+                .ticketId(ticket.getId())
+                .title(ticket.getTitle())
+                .status(ticket.getStatus() != null ? ticket.getStatus().name() : null)
+                .previousStatus(previousStatus != null ? previousStatus.name() : null)
+                .assignedToWorkerId(ticket.getAssignedToWorker() != null ? ticket.getAssignedToWorker().getId() : null)
+                .previousAssignedToWorkerId(previousWorker != null ? previousWorker.getId() : null)
+                .companyId(ticket.getCompany() != null ? ticket.getCompany().getId() : null)
+                .screenId(ticket.getScreen() != null ? ticket.getScreen().getId() : null)
+                .occurredAt(LocalDateTime.now())
+                .build();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(event);
+            }
+        });
+    }
+
+    @Override
+    public void sendHeartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                for (Subscriber subscriber : subscribers) {
+                    send(subscriber, SseEmitter.event().comment("heartbeat"));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Ticket event queue is full, skipping heartbeat");
+        }
+    }
+
+    private void dispatch(TicketEventDTO event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.canSee(event)) {
+                        send(subscriber, SseEmitter.event()
+                                .name(event.getEventType().name())
+                                .data(event));
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Ticket event queue is full, dropping {} event for ticket ID: {}",
+                    event.getEventType(), event.getTicketId());
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter().send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the emitter callbacks may not fire until the next write fails
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+        }
+    }
+
+    private Subscriber resolveScope(Long userId, Set<String> roles) {
+        if (roles.contains("ROLE_" + RoleInSystem.ADMIN.name())
+                || roles.contains("ROLE_" + RoleInSystem.SUPERVISOR.name())) {
+            return new Subscriber(null, userId, null, true);
+        }
+
+        if (roles.contains("ROLE_" + RoleInSystem.COMPANY.name())) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + userId));
+            if (user.getCompany() == null) {
+                throw new IllegalArgumentException("User " + userId + " is not linked to a company");
+            }
+            return new Subscriber(null, null, user.getCompany().getId(), false);
+        }
+
+        return new Subscriber(null, userId, null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+        executor.shutdownNow();
+    }
+
+    // Admins and supervisors see every ticket, company users their company's tickets, workers their own
+    private record Subscriber(SseEmitter emitter, Long userId, Long companyId, boolean seesAll) {
+
+        boolean canSee(TicketEventDTO event) {
+            if (seesAll) {
+                return true;
+            }
+            if (companyId != null) {
+                return companyId.equals(event.getCompanyId());
+            }
+            return Objects.equals(userId, event.getAssignedToWorkerId())
+                    || Objects.equals(userId, event.getPreviousAssignedToWorkerId());
+        }
+    }
+}
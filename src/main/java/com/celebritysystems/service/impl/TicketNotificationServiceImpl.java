@@ -0,0 +1,600 @@
+package com.celebritysystems.service.impl;
+
+import com.celebritysystems.dto.OneSignalResponseDTO;
+import com.celebritysystems.dto.TicketResponseDTO;
+import com.celebritysystems.dto.WorkerReportResponseDTO;
+import com.celebritysystems.entity.Ticket;
+import com.celebritysystems.entity.TicketNotificationOutbox;
+import com.celebritysystems.entity.User;
+import com.celebritysystems.entity.enums.TicketStatus;
+import com.celebritysystems.repository.TicketRepository;
+import com.celebritysystems.repository.UserRepository;
+import com.celebritysystems.service.EmailService;
+import com.celebritysystems.service.OneSignalService;
+import com.celebritysystems.service.PdfService;
+import com.celebritysystems.service.TicketNotificationService;
+import com.celebritysystems.service.TicketService;
+import com.celebritysystems.service.WorkerReportService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketNotificationServiceImpl implements TicketNotificationService {
+
+    private final TicketRepository ticketRepository;
+    private final UserRepository userRepository;
+    private final TicketService ticketService;
+    private final WorkerReportService workerReportService;
+    private final OneSignalService oneSignalService;
+    private final EmailService emailService;
+    private final PdfService pdfService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${pdf.render.timeout-seconds:60}")
+    private long pdfRenderTimeoutSeconds;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    // A single push or email, holding only plain values so it can run after the transaction has closed
+    private record Send(String description, Runnable action) {
+    }
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void deliver(TicketNotificationOutbox notification) {
+        // Tickets and recipients are read in a short transaction; OneSignal, SMTP and PDF rendering can take
+        // minutes and must not hold a pooled connection while they do
+        List<Send> sends = readOnlyTransaction.execute(status -> prepareSends(notification));
+
+        // Every push and email is attempted before failing, so one provider being down does not hold back the other
+        List<Exception> failures = new ArrayList<>();
+        for (Send send : sends) {
+            try {
+                send.action().run();
+            } catch (RuntimeException e) {
+                log.error("Failed to send {}: {}", send.description(), e.getMessage());
+                failures.add(e);
+            }
+        }
+        throwIfAnyFailed(notification, failures);
+    }
+
+    private List<Send> prepareSends(TicketNotificationOutbox notification) {
+        List<Send> sends = new ArrayList<>();
+        switch (notification.getNotificationType()) {
+            case BULK_TICKET_ASSIGNMENT -> {
+                queueBulkTicketAssignmentNotification(loadRelatedTickets(notification), notification.getCreatedAt(),
+                        sends);
+                return sends;
+            }
+            case BULK_TICKET_STATUS_UPDATE -> {
+                List<Ticket> tickets = loadRelatedTickets(notification);
+                queueBulkTicketStatusUpdateNotificationToCompany(tickets,
+                        summarizePreviousStatuses(tickets, notification.getRelatedPreviousStatuses()),
+                        notification.getNewStatus(), notification.getCreatedAt(), sends);
+                return sends;
+            }
+            default -> {
+            }
+        }
+
+        Ticket ticket = ticketRepository.findById(notification.getTicketId()).orElse(null);
+        if (ticket == null) {
+            log.warn("Skipping {} notification {}: ticket {} no longer exists",
+                    notification.getNotificationType(), notification.getId(), notification.getTicketId());
+            return sends;
+        }
+
+        switch (notification.getNotificationType()) {
+            case TICKET_ASSIGNMENT -> queueTicketAssignmentNotification(ticket, notification.getCreatedAt(), sends);
+            case TICKET_STATUS_UPDATE -> queueTicketStatusUpdateNotificationToCompany(ticket,
+                    notification.getPreviousStatus(), notification.getNewStatus(), notification.getCreatedAt(), sends);
+            default -> log.warn("Unhandled notification type {} for notification {}",
+                    notification.getNotificationType(), notification.getId());
+        }
+        return sends;
+    }
+
+    private void throwIfAnyFailed(TicketNotificationOutbox notification, List<Exception> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        String messages = failures.stream().map(Exception::getMessage).collect(Collectors.joining("; "));
+        RuntimeException failure = new RuntimeException(String.format("%d send(s) for %s notification %d failed: %s",
+                failures.size(), notification.getNotificationType(), notification.getId(), messages), failures.get(0));
+        failures.stream().skip(1).forEach(failure::addSuppressed);
+        throw failure;
+    }
+
+    private List<Ticket> loadRelatedTickets(TicketNotificationOutbox notification) {
+        String relatedIds = notification.getRelatedTicketIds() != null
+                ? notification.getRelatedTicketIds()
+                : notification.getTicketId().toString();
+
+        List<Long> ticketIds = Arrays.stream(relatedIds.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+
+        return ticketRepository.findByIdInWithAssociations(ticketIds);
+    }
+
+    /**
+     * Groups the tickets by the status they had before the bulk update, e.g. "OPEN (3), IN_PROGRESS (2)", or just
+     * the status when they all shared it. Counts only tickets that still exist.
+     */
+    private String summarizePreviousStatuses(List<Ticket> tickets, String relatedPreviousStatuses) {
+        if (relatedPreviousStatuses == null) {
+            return "Unknown"; // Queued before previous statuses were recorded
+        }
+
+        Map<Long, String> previousByTicket = new HashMap<>();
+        for (String pair : relatedPreviousStatuses.split(",")) {
+            int separator = pair.indexOf(':');
+            if (separator > 0) {
+                previousByTicket.put(Long.valueOf(pair.substring(0, separator).trim()),
+                        pair.substring(separator + 1).trim());
+            }
+        }
+
+        Map<String, Long> counts = tickets.stream()
+                .map(ticket -> previousByTicket.getOrDefault(ticket.getId(), "No Status"))
+                .collect(Collectors.groupingBy(status -> status, LinkedHashMap::new, Collectors.counting()));
+        if (counts.size() == 1) {
+            return counts.keySet().iterator().next();
+        }
+
+        return counts.entrySet().stream()
+                .map(entry -> entry.getKey() + " (" + entry.getValue() + ")")
+                .collect(Collectors.joining(", "));
+    }
+
+    private void queueBulkTicketAssignmentNotification(List<Ticket> tickets, LocalDateTime assignedAt,
+            List<Send> sends) {
+        // Tickets may have been reassigned again since the bulk update; notify whoever holds them now
+        Map<User, List<Ticket>> ticketsByWorker = tickets.stream()
+                .filter(ticket -> ticket.getAssignedToWorker() != null)
+                .collect(Collectors.groupingBy(Ticket::getAssignedToWorker, LinkedHashMap::new, Collectors.toList()));
+
+        if (ticketsByWorker.isEmpty()) {
+            log.warn("Cannot send bulk assignment notification: none of {} tickets has an assigned worker",
+                    tickets.size());
+            return;
+        }
+
+        ticketsByWorker.forEach((worker, workerTickets) -> {
+            if (workerTickets.size() == 1) {
+                queueTicketAssignmentNotification(workerTickets.get(0), assignedAt, sends);
+                return;
+            }
+
+            String workerName = worker.getFullName();
+            String playerId = worker.getPlayerId();
+            String workerEmail = worker.getEmail();
+            int ticketCount = workerTickets.size();
+            String ticketTitles = joinTicketTitles(workerTickets, "\n");
+            String title = "New Tickets Assigned";
+            String message = String.format("Hi %s, %d new tickets have been assigned to you.",
+                    workerName, ticketCount);
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("ticketIds", joinTicketIds(workerTickets));
+            data.put("ticketTitles", joinTicketTitles(workerTickets, ", "));
+            data.put("ticketCount", String.valueOf(ticketCount));
+            data.put("assignedAt", assignedAt != null ? assignedAt.toString() : LocalDateTime.now().toString());
+            data.put("notificationType", "BULK_TICKET_ASSIGNMENT");
+
+            if (playerId != null && !playerId.trim().isEmpty()) {
+                sends.add(new Send("bulk push notification to worker " + workerName, () -> {
+                    if (requireDelivered(oneSignalService.sendWithData(title, message, data, List.of(playerId)))) {
+                        log.info("Bulk push notification sent to worker {} for {} tickets", workerName, ticketCount);
+                    }
+                }));
+            } else {
+                log.warn("Cannot send bulk push notification: Worker {} has no playerId", workerName);
+            }
+
+            if (workerEmail != null && !workerEmail.trim().isEmpty()) {
+                sends.add(new Send("bulk email to worker " + workerName, () -> {
+                    emailService.sendTicketAssignmentEmail(workerEmail, workerName,
+                            String.format("%d tickets", ticketCount), ticketTitles, data);
+                    log.info("Bulk email notification sent to worker {} ({}) for {} tickets",
+                            workerName, workerEmail, ticketCount);
+                }));
+            } else {
+                log.warn("Cannot send bulk email: Worker {} has no email", workerName);
+            }
+        });
+    }
+
+    private void queueBulkTicketStatusUpdateNotificationToCompany(List<Ticket> tickets, String previousStatusSummary,
+            TicketStatus newStatus, LocalDateTime updatedAt, List<Send> sends) {
+        if (tickets.isEmpty()) {
+            log.warn("Skipping bulk status update notification: tickets no longer exist");
+            return;
+        }
+
+        Ticket first = tickets.get(0);
+        if (first.getCompany() == null) {
+            log.warn("Cannot send bulk company notification: Ticket {} has no associated company", first.getId());
+            return;
+        }
+
+        String companyName = first.getCompany().getName();
+        List<User> companyUsers = userRepository.findByCompanyId(first.getCompany().getId());
+        if (companyUsers.isEmpty()) {
+            log.warn("No users found for company {} for bulk status update", companyName);
+            return;
+        }
+
+        List<String> playerIds = companyUsers.stream()
+                .map(User::getPlayerId)
+                .filter(playerId -> playerId != null && !playerId.trim().isEmpty())
+                .collect(Collectors.toList());
+
+        List<String> emails = companyUsers.stream()
+                .map(User::getEmail)
+                .filter(email -> email != null && !email.trim().isEmpty())
+                .collect(Collectors.toList());
+
+        int ticketCount = tickets.size();
+        String newStatusStr = newStatus != null ? newStatus.name() : "No Status";
+        String title = "Tickets Status Updated";
+        String message = String.format("%d tickets changed status from %s to %s", ticketCount,
+                previousStatusSummary, newStatusStr);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("ticketIds", joinTicketIds(tickets));
+        data.put("ticketTitles", joinTicketTitles(tickets, ", "));
+        data.put("ticketCount", String.valueOf(ticketCount));
+        data.put("previousStatus", previousStatusSummary);
+        data.put("newStatus", newStatusStr);
+        data.put("updatedAt", updatedAt != null ? updatedAt.toString() : LocalDateTime.now().toString());
+        data.put("companyName", companyName);
+        data.put("notificationType", "BULK_TICKET_STATUS_UPDATE");
+
+        if (!playerIds.isEmpty()) {
+            sends.add(new Send("bulk push notification to company users", () -> {
+                if (requireDelivered(oneSignalService.sendWithData(title, message, data, playerIds))) {
+                    log.info("Bulk push notification sent to {} users in company '{}' for {} tickets",
+                            playerIds.size(), companyName, ticketCount);
+                }
+            }));
+        } else {
+            log.warn("No valid playerIds found for company users for bulk status update");
+        }
+
+        if (!emails.isEmpty()) {
+            sends.add(new Send("bulk status update emails to company users", () -> {
+                emailService.sendTicketStatusUpdateEmail(emails, String.format("%d tickets", ticketCount),
+                        previousStatusSummary, newStatusStr, data);
+                log.info("Bulk email notifications sent to {} users in company '{}' for {} tickets",
+                        emails.size(), companyName, ticketCount);
+            }));
+        } else {
+            log.warn("No valid emails found for company users for bulk status update");
+        }
+    }
+    /**
+     * OneSignal reports failures in the response body instead of throwing. A response without a notification id
+     * means nothing was sent; that is final when none of the player ids is subscribed or valid, so it returns
+     * false, and otherwise (including request errors, which the OneSignal service turns into an error response)
+     * it throws so the outbox retries. Partial errors come back with an id and are only logged by the service.
+     */
+    private boolean requireDelivered(OneSignalResponseDTO response) {
+        if (response != null && response.getId() != null && !response.getId().isEmpty()) {
+            return true;
+        }
+        if (response != null && hasNoReachableRecipients(response.getErrors())) {
+            log.warn("Push notification not sent, no subscribed recipients: {}", response.getErrors());
+            return false;
+        }
+        throw new RuntimeException("Failed to send push notification: "
+                + (response != null ? response.getErrors() : "empty response"));
+    }
+
+    // e.g. ["All included players are not subscribed"] or {"invalid_player_ids": [...]}
+    private boolean hasNoReachableRecipients(Object errors) {
+        if (errors instanceof Map<?, ?> errorMap) {
+            return errorMap.containsKey("invalid_player_ids");
+        }
+        if (errors instanceof Collection<?> errorList) {
+            return errorList.stream().anyMatch(error -> String.valueOf(error).contains("not subscribed"));
+        }
+        return false;
+    }
+
+    private String joinTicketIds(List<Ticket> tickets) {
+        return tickets.stream()
+                .map(ticket -> ticket.getId().toString())
+                .collect(Collectors.joining(","));
+    }
+
+    private String joinTicketTitles(List<Ticket> tickets, String delimiter) {
+        return tickets.stream()
+                .map(Ticket::getTitle)
+                .collect(Collectors.joining(delimiter));
+    }
+
+    private void queueTicketAssignmentNotification(Ticket ticket, LocalDateTime assignedAt, List<Send> sends) {
+        if (ticket.getAssignedToWorker() == null) {
+            log.warn("Cannot send notification: No assigned worker for ticket ID: {}", ticket.getId());
+            return;
+        }
+
+        User assignedWorker = ticket.getAssignedToWorker();
+        Long ticketId = ticket.getId();
+        String ticketTitle = ticket.getTitle();
+        String ticketDescription = ticket.getDescription();
+        String workerName = assignedWorker.getFullName();
+        String workerEmail = assignedWorker.getEmail();
+        String playerId = assignedWorker.getPlayerId();
+
+        String title = "New Ticket Assigned";
+        String message = String.format("Hi %s, a new ticket '%s' has been assigned to you.",
+                workerName, ticketTitle);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("ticketId", ticketId.toString());
+        data.put("ticketTitle", ticketTitle);
+        data.put("ticketDescription", ticketDescription);
+        data.put("ticketStatus", ticket.getStatus() != null ? ticket.getStatus().name() : "PENDING");
+        data.put("assignedAt", assignedAt != null ? assignedAt.toString() : LocalDateTime.now().toString());
+        data.put("companyName", ticket.getCompany() != null ? ticket.getCompany().getName() : "");
+        data.put("screenName", ticket.getScreen() != null ? ticket.getScreen().getName() : "");
+        data.put("screenLocation", ticket.getScreen() != null ? ticket.getScreen().getLocation() : "");
+        data.put("createdBy", ticket.getCreatedBy() != null ? ticket.getCreatedBy().getFullName() : "");
+        data.put("notificationType", "TICKET_ASSIGNMENT");
+
+        if (playerId != null && !playerId.trim().isEmpty()) {
+            sends.add(new Send("push notification to worker " + workerName, () -> {
+                if (requireDelivered(oneSignalService.sendWithData(title, message, data, List.of(playerId)))) {
+                    log.info("Push notification sent to worker {} (playerId: {}) for ticket ID: {}",
+                            workerName, playerId, ticketId);
+                }
+            }));
+        } else {
+            log.warn("Cannot send push notification: Worker has no playerId for ticket ID: {}", ticketId);
+        }
+
+        if (workerEmail != null && !workerEmail.trim().isEmpty()) {
+            sends.add(new Send("email to worker " + workerName, () -> {
+                emailService.sendTicketAssignmentEmail(workerEmail, workerName, ticketTitle, ticketDescription, data);
+                log.info("Email notification sent to worker {} ({}) for ticket ID: {}",
+                        workerName, workerEmail, ticketId);
+            }));
+        } else {
+            log.warn("Cannot send email: Worker has no email for ticket ID: {}", ticketId);
+        }
+    }
+
+    private void queueTicketStatusUpdateNotificationToCompany(Ticket ticket, TicketStatus previousStatus,
+            TicketStatus newStatus, LocalDateTime updatedAt, List<Send> sends) {
+        // If ticket is being closed/completed, send special completion notification
+        if (newStatus == TicketStatus.CLOSED && previousStatus != TicketStatus.CLOSED) {
+            log.info("Ticket {} is being closed, sending completion notification with PDF", ticket.getId());
+            queueTicketCompletionNotificationToCompany(ticket, sends);
+            return; // Don't send regular status update for completion
+        }
+
+        if (ticket.getCompany() == null) {
+            log.warn("Cannot send company notification: Ticket {} has no associated company", ticket.getId());
+            return;
+        }
+
+        Long ticketId = ticket.getId();
+        String ticketTitle = ticket.getTitle();
+        String companyName = ticket.getCompany().getName();
+        List<User> companyUsers = userRepository.findByCompanyId(ticket.getCompany().getId());
+
+        if (companyUsers.isEmpty()) {
+            log.warn("No users found for company {} for ticket {}", companyName, ticketId);
+            return;
+        }
+
+        List<String> playerIds = companyUsers.stream()
+                .map(User::getPlayerId)
+                .filter(playerId -> playerId != null && !playerId.trim().isEmpty())
+                .collect(Collectors.toList());
+
+        List<String> emails = companyUsers.stream()
+                .map(User::getEmail)
+                .filter(email -> email != null && !email.trim().isEmpty())
+                .collect(Collectors.toList());
+
+        String title = "Ticket Status Updated";
+        String previousStatusStr = previousStatus != null ? previousStatus.name() : "No Status";
+        String newStatusStr = newStatus != null ? newStatus.name() : "No Status";
+
+        String message = String.format("Ticket '%s' status changed from %s to %s",
+                ticketTitle, previousStatusStr, newStatusStr);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("ticketId", ticketId.toString());
+        data.put("ticketTitle", ticketTitle);
+        data.put("ticketDescription", ticket.getDescription());
+        data.put("previousStatus", previousStatusStr);
+        data.put("newStatus", newStatusStr);
+        data.put("updatedAt", updatedAt != null ? updatedAt.toString() : LocalDateTime.now().toString());
+        data.put("companyName", companyName);
+        data.put("screenName", ticket.getScreen() != null ? ticket.getScreen().getName() : "");
+        data.put("screenLocation", ticket.getScreen() != null ? ticket.getScreen().getLocation() : "");
+        data.put("assignedWorker",
+                ticket.getAssignedToWorker() != null ? ticket.getAssignedToWorker().getFullName() : "");
+        data.put("notificationType", "TICKET_STATUS_UPDATE");
+
+        if (!playerIds.isEmpty()) {
+            sends.add(new Send("push notification to company users", () -> {
+                if (requireDelivered(oneSignalService.sendWithData(title, message, data, playerIds))) {
+                    log.info("Push notification sent to {} users in company '{}' for ticket ID: {}",
+                            playerIds.size(), companyName, ticketId);
+                }
+            }));
+        } else {
+            log.warn("No valid playerIds found for company users for ticket {}", ticketId);
+        }
+
+        if (!emails.isEmpty()) {
+            sends.add(new Send("status update emails to company users", () -> {
+                emailService.sendTicketStatusUpdateEmail(emails, ticketTitle, previousStatusStr, newStatusStr, data);
+                log.info("Email notifications sent to {} users in company '{}' for ticket ID: {}",
+                        emails.size(), companyName, ticketId);
+            }));
+        } else {
+            log.warn("No valid emails found for company users for ticket {}", ticketId);
+        }
+    }
+
+    private void queueTicketCompletionNotificationToCompany(Ticket ticket, List<Send> sends) {
+        if (ticket.getCompany() == null) {
+            log.warn("Cannot send completion notification: Ticket {} has no associated company", ticket.getId());
+            return;
+        }
+
+        Long ticketId = ticket.getId();
+        String ticketTitle = ticket.getTitle();
+        String companyName = ticket.getCompany().getName();
+        List<User> companyUsers = userRepository.findByCompanyId(ticket.getCompany().getId());
+
+        if (companyUsers.isEmpty()) {
+            log.warn("No users found for company {} for ticket completion {}", companyName, ticketId);
+            return;
+        }
+
+        List<String> emails = companyUsers.stream()
+                .map(User::getEmail)
+                .filter(email -> email != null && !email.trim().isEmpty())
+                .collect(Collectors.toList());
+
+        if (emails.isEmpty()) {
+            log.warn("No valid emails found for company users for ticket completion {}", ticketId);
+            return;
+        }
+
+        Map<String, Object> ticketData = new HashMap<>();
+        ticketData.put("ticketId", ticketId.toString());
+        ticketData.put("ticketTitle", ticketTitle);
+        ticketData.put("ticketDescription", ticket.getDescription());
+        ticketData.put("companyName", companyName);
+        ticketData.put("screenName", ticket.getScreen() != null ? ticket.getScreen().getName() : "");
+        ticketData.put("screenLocation",
+                ticket.getScreen() != null ? ticket.getScreen().getLocation() : "");
+        ticketData.put("assignedWorker",
+                ticket.getAssignedToWorker() != null ? ticket.getAssignedToWorker().getFullName() : "");
+
+        // Get the worker report for this ticket
+        WorkerReportResponseDTO workerReport = null;
+        TicketResponseDTO ticketResponse = null;
+        try {
+            workerReport = workerReportService.getWorkerReportByTicketId(ticketId);
+            if (workerReport != null) {
+                ticketResponse = ticketService.getTicketById(ticketId);
+            }
+        } catch (Exception e) {
+            log.error("Failed to retrieve worker report for ticket completion email: {}", e.getMessage(), e);
+            workerReport = null;
+        }
+
+        if (workerReport == null) {
+            log.warn("No worker report found for ticket completion {}, sending notification without PDF", ticketId);
+            sends.add(new Send("completion email", () -> sendTicketCompletionEmailWithoutPdf(ticketData, emails)));
+            return;
+        }
+
+        WorkerReportResponseDTO report = workerReport;
+        TicketResponseDTO reportTicket = ticketResponse;
+        sends.add(new Send("completion email", () -> sendTicketCompletionEmail(report, reportTicket, ticketData,
+                emails)));
+    }
+
+    private void sendTicketCompletionEmail(WorkerReportResponseDTO workerReport, TicketResponseDTO ticketResponse,
+            Map<String, Object> ticketData, List<String> emails) {
+        String ticketId = (String) ticketData.get("ticketId");
+        String ticketTitle = (String) ticketData.get("ticketTitle");
+        String pdfFileName = String.format("WorkerReport_Ticket_%s_%s.pdf",
+                ticketId,
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")));
+        Resource pdfAttachment;
+        try {
+            pdfAttachment = awaitPdf(pdfService.renderWorkerReportPdf(workerReport, ticketResponse, pdfFileName));
+        } catch (RejectedExecutionException e) {
+            // The PDF pool is saturated; let the outbox retry later instead of dropping the attachment
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to generate PDF for ticket completion email for ticket ID: {}", ticketId, e);
+            // Fall back to sending completion email without PDF
+            sendTicketCompletionEmailWithoutPdf(ticketData, emails);
+            return;
+        }
+
+        Map<String, Object> completionData = new HashMap<>(ticketData);
+        completionData.put("completedAt", LocalDateTime.now().toString());
+        completionData.put("defectsFound", workerReport.getDefectsFound());
+        completionData.put("solutionsProvided", workerReport.getSolutionsProvided());
+        completionData.put("notificationType", "TICKET_COMPLETION");
+
+        // A send failure propagates so the outbox retries with the PDF, rather than mailing everyone a second,
+        // PDF-less copy
+        emailService.sendTicketCompletionEmailWithPdf(emails, ticketTitle, completionData, pdfAttachment,
+                pdfFileName);
+
+        log.info("Ticket completion email with PDF sent to {} users in company '{}' for ticket ID: {}",
+                emails.size(), ticketData.get("companyName"), ticketId);
+    }
+
+    private Resource awaitPdf(CompletableFuture<Resource> render) throws Exception {
+        try {
+            return render.get(pdfRenderTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException rejected) {
+                throw rejected;
+            }
+            throw e;
+        }
+    }
+
+    // Fallback method to send completion email without PDF
+    private void sendTicketCompletionEmailWithoutPdf(Map<String, Object> ticketData, List<String> emails) {
+        Map<String, Object> fallbackData = new HashMap<>(ticketData);
+        fallbackData.put("completedAt", LocalDateTime.now().toString());
+        fallbackData.put("defectsFound", "Please check the system for details");
+        fallbackData.put("solutionsProvided", "Please check the system for details");
+
+        // Send regular status update email for completion
+        emailService.sendTicketStatusUpdateEmail(emails, (String) ticketData.get("ticketTitle"),
+                "IN_PROGRESS", "CLOSED", fallbackData);
+
+        log.info("Fallback completion email sent to {} users in company '{}' for ticket ID: {}",
+                emails.size(), ticketData.get("companyName"), ticketData.get("ticketId"));
+    }
+}
@@ -1,64 +1,159 @@
 package com.celebritysystems.service.impl;
 
+import com.celebritysystems.dto.BulkPatchTicketDTO;
+import com.celebritysystems.dto.ConfirmDirectUploadDTO;
 import com.celebritysystems.dto.TicketDTO;
+import com.celebritysystems.dto.TicketEventDTO;
 import com.celebritysystems.dto.CreateTicketDTO;
+import com.celebritysystems.dto.CursorPageResponse;
+import com.celebritysystems.dto.DirectUploadDTO;
+import com.celebritysystems.dto.DirectUploadRequestDTO;
+import com.celebritysystems.dto.FileDownloadDTO;
 import com.celebritysystems.dto.PatchTicketDTO;
+import com.celebritysystems.dto.TicketExportDTO;
 import com.celebritysystems.dto.TicketAnalyticsDTO;
 import com.celebritysystems.dto.TicketAnalyticsSummaryDTO;
 import com.celebritysystems.dto.TicketResponseDTO;
 import com.celebritysystems.dto.WorkerReportResponseDTO;
 import com.celebritysystems.entity.*;
 import com.celebritysystems.entity.enums.ServiceType;
+import com.celebritysystems.entity.enums.TicketNotificationType;
 import com.celebritysystems.entity.enums.TicketStatus;
 import com.celebritysystems.repository.*;
+import com.celebritysystems.service.ComponentFailureRollupService;
+import com.celebritysystems.service.ImageProcessingService;
 import com.celebritysystems.service.S3Service;
+import com.celebritysystems.service.TicketEventService;
 import com.celebritysystems.service.TicketService;
+import com.celebritysystems.service.TicketStatusCounterService;
 import com.celebritysystems.service.WorkerReportService;
-import com.celebritysystems.service.OneSignalService;
-import com.celebritysystems.service.PdfService;
-import com.celebritysystems.service.EmailService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import com.celebritysystems.service.PdfService;
-import com.celebritysystems.dto.WorkerReportResponseDTO;
-import org.springframework.core.io.Resource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TicketServiceImpl implements TicketService {
-    private final PdfService pdfService;
+    private static final String TICKET_IMAGE_KEY_PREFIX = "ticket-files/ticket-image";
+    private static final String TICKET_IMAGE_THUMBNAIL_KEY_PREFIX = "ticket-files/ticket-image-thumbnail";
+    private static final String TICKET_ATTACHMENT_KEY_PREFIX = "ticket-attachments";
 
     private final TicketRepository ticketRepository;
     private final UserRepository userRepository;
     private final ScreenRepository screenRepository;
     private final CompanyRepository companyRepository;
     private final WorkerReportService workerReportService;
-    private final OneSignalService oneSignalService;
-    private final EmailService emailService;
+    private final WorkerReportRepository workerReportRepository;
+    private final ComponentFailureRollupService componentFailureRollupService;
+    private final TicketStatusCounterService ticketStatusCounterService;
+    private final TicketEventService ticketEventService;
+    private final TicketNotificationOutboxRepository ticketNotificationOutboxRepository;
     private final S3Service s3Service;
+    private final ImageProcessingService imageProcessingService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${tickets.bulk-patch.max-tickets:500}")
+    private int bulkPatchMaxTickets;
 
     @Override
     public List<TicketResponseDTO> getAllTickets() {
-        return ticketRepository.findAll()
-                .stream()
-                .map(this::toTicketResponseDto)
-                .collect(Collectors.toList());
+        return toTicketResponseDtos(ticketRepository.findAllWithAssociations());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTickets(TicketExportDTO.Format format, TicketStatus status, Long companyId,
+            LocalDate startDate, LocalDate endDate, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long written = 0;
+
+        if (format == TicketExportDTO.Format.CSV) {
+            writeCsvRow(writer, TicketExportDTO.CSV_HEADER);
+        }
+
+        // The result set is streamed, so no other query may run on this connection until the stream is closed;
+        // the rows are flat projections, so writing them never touches the database
+        try (Stream<TicketExportDTO> rows = ticketRepository.streamForExport(
+                status,
+                companyId,
+                startDate != null ? startDate.atStartOfDay() : null,
+                endDate != null ? endDate.atTime(23, 59, 59) : null)) {
+
+            for (TicketExportDTO row : (Iterable<TicketExportDTO>) rows::iterator) {
+                if (format == TicketExportDTO.Format.CSV) {
+                    writeCsvRow(writer, row.toCsvValues());
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+
+                written++;
+            }
+        }
+
+        writer.flush();
+        log.info("Exported {} tickets as {}", written, format);
+        return written;
+    }
+
+    private void writeCsvRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            // Spreadsheets evaluate cells starting with these as formulas; titles and descriptions are user input
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
     }
 
     @Override
@@ -69,33 +164,51 @@ public class TicketServiceImpl implements TicketService {
     }
 
     @Override
+    @Transactional
     public TicketDTO createTicket(CreateTicketDTO ticketDTO) {
         Ticket ticket = toEntity(ticketDTO);
         ticket.setCreatedAt(LocalDateTime.now());
 
-        if (ticketDTO.getFile() != null && !ticketDTO.getFile().isEmpty()) {
-            try {
-                String fileUrl = s3Service.uploadFile(ticketDTO.getFile(), "ticket-attachments");
-                ticket.setAttachmentFileName(ticketDTO.getFile().getOriginalFilename());
-                log.info("Uploaded ticket attachment file: {}", ticketDTO.getFile().getOriginalFilename());
-            } catch (Exception e) {
-                log.error("Failed to upload ticket attachment file", e);
-                throw new RuntimeException("Failed to process file upload", e);
-            }
+        ImageProcessingService.ProcessedImage ticketImage = imageProcessingService.process(ticketDTO.getTicketImage());
+
+        // All files are uploaded concurrently; if one fails the others are removed again
+        Map<String, MultipartFile> files = new HashMap<>();
+        files.put(TICKET_ATTACHMENT_KEY_PREFIX, ticketDTO.getFile());
+        files.put(TICKET_IMAGE_KEY_PREFIX, ticketImage.image());
+        files.put(TICKET_IMAGE_THUMBNAIL_KEY_PREFIX, ticketImage.thumbnail());
+        Map<String, String> fileUrls;
+        try {
+            fileUrls = s3Service.uploadFiles(files);
+        } catch (Exception e) {
+            log.error("Failed to upload ticket files", e);
+            throw new RuntimeException("Failed to process file upload", e);
+        }
+
+        if (fileUrls.containsKey(TICKET_ATTACHMENT_KEY_PREFIX)) {
+            ticket.setAttachmentFileName(ticketDTO.getFile().getOriginalFilename());
+            log.info("Uploaded ticket attachment file: {}", ticketDTO.getFile().getOriginalFilename());
+        }
+        if (fileUrls.containsKey(TICKET_IMAGE_KEY_PREFIX)) {
+            ticket.setTicketImageUrl(fileUrls.get(TICKET_IMAGE_KEY_PREFIX));
+            ticket.setTicketImageName(ticketDTO.getTicketImage().getOriginalFilename());
+            ticket.setTicketImageThumbnailUrl(fileUrls.get(TICKET_IMAGE_THUMBNAIL_KEY_PREFIX));
         }
 
         ticket = updateTicketStatus(ticket, TicketStatus.OPEN);
 
         Ticket savedTicket = ticketRepository.save(ticket);
+        ticketStatusCounterService.recordCreated(savedTicket);
+        ticketEventService.publish(TicketEventDTO.EventType.CREATED, savedTicket, null, null);
 
         if (savedTicket.getAssignedToWorker() != null) {
-            sendTicketAssignmentNotification(savedTicket);
+            enqueueAssignmentNotification(savedTicket);
         }
 
         return toDTO(savedTicket);
     }
 
     @Override
+    @Transactional
     public TicketDTO updateTicket(Long id, CreateTicketDTO updatedTicketDTO) {
         return ticketRepository.findById(id).map(ticket -> {
             User previousAssignedWorker = ticket.getAssignedToWorker();
@@ -128,6 +241,7 @@ public class TicketServiceImpl implements TicketService {
 
             if (updatedTicketDTO.getScreenId() != null) {
                 Screen screen = screenRepository.findById(updatedTicketDTO.getScreenId()).orElse(null);
+                moveWorkerReportRollup(ticket, screen);
                 ticket.setScreen(screen);
             }
 
@@ -137,19 +251,36 @@ public class TicketServiceImpl implements TicketService {
             }
 
             Ticket savedTicket = ticketRepository.save(ticket);
+            ticketStatusCounterService.recordStatusChange(savedTicket, previousStatus);
+            publishTicketChanges(savedTicket, previousStatus, previousAssignedWorker);
 
             if (hasWorkerAssignmentChanged(previousAssignedWorker, newAssignedWorker)) {
-                sendTicketAssignmentNotification(savedTicket);
+                enqueueAssignmentNotification(savedTicket);
             }
 
             if (hasStatusChanged(previousStatus, newStatus)) {
-                sendTicketStatusUpdateNotificationToCompany(savedTicket, previousStatus, newStatus);
+                enqueueStatusUpdateNotification(savedTicket, previousStatus, newStatus);
             }
 
             return toDTO(savedTicket);
         }).orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + id));
     }
 
+    // Component failures are counted per screen, so a reported ticket's counts follow it to its new screen
+    private void moveWorkerReportRollup(Ticket ticket, Screen newScreen) {
+        Long previousScreenId = ticket.getScreen() != null ? ticket.getScreen().getId() : null;
+        Long newScreenId = newScreen != null ? newScreen.getId() : null;
+        if (Objects.equals(previousScreenId, newScreenId)) {
+            return;
+        }
+
+        workerReportRepository.findByTicketId(ticket.getId()).ifPresent(workerReport -> {
+            componentFailureRollupService.recordRemoved(workerReport);
+            ticket.setScreen(newScreen);
+            componentFailureRollupService.recordAdded(workerReport);
+        });
+    }
+
     private boolean hasWorkerAssignmentChanged(User previousWorker, User newWorker) {
         if (previousWorker == null && newWorker == null) {
             return false;
@@ -174,146 +305,51 @@ public class TicketServiceImpl implements TicketService {
         return !previousStatus.equals(newStatus);
     }
 
-    private void sendTicketAssignmentNotification(Ticket ticket) {
-        try {
-            if (ticket.getAssignedToWorker() != null) {
-                User assignedWorker = ticket.getAssignedToWorker();
-                String workerName = assignedWorker.getFullName();
-                String workerEmail = assignedWorker.getEmail();
-
-                String title = "New Ticket Assigned";
-                String message = String.format("Hi %s, a new ticket '%s' has been assigned to you.",
-                        workerName, ticket.getTitle());
-
-                Map<String, Object> data = new HashMap<>();
-                data.put("ticketId", ticket.getId().toString());
-                data.put("ticketTitle", ticket.getTitle());
-                data.put("ticketDescription", ticket.getDescription());
-                data.put("ticketStatus", ticket.getStatus() != null ? ticket.getStatus().name() : "PENDING");
-                data.put("assignedAt", LocalDateTime.now().toString());
-                data.put("companyName", ticket.getCompany() != null ? ticket.getCompany().getName() : "");
-                data.put("screenName", ticket.getScreen() != null ? ticket.getScreen().getName() : "");
-                data.put("screenLocation", ticket.getScreen() != null ? ticket.getScreen().getLocation() : "");
-                data.put("createdBy", ticket.getCreatedBy() != null ? ticket.getCreatedBy().getFullName() : "");
-                data.put("notificationType", "TICKET_ASSIGNMENT");
-
-                if (assignedWorker.getPlayerId() != null && !assignedWorker.getPlayerId().trim().isEmpty()) {
-                    List<String> playerIds = List.of(assignedWorker.getPlayerId());
-                    oneSignalService.sendWithData(title, message, data, playerIds);
-                    log.info("Push notification sent to worker {} (playerId: {}) for ticket ID: {}",
-                            workerName, assignedWorker.getPlayerId(), ticket.getId());
-                } else {
-                    log.warn("Cannot send push notification: Worker has no playerId for ticket ID: {}", ticket.getId());
-                }
-
-                if (workerEmail != null && !workerEmail.trim().isEmpty()) {
-                    emailService.sendTicketAssignmentEmail(workerEmail, workerName,
-                            ticket.getTitle(), ticket.getDescription(), data);
-                    log.info("Email notification sent to worker {} ({}) for ticket ID: {}",
-                            workerName, workerEmail, ticket.getId());
-                } else {
-                    log.warn("Cannot send email: Worker has no email for ticket ID: {}", ticket.getId());
-                }
-
-            } else {
-                log.warn("Cannot send notification: No assigned worker for ticket ID: {}", ticket.getId());
-            }
-        } catch (Exception e) {
-            log.error("Failed to send ticket assignment notification for ticket ID: {}", ticket.getId(), e);
+    private void publishTicketChanges(Ticket ticket, TicketStatus previousStatus, User previousWorker) {
+        if (hasWorkerAssignmentChanged(previousWorker, ticket.getAssignedToWorker())) {
+            ticketEventService.publish(TicketEventDTO.EventType.ASSIGNED, ticket, previousStatus, previousWorker);
+        }
+        if (hasStatusChanged(previousStatus, ticket.getStatus())) {
+            ticketEventService.publish(TicketEventDTO.EventType.STATUS_CHANGED, ticket, previousStatus, previousWorker);
         }
     }
 
-    private void sendTicketStatusUpdateNotificationToCompany(Ticket ticket, TicketStatus previousStatus,
-            TicketStatus newStatus) {
-        try {
-            // If ticket is being closed/completed, send special completion notification
-            if (newStatus == TicketStatus.CLOSED && previousStatus != TicketStatus.CLOSED) {
-                log.info("Ticket {} is being closed, sending completion notification with PDF", ticket.getId());
-                sendTicketCompletionNotificationToCompany(ticket);
-                return; // Don't send regular status update for completion
-            }
-
-            // Regular status update logic (existing code)
-            if (ticket.getCompany() == null) {
-                log.warn("Cannot send company notification: Ticket {} has no associated company", ticket.getId());
-                return;
-            }
-
-            List<User> companyUsers = userRepository.findByCompanyId(ticket.getCompany().getId());
-
-            if (companyUsers.isEmpty()) {
-                log.warn("No users found for company {} for ticket {}",
-                        ticket.getCompany().getName(), ticket.getId());
-                return;
-            }
-
-            List<String> playerIds = companyUsers.stream()
-                    .map(User::getPlayerId)
-                    .filter(playerId -> playerId != null && !playerId.trim().isEmpty())
-                    .collect(Collectors.toList());
-
-            List<String> emails = companyUsers.stream()
-                    .map(User::getEmail)
-                    .filter(email -> email != null && !email.trim().isEmpty())
-                    .collect(Collectors.toList());
-
-            String title = "Ticket Status Updated";
-            String previousStatusStr = previousStatus != null ? previousStatus.name() : "No Status";
-            String newStatusStr = newStatus != null ? newStatus.name() : "No Status";
-
-            String message = String.format("Ticket '%s' status changed from %s to %s",
-                    ticket.getTitle(), previousStatusStr, newStatusStr);
-
-            Map<String, Object> data = new HashMap<>();
-            data.put("ticketId", ticket.getId().toString());
-            data.put("ticketTitle", ticket.getTitle());
-            data.put("ticketDescription", ticket.getDescription());
-            data.put("previousStatus", previousStatusStr);
-            data.put("newStatus", newStatusStr);
-            data.put("updatedAt", LocalDateTime.now().toString());
-            data.put("companyName", ticket.getCompany().getName());
-            data.put("screenName", ticket.getScreen() != null ? ticket.getScreen().getName() : "");
-            data.put("screenLocation", ticket.getScreen() != null ? ticket.getScreen().getLocation() : "");
-            data.put("assignedWorker",
-                    ticket.getAssignedToWorker() != null ? ticket.getAssignedToWorker().getFullName() : "");
-            data.put("notificationType", "TICKET_STATUS_UPDATE");
-
-            if (!playerIds.isEmpty()) {
-                oneSignalService.sendWithData(title, message, data, playerIds);
-                log.info("Push notification sent to {} users in company '{}' for ticket ID: {}",
-                        playerIds.size(), ticket.getCompany().getName(), ticket.getId());
-            } else {
-                log.warn("No valid playerIds found for company users for ticket {}", ticket.getId());
-            }
-
-            if (!emails.isEmpty()) {
-                emailService.sendTicketStatusUpdateEmail(emails, ticket.getTitle(),
-                        previousStatusStr, newStatusStr, data);
-                log.info("Email notifications sent to {} users in company '{}' for ticket ID: {}",
-                        emails.size(), ticket.getCompany().getName(), ticket.getId());
-            } else {
-                log.warn("No valid emails found for company users for ticket {}", ticket.getId());
-            }
+    private void enqueueAssignmentNotification(Ticket ticket) {
+        ticketNotificationOutboxRepository.save(TicketNotificationOutbox.builder()
+                .ticketId(ticket.getId())
+                .notificationType(TicketNotificationType.TICKET_ASSIGNMENT)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        log.debug("Queued assignment notification for ticket ID: {}", ticket.getId());
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to send ticket status update notification for ticket ID: {}", ticket.getId(), e);
-        }
+    private void enqueueStatusUpdateNotification(Ticket ticket, TicketStatus previousStatus, TicketStatus newStatus) {
+        ticketNotificationOutboxRepository.save(TicketNotificationOutbox.builder()
+                .ticketId(ticket.getId())
+                .notificationType(TicketNotificationType.TICKET_STATUS_UPDATE)
+                .previousStatus(previousStatus)
+                .newStatus(newStatus)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        log.debug("Queued status update notification ({} -> {}) for ticket ID: {}",
+                previousStatus, newStatus, ticket.getId());
     }
 
     @Override
+    @Transactional
     public void deleteTicket(Long id) {
-        if (!ticketRepository.existsById(id)) {
-            throw new IllegalArgumentException("Ticket not found with ID: " + id);
-        }
-        ticketRepository.deleteById(id);
+        Ticket ticket = ticketRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + id));
+        ticketRepository.delete(ticket);
+        s3Service.enqueueDeletion(Arrays.asList(ticket.getTicketImageUrl(), ticket.getTicketImageThumbnailUrl()));
+        ticketStatusCounterService.recordDeleted(ticket);
+        ticketEventService.publish(TicketEventDTO.EventType.DELETED, ticket, ticket.getStatus(), null);
     }
 
     @Override
     public List<TicketResponseDTO> getTicketsByWorkerName(String workerName) {
-        List<Ticket> tickets = ticketRepository.findByAssignedToWorker_Username(workerName);
-        return tickets.stream()
-                .map(this::toTicketResponseDto)
-                .collect(Collectors.toList());
+        List<Ticket> tickets = ticketRepository.findByWorkerUsernameWithAssociations(workerName);
+        return toTicketResponseDtos(tickets);
     }
 
     @Override
@@ -344,43 +380,209 @@ public class TicketServiceImpl implements TicketService {
                     pageable);
         }
 
-        return tickets.map(this::toTicketResponseDto);
+        Map<Long, WorkerReportResponseDTO> workerReports = loadWorkerReports(tickets.getContent());
+        return tickets.map(ticket -> toTicketResponseDto(ticket, workerReports.get(ticket.getId())));
     }
 
     @Override
-    public Long getTicketsCount() {
-        return ticketRepository.count();
+    public CursorPageResponse<TicketResponseDTO> getTicketsByCursor(String cursor, int size, String status,
+            Long companyId, Long screenId, Long assignedToWorkerId, String serviceType, Boolean pending) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+
+        Specification<Ticket> specification = createTicketCursorSpecification(
+                decodeCursor(cursor),
+                status != null ? TicketStatus.valueOf(status.toUpperCase()) : null,
+                companyId,
+                screenId,
+                assignedToWorkerId,
+                serviceType != null ? ServiceType.valueOf(serviceType.toUpperCase()) : null,
+                Boolean.TRUE.equals(pending));
+
+        // Fetch one extra row to know whether another page exists, so no COUNT query is needed
+        List<Ticket> tickets = ticketRepository.findBy(specification, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = tickets.size() > size;
+        if (hasNext) {
+            tickets = tickets.subList(0, size);
+        }
+
+        String nextCursor = hasNext ? encodeCursor(tickets.get(tickets.size() - 1)) : null;
+
+        return CursorPageResponse.<TicketResponseDTO>builder()
+                .content(toTicketResponseDtos(tickets))
+                .size(tickets.size())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private Specification<Ticket> createTicketCursorSpecification(TicketCursor cursor, TicketStatus status,
+            Long companyId, Long screenId, Long assignedToWorkerId, ServiceType serviceType, boolean pending) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (query != null && query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("createdBy", JoinType.LEFT);
+                root.fetch("assignedToWorker", JoinType.LEFT);
+                root.fetch("assignedBySupervisor", JoinType.LEFT);
+                root.fetch("screen", JoinType.LEFT);
+                root.fetch("company", JoinType.LEFT);
+            }
+
+            // Same filter semantics as the offset endpoint: pending ignores the other filters
+            if (pending) {
+                predicates.add(criteriaBuilder.isNull(root.get("assignedToWorker")));
+                predicates.add(criteriaBuilder.isNull(root.get("assignedBySupervisor")));
+            } else {
+                if (status != null) {
+                    predicates.add(criteriaBuilder.equal(root.get("status"), status));
+                }
+                if (companyId != null) {
+                    predicates.add(criteriaBuilder.equal(root.get("company").get("id"), companyId));
+                }
+                if (screenId != null) {
+                    predicates.add(criteriaBuilder.equal(root.get("screen").get("id"), screenId));
+                }
+                if (assignedToWorkerId != null) {
+                    predicates.add(criteriaBuilder.equal(root.get("assignedToWorker").get("id"), assignedToWorkerId));
+                }
+                if (serviceType != null) {
+                    predicates.add(criteriaBuilder.equal(root.get("serviceType"), serviceType));
+                }
+            }
+
+            // Seek past the last row of the previous page: (createdAt, id) < (cursorCreatedAt, cursorId)
+            if (cursor != null) {
+                predicates.add(criteriaBuilder.or(
+                        criteriaBuilder.lessThan(root.<LocalDateTime>get("createdAt"), cursor.createdAt()),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(root.get("createdAt"), cursor.createdAt()),
+                                criteriaBuilder.lessThan(root.<Long>get("id"), cursor.id()))));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private String encodeCursor(Ticket ticket) {
+        return encodeCursorValue(ticket.getCreatedAt() + "|" + ticket.getId());
+    }
+
+    private String encodeCursorValue(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeCursorValue(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    private TicketCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = decodeCursorValue(cursor);
+            int separator = raw.lastIndexOf('|');
+            return new TicketCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private record TicketCursor(LocalDateTime createdAt, Long id) {
     }
 
     @Override
-    public Map<String, Long> getTicketCountByStatus() {
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        Map<String, Long> statusCounts = new HashMap<>();
+    public CursorPageResponse<TicketResponseDTO> searchTickets(String query, String status, Long companyId,
+            Long screenId, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+
+        SearchCursor searchCursor = decodeSearchCursor(cursor);
+        List<TicketRepository.TicketSearchHit> hits = ticketRepository.searchByText(
+                query.trim(),
+                status != null ? TicketStatus.valueOf(status.toUpperCase()).name() : null,
+                companyId,
+                screenId,
+                searchCursor != null ? searchCursor.score() : null,
+                searchCursor != null ? searchCursor.id() : null,
+                size + 1);
+
+        boolean hasNext = hits.size() > size;
+        if (hasNext) {
+            hits = hits.subList(0, size);
+        }
+
+        // Load the page's tickets in one query, then restore the relevance order
+        Map<Long, Ticket> ticketsById = ticketRepository.findByIdInWithAssociations(
+                        hits.stream().map(TicketRepository.TicketSearchHit::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Ticket::getId, ticket -> ticket));
+        List<Ticket> tickets = hits.stream()
+                .map(hit -> ticketsById.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        TicketRepository.TicketSearchHit last = hasNext ? hits.get(hits.size() - 1) : null;
+        // The score goes into the cursor as its raw bits: the seek compares it for equality, so it must come back
+        // exactly as MySQL returned it
+        String nextCursor = last != null
+                ? encodeCursorValue(Long.toHexString(Double.doubleToLongBits(last.getScore())) + "|" + last.getId())
+                : null;
 
-        Arrays.stream(TicketStatus.values())
-                .forEach(status -> statusCounts.put(status.name(), 0L));
+        return CursorPageResponse.<TicketResponseDTO>builder()
+                .content(toTicketResponseDtos(tickets))
+                .size(tickets.size())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
 
-        statusCounts.put("NULL", 0L);
+    private SearchCursor decodeSearchCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
 
-        List<Object[]> results = ticketRepository.countTicketsGroupByStatusSinceDate(thirtyDaysAgo);
-        for (Object[] result : results) {
-            TicketStatus status = (TicketStatus) result[0];
-            Long count = (Long) result[1];
-            statusCounts.put(status.name(), count);
+        try {
+            String raw = decodeCursorValue(cursor);
+            int separator = raw.lastIndexOf('|');
+            return new SearchCursor(
+                    Double.longBitsToDouble(Long.parseUnsignedLong(raw.substring(0, separator), 16)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
         }
+    }
 
-        Long nullStatusCount = ticketRepository.countByStatusIsNullAndCreatedAtAfter(thirtyDaysAgo);
-        statusCounts.put("NULL", nullStatusCount);
+    private record SearchCursor(double score, Long id) {
+    }
 
-        return statusCounts;
+    @Override
+    public Long getTicketsCount() {
+        return ticketRepository.count();
+    }
+
+    @Override
+    public Map<String, Long> getTicketCountByStatus() {
+        return ticketStatusCounterService.getRecentStatusCounts();
     }
 
     @Override
     public List<TicketResponseDTO> getTicketsByCompanyId(Long companyId) {
-        List<Ticket> tickets = ticketRepository.findByCompanyId(companyId);
-        return tickets.stream()
-                .map(this::toTicketResponseDto)
-                .collect(Collectors.toList());
+        List<Ticket> tickets = ticketRepository.findByCompanyIdWithAssociations(companyId);
+        return toTicketResponseDtos(tickets);
     }
 
     private TicketDTO toDTO(Ticket ticket) {
@@ -413,13 +615,6 @@ public class TicketServiceImpl implements TicketService {
         Company company = dto.getCompanyId() != null ? companyRepository.findById(dto.getCompanyId()).orElse(null)
                 : null;
 
-        String ticketImageUrl = null;
-        String ticketImageName = null;
-        if (dto.getTicketImage() != null && !dto.getTicketImage().isEmpty()) {
-            ticketImageUrl = s3Service.uploadFile(dto.getTicketImage(), "ticket-files/ticket-image");
-            ticketImageName = dto.getTicketImage().getOriginalFilename();
-        }
-
         return Ticket.builder()
                 .title(dto.getTitle())
                 .description(dto.getDescription())
@@ -429,8 +624,6 @@ public class TicketServiceImpl implements TicketService {
                 .assignedBySupervisor(assignedBy)
                 .screen(screen)
                 .company(company)
-                .ticketImageUrl(ticketImageUrl)
-                .ticketImageName(ticketImageName)
                 .serviceType(dto.getServiceType() != null ? ServiceType.valueOf(dto.getServiceType()) : null)
                 .build();
     }
@@ -443,6 +636,34 @@ public class TicketServiceImpl implements TicketService {
             // Log warning but don't fail the ticket retrieval
         }
 
+        return toTicketResponseDto(ticket, workerReport);
+    }
+
+    // Maps a list of tickets with one worker report query for the whole list instead of one per ticket
+    private List<TicketResponseDTO> toTicketResponseDtos(List<Ticket> tickets) {
+        Map<Long, WorkerReportResponseDTO> workerReports = loadWorkerReports(tickets);
+        return tickets.stream()
+                .map(ticket -> toTicketResponseDto(ticket, workerReports.get(ticket.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, WorkerReportResponseDTO> loadWorkerReports(List<Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        try {
+            List<Long> ticketIds = tickets.stream()
+                    .map(Ticket::getId)
+                    .collect(Collectors.toList());
+            return workerReportService.getWorkerReportsByTicketIds(ticketIds);
+        } catch (Exception e) {
+            log.warn("Failed to retrieve worker reports for {} tickets: {}", tickets.size(), e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    private TicketResponseDTO toTicketResponseDto(Ticket ticket, WorkerReportResponseDTO workerReport) {
         return TicketResponseDTO.builder()
                 .id(ticket.getId())
                 .title(ticket.getTitle())
@@ -468,18 +689,25 @@ public class TicketServiceImpl implements TicketService {
                 .closedAt(ticket.getClosedAt())
                 .ticketImageUrl(ticket.getTicketImageUrl() != null ? s3Service.generatePresignedUrl(ticket.getTicketImageUrl(), 60) : null)
                 .ticketImageName(ticket.getTicketImageName())
+                .ticketImageThumbnailUrl(presignedUrlOrNull(ticket.getTicketImageThumbnailUrl()))
+                .solutionImageUrl(workerReport != null ? presignedUrlOrNull(workerReport.getSolutionImage()) : null)
+                .solutionImageThumbnailUrl(workerReport != null
+                        ? presignedUrlOrNull(workerReport.getSolutionImageThumbnail())
+                        : null)
                 .serviceType(ticket.getServiceType() != null ? ticket.getServiceType().name() : null)
                 .serviceTypeDisplayName(
                         ticket.getServiceType() != null ? ticket.getServiceType().getDisplayName() : null)
                 .build();
     }
 
+    private String presignedUrlOrNull(String fileUrl) {
+        return fileUrl != null ? s3Service.generatePresignedUrl(fileUrl, 60) : null;
+    }
+
     @Override
     public List<TicketResponseDTO> getPendingTickets() {
-        List<Ticket> pendingTickets = ticketRepository.findByAssignedToWorkerIsNullAndAssignedBySupervisorIsNull();
-        return pendingTickets.stream()
-                .map(this::toTicketResponseDto)
-                .collect(Collectors.toList());
+        List<Ticket> pendingTickets = ticketRepository.findPendingWithAssociations();
+        return toTicketResponseDtos(pendingTickets);
     }
 
     public Ticket updateTicketStatus(Ticket ticket, TicketStatus newStatus) {
@@ -502,6 +730,7 @@ public class TicketServiceImpl implements TicketService {
     }
 
     @Override
+    @Transactional
     public TicketDTO patchTicket(Long id, PatchTicketDTO patchTicketDTO) {
         return ticketRepository.findById(id).map(ticket -> {
             User previousAssignedWorker = ticket.getAssignedToWorker();
@@ -574,13 +803,15 @@ public class TicketServiceImpl implements TicketService {
             }
 
             Ticket savedTicket = ticketRepository.save(ticket);
+            ticketStatusCounterService.recordStatusChange(savedTicket, previousStatus);
+            publishTicketChanges(savedTicket, previousStatus, previousAssignedWorker);
 
             if (hasWorkerAssignmentChanged(previousAssignedWorker, newAssignedWorker)) {
-                sendTicketAssignmentNotification(savedTicket);
+                enqueueAssignmentNotification(savedTicket);
             }
 
             if (hasStatusChanged(previousStatus, newStatus)) {
-                sendTicketStatusUpdateNotificationToCompany(savedTicket, previousStatus, newStatus);
+                enqueueStatusUpdateNotification(savedTicket, previousStatus, newStatus);
             }
 
             log.info("Successfully patched ticket with ID: {}", id);
@@ -590,92 +821,311 @@ public class TicketServiceImpl implements TicketService {
     }
 
     @Override
-    public List<TicketAnalyticsDTO> getTicketAnalytics(List<Long> screenIds,
-            LocalDate startDate,
-            LocalDate endDate) {
-        List<Ticket> tickets = getTicketsForAnalysis(screenIds, startDate, endDate);
+    public DirectUploadDTO createTicketImageUpload(Long ticketId, DirectUploadRequestDTO uploadRequest) {
+        if (!ticketRepository.existsById(ticketId)) {
+            throw new IllegalArgumentException("Ticket not found with ID: " + ticketId);
+        }
+        if (uploadRequest.getFileSize() == null) {
+            throw new IllegalArgumentException("File size is required");
+        }
 
-        return tickets.stream()
-                .map(ticket -> {
-                    Duration resolution = null;
-                    if (ticket.getOpenedAt() != null && ticket.getClosedAt() != null) {
-                        resolution = Duration.between(ticket.getOpenedAt(), ticket.getClosedAt());
-                    }
-
-                    return TicketAnalyticsDTO.builder()
-                            .ticketId(ticket.getId())
-                            .serviceType(ticket.getServiceType() != null ? ticket.getServiceType().getDisplayName()
-                                    : "Unspecified")
-                            .resolutionTime(resolution)
-                            .resolutionTimeFormatted(formatDuration(resolution))
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return s3Service.createDirectUpload(TICKET_IMAGE_KEY_PREFIX, ticketId, uploadRequest.getFileName(),
+                uploadRequest.getContentType(), uploadRequest.getFileSize());
     }
 
     @Override
-    public TicketAnalyticsSummaryDTO getTicketAnalyticsSummary(List<Long> screenIds,
-            LocalDate startDate,
-            LocalDate endDate) {
-        List<Ticket> tickets = getTicketsForAnalysis(screenIds, startDate, endDate);
+    @Transactional
+    public TicketDTO confirmTicketImageUpload(Long ticketId, ConfirmDirectUploadDTO confirmDTO) {
+        Ticket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
+
+        String ticketImageUrl = s3Service.completeDirectUpload(TICKET_IMAGE_KEY_PREFIX, ticketId, confirmDTO);
+        s3Service.enqueueDeletion(Arrays.asList(ticket.getTicketImageUrl(), ticket.getTicketImageThumbnailUrl()));
+        ticket.setTicketImageUrl(ticketImageUrl);
+        ticket.setTicketImageName(confirmDTO.getFileName());
+        // Directly uploaded images never pass through this server, so there is no thumbnail for them
+        ticket.setTicketImageThumbnailUrl(null);
+
+        log.info("Attached directly uploaded image to ticket ID: {}", ticketId);
+        return toDTO(ticketRepository.save(ticket));
+    }
+
+    @Override
+    public FileDownloadDTO openTicketImageDownload(Long ticketId, String range, String ifNoneMatch, String ifRange) {
+        Ticket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new IllegalArgumentException("Ticket not found with ID: " + ticketId));
+        if (ticket.getTicketImageUrl() == null) {
+            throw new IllegalArgumentException("Ticket " + ticketId + " has no image");
+        }
+
+        return s3Service.openDownload(ticket.getTicketImageUrl(), ticket.getTicketImageName(), range, ifNoneMatch, ifRange);
+    }
+
+    @Override
+    @Transactional
+    public List<TicketDTO> bulkPatchTickets(BulkPatchTicketDTO bulkPatchDTO) {
+        List<Long> ticketIds = bulkPatchDTO.getTicketIds();
+        if (ticketIds == null || ticketIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one ticket ID is required");
+        }
+
+        Set<Long> uniqueIds = new LinkedHashSet<>(ticketIds);
+        if (uniqueIds.size() > bulkPatchMaxTickets) {
+            throw new IllegalArgumentException("Cannot patch more than " + bulkPatchMaxTickets + " tickets at once");
+        }
+
+        // Resolve everything the patch needs once, not once per ticket
+        ServiceType serviceType = null;
+        if (bulkPatchDTO.hasServiceType()) {
+            try {
+                serviceType = ServiceType.valueOf(bulkPatchDTO.getServiceType().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid service type: " + bulkPatchDTO.getServiceType() +
+                        ". Valid values are: " + Arrays.toString(ServiceType.values()));
+            }
+        }
+
+        TicketStatus requestedStatus = null;
+        if (bulkPatchDTO.hasStatus()) {
+            try {
+                requestedStatus = TicketStatus.valueOf(bulkPatchDTO.getStatus().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid status value: " + bulkPatchDTO.getStatus());
+            }
+        }
+
+        User worker = null;
+        if (bulkPatchDTO.hasAssignedToWorkerId()) {
+            worker = userRepository.findById(bulkPatchDTO.getAssignedToWorkerId())
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Worker not found with ID: " + bulkPatchDTO.getAssignedToWorkerId()));
+        }
+
+        User supervisor = null;
+        if (bulkPatchDTO.hasAssignedBySupervisorId()) {
+            supervisor = userRepository.findById(bulkPatchDTO.getAssignedBySupervisorId())
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Supervisor not found with ID: " + bulkPatchDTO.getAssignedBySupervisorId()));
+        }
+
+        List<Ticket> tickets = ticketRepository.findByIdInWithAssociations(uniqueIds);
+        if (tickets.size() != uniqueIds.size()) {
+            Set<Long> missing = new LinkedHashSet<>(uniqueIds);
+            tickets.forEach(ticket -> missing.remove(ticket.getId()));
+            throw new IllegalArgumentException("Tickets not found with IDs: " + missing);
+        }
+
+        boolean autoInProgress = requestedStatus == null && (worker != null || supervisor != null);
+        List<Ticket> reassigned = new ArrayList<>();
+        List<Ticket> statusChanged = new ArrayList<>();
+        Map<Long, TicketStatus> previousStatuses = new HashMap<>();
+        Map<Long, User> previousWorkers = new HashMap<>();
+
+        for (Ticket ticket : tickets) {
+            User previousWorker = ticket.getAssignedToWorker();
+            TicketStatus previousStatus = ticket.getStatus();
+            previousStatuses.put(ticket.getId(), previousStatus);
+            previousWorkers.put(ticket.getId(), previousWorker);
+
+            if (serviceType != null) {
+                ticket.setServiceType(serviceType);
+            }
+            if (requestedStatus != null) {
+                updateTicketStatus(ticket, requestedStatus);
+            }
+            if (worker != null) {
+                ticket.setAssignedToWorker(worker);
+            }
+            if (supervisor != null) {
+                ticket.setAssignedBySupervisor(supervisor);
+            }
+            if (autoInProgress) {
+                updateTicketStatus(ticket, TicketStatus.IN_PROGRESS);
+            }
+
+            if (worker != null && hasWorkerAssignmentChanged(previousWorker, worker)) {
+                reassigned.add(ticket);
+            }
+            TicketStatus newStatus = requestedStatus != null ? requestedStatus
+                    : autoInProgress ? TicketStatus.IN_PROGRESS : null;
+            if (newStatus != null && hasStatusChanged(previousStatus, newStatus)) {
+                statusChanged.add(ticket);
+            }
+        }
+
+        // Managed entities are flushed as one batch of UPDATEs (hibernate.jdbc.batch_size) at commit
+        List<Ticket> savedTickets = ticketRepository.saveAll(tickets);
+        savedTickets.forEach(ticket -> {
+            ticketStatusCounterService.recordStatusChange(ticket, previousStatuses.get(ticket.getId()));
+            publishTicketChanges(ticket, previousStatuses.get(ticket.getId()), previousWorkers.get(ticket.getId()));
+        });
+
+        if (!reassigned.isEmpty()) {
+            enqueueAssignmentNotifications(reassigned);
+        }
+        if (!statusChanged.isEmpty()) {
+            enqueueStatusUpdateNotifications(statusChanged, previousStatuses);
+        }
 
-        Map<String, Long> serviceTypeCounts = tickets.stream()
-                .collect(Collectors.groupingBy(
-                        ticket -> ticket.getServiceType() != null ? ticket.getServiceType().getDisplayName()
-                                : "Unspecified",
-                        Collectors.counting()));
+        log.info("Bulk patched {} tickets ({} reassigned, {} status changes)",
+                savedTickets.size(), reassigned.size(), statusChanged.size());
 
-        List<Duration> resolutionTimes = tickets.stream()
-                .filter(ticket -> ticket.getOpenedAt() != null && ticket.getClosedAt() != null)
-                .map(ticket -> Duration.between(ticket.getOpenedAt(), ticket.getClosedAt()))
+        return savedTickets.stream()
+                .map(this::toDTO)
                 .collect(Collectors.toList());
+    }
 
-        Duration averageResolution = calculateAverageDuration(resolutionTimes);
+    // All reassigned tickets go to the same worker, so they share one notification
+    private void enqueueAssignmentNotifications(List<Ticket> tickets) {
+        if (tickets.size() == 1) {
+            enqueueAssignmentNotification(tickets.get(0));
+            return;
+        }
 
-        Map<String, Duration> averageTimeByServiceType = tickets.stream()
-                .filter(ticket -> ticket.getOpenedAt() != null && ticket.getClosedAt() != null)
-                .collect(Collectors.groupingBy(
-                        ticket -> ticket.getServiceType() != null ? ticket.getServiceType().getDisplayName()
-                                : "Unspecified",
-                        Collectors.collectingAndThen(
-                                Collectors.mapping(
-                                        ticket -> Duration.between(ticket.getOpenedAt(), ticket.getClosedAt()),
-                                        Collectors.toList()),
-                                this::calculateAverageDuration)));
+        ticketNotificationOutboxRepository.save(TicketNotificationOutbox.builder()
+                .ticketId(tickets.get(0).getId())
+                .relatedTicketIds(joinTicketIds(tickets))
+                .notificationType(TicketNotificationType.BULK_TICKET_ASSIGNMENT)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        log.debug("Queued bulk assignment notification for {} tickets", tickets.size());
+    }
 
-        return TicketAnalyticsSummaryDTO.builder()
-                .averageResolutionTime(averageResolution)
-                .averageResolutionTimeFormatted(formatDuration(averageResolution))
-                .serviceTypeCounts(serviceTypeCounts)
-                .averageTimeByServiceType(averageTimeByServiceType)
-                .totalTickets((long) tickets.size())
-                .build();
+    // One notification per company; closing still queues a completion per ticket since each carries its own report PDF
+    private void enqueueStatusUpdateNotifications(List<Ticket> tickets, Map<Long, TicketStatus> previousStatuses) {
+        Map<Long, List<Ticket>> byCompany = new LinkedHashMap<>();
+        for (Ticket ticket : tickets) {
+            if (ticket.getStatus() == TicketStatus.CLOSED || ticket.getCompany() == null) {
+                enqueueStatusUpdateNotification(ticket, previousStatuses.get(ticket.getId()), ticket.getStatus());
+            } else {
+                byCompany.computeIfAbsent(ticket.getCompany().getId(), id -> new ArrayList<>()).add(ticket);
+            }
+        }
+
+        for (List<Ticket> companyTickets : byCompany.values()) {
+            Ticket first = companyTickets.get(0);
+            if (companyTickets.size() == 1) {
+                enqueueStatusUpdateNotification(first, previousStatuses.get(first.getId()), first.getStatus());
+                continue;
+            }
+
+            ticketNotificationOutboxRepository.save(TicketNotificationOutbox.builder()
+                    .ticketId(first.getId())
+                    .relatedTicketIds(joinTicketIds(companyTickets))
+                    .relatedPreviousStatuses(joinPreviousStatuses(companyTickets, previousStatuses))
+                    .notificationType(TicketNotificationType.BULK_TICKET_STATUS_UPDATE)
+                    .newStatus(first.getStatus())
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build());
+            log.debug("Queued bulk status update notification for {} tickets of company ID: {}",
+                    companyTickets.size(), first.getCompany().getId());
+        }
+    }
+
+    private String joinTicketIds(List<Ticket> tickets) {
+        return tickets.stream()
+                .map(ticket -> ticket.getId().toString())
+                .collect(Collectors.joining(","));
     }
 
-    private List<Ticket> getTicketsForAnalysis(List<Long> screenIds,
+    private String joinPreviousStatuses(List<Ticket> tickets, Map<Long, TicketStatus> previousStatuses) {
+        return tickets.stream()
+                .filter(ticket -> previousStatuses.get(ticket.getId()) != null)
+                .map(ticket -> ticket.getId() + ":" + previousStatuses.get(ticket.getId()).name())
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public Page<TicketAnalyticsDTO> getTicketAnalytics(List<Long> screenIds,
+            LocalDate startDate,
+            LocalDate endDate,
+            Pageable pageable) {
+        Page<TicketRepository.TicketResolutionView> views;
+        if (screenIds != null && !screenIds.isEmpty()) {
+            views = ticketRepository.findResolutionViewsByScreenIdInAndCreatedAtBetween(
+                    screenIds,
+                    startDate.atStartOfDay(),
+                    endDate.atTime(23, 59, 59),
+                    pageable);
+        } else {
+            views = ticketRepository.findResolutionViewsByCreatedAtBetween(
+                    startDate.atStartOfDay(),
+                    endDate.atTime(23, 59, 59),
+                    pageable);
+        }
+
+        return views.map(view -> {
+            Duration resolution = null;
+            if (view.getOpenedAt() != null && view.getClosedAt() != null) {
+                resolution = Duration.between(view.getOpenedAt(), view.getClosedAt());
+            }
+
+            return TicketAnalyticsDTO.builder()
+                    .ticketId(view.getTicketId())
+                    .serviceType(view.getServiceType() != null ? view.getServiceType().getDisplayName()
+                            : "Unspecified")
+                    .resolutionTime(resolution)
+                    .resolutionTimeFormatted(formatDuration(resolution))
+                    .build();
+        });
+    }
+
+    @Override
+    public TicketAnalyticsSummaryDTO getTicketAnalyticsSummary(List<Long> screenIds,
             LocalDate startDate,
             LocalDate endDate) {
+        // Counts and resolution totals are grouped in the database; only one row per service type comes back
+        List<TicketRepository.ServiceTypeResolutionStats> stats;
         if (screenIds != null && !screenIds.isEmpty()) {
-            return ticketRepository.findByScreenIdInAndCreatedAtBetween(
+            stats = ticketRepository.getResolutionStatsByServiceTypeForScreens(
                     screenIds,
                     startDate.atStartOfDay(),
                     endDate.atTime(23, 59, 59));
+        } else {
+            stats = ticketRepository.getResolutionStatsByServiceType(
+                    startDate.atStartOfDay(),
+                    endDate.atTime(23, 59, 59));
         }
-        return ticketRepository.findByCreatedAtBetween(
-                startDate.atStartOfDay(),
-                endDate.atTime(23, 59, 59));
-    }
 
-    private Duration calculateAverageDuration(List<Duration> durations) {
-        if (durations == null || durations.isEmpty()) {
-            return Duration.ZERO;
+        Map<String, Long> serviceTypeCounts = new HashMap<>();
+        Map<String, Duration> averageTimeByServiceType = new HashMap<>();
+        long totalTickets = 0;
+        long totalResolved = 0;
+        long totalResolutionSeconds = 0;
+
+        for (TicketRepository.ServiceTypeResolutionStats row : stats) {
+            String serviceType = row.getServiceType() != null
+                    ? ServiceType.valueOf(row.getServiceType()).getDisplayName()
+                    : "Unspecified";
+            long ticketCount = toLong(row.getTicketCount());
+            long resolvedCount = toLong(row.getResolvedCount());
+            long resolutionSeconds = toLong(row.getTotalResolutionSeconds());
+
+            serviceTypeCounts.put(serviceType, ticketCount);
+            if (resolvedCount > 0) {
+                averageTimeByServiceType.put(serviceType, Duration.ofSeconds(resolutionSeconds / resolvedCount));
+            }
+
+            totalTickets += ticketCount;
+            totalResolved += resolvedCount;
+            totalResolutionSeconds += resolutionSeconds;
         }
 
-        long totalSeconds = durations.stream()
-                .mapToLong(Duration::getSeconds)
-                .sum();
+        Duration averageResolution = totalResolved > 0
+                ? Duration.ofSeconds(totalResolutionSeconds / totalResolved)
+                : Duration.ZERO;
 
-        return Duration.ofSeconds(totalSeconds / durations.size());
+        return TicketAnalyticsSummaryDTO.builder()
+                .averageResolutionTime(averageResolution)
+                .averageResolutionTimeFormatted(formatDuration(averageResolution))
+                .serviceTypeCounts(serviceTypeCounts)
+                .averageTimeByServiceType(averageTimeByServiceType)
+                .totalTickets(totalTickets)
+                .build();
+    }
+
+    private long toLong(Number value) {
+        return value != null ? value.longValue() : 0L;
     }
 
     private String formatDuration(Duration duration) {
@@ -713,164 +1163,8 @@ public class TicketServiceImpl implements TicketService {
             throw new IllegalArgumentException("Screen not found with ID: " + screenId);
         }
 
-        List<Ticket> tickets = ticketRepository.findByScreenId(screenId);
-
-        return tickets.stream()
-                .map(this::toTicketResponseDtoWithWorkerReport)
-                .collect(Collectors.toList());
-    }
-
-    private TicketResponseDTO toTicketResponseDtoWithWorkerReport(Ticket ticket) {
-        WorkerReportResponseDTO workerReport = null;
-        try {
-            workerReport = workerReportService.getWorkerReportByTicketId(ticket.getId());
-        } catch (Exception e) {
-            log.warn("Failed to retrieve worker report for ticket {}: {}",
-                    ticket.getId(), e.getMessage());
-        }
-
-        return TicketResponseDTO.builder()
-                .id(ticket.getId())
-                .title(ticket.getTitle())
-                .description(ticket.getDescription())
-                .createdBy(ticket.getCreatedBy() != null ? ticket.getCreatedBy().getId() : null)
-                .assignedToWorkerName(ticket.getAssignedToWorker() != null
-                        ? ticket.getAssignedToWorker().getFullName()
-                        : null)
-                .assignedBySupervisorName(ticket.getAssignedBySupervisor() != null
-                        ? ticket.getAssignedBySupervisor().getFullName()
-                        : null)
-                .screenName(ticket.getScreen() != null ? ticket.getScreen().getName() : null)
-                .companyName(ticket.getCompany() != null ? ticket.getCompany().getName() : null)
-                .status(ticket.getStatus() != null ? ticket.getStatus().name() : null)
-                .createdAt(ticket.getCreatedAt())
-                .attachmentFileName(ticket.getAttachmentFileName())
-                .location(ticket.getScreen() != null ? ticket.getScreen().getLocation() : null)
-                .screenType(ticket.getScreen() != null ? ticket.getScreen().getScreenType().toString() : null)
-                .workerReport(workerReport)
-                .openedAt(ticket.getOpenedAt())
-                .inProgressAt(ticket.getInProgressAt())
-                .resolvedAt(ticket.getResolvedAt())
-                .closedAt(ticket.getClosedAt())
-                .ticketImageUrl(ticket.getTicketImageUrl() != null ? s3Service.generatePresignedUrl(ticket.getTicketImageUrl(), 60) : null)
-                .ticketImageName(ticket.getTicketImageName())
-                .serviceType(ticket.getServiceType() != null ? ticket.getServiceType().name() : null)
-                .serviceTypeDisplayName(
-                        ticket.getServiceType() != null ? ticket.getServiceType().getDisplayName() : null)
-                .build();
-    }
-
-    private void sendTicketCompletionNotificationToCompany(Ticket ticket) {
-        try {
-            if (ticket.getCompany() == null) {
-                log.warn("Cannot send completion notification: Ticket {} has no associated company", ticket.getId());
-                return;
-            }
-
-            List<User> companyUsers = userRepository.findByCompanyId(ticket.getCompany().getId());
-
-            if (companyUsers.isEmpty()) {
-                log.warn("No users found for company {} for ticket completion {}",
-                        ticket.getCompany().getName(), ticket.getId());
-                return;
-            }
-
-            List<String> emails = companyUsers.stream()
-                    .map(User::getEmail)
-                    .filter(email -> email != null && !email.trim().isEmpty())
-                    .collect(Collectors.toList());
-
-            if (emails.isEmpty()) {
-                log.warn("No valid emails found for company users for ticket completion {}", ticket.getId());
-                return;
-            }
-
-            // Get the worker report for this ticket
-            WorkerReportResponseDTO workerReport = null;
-            try {
-                workerReport = workerReportService.getWorkerReportByTicketId(ticket.getId());
-            } catch (Exception e) {
-                log.error("Failed to retrieve worker report for ticket completion email: {}", e.getMessage(), e);
-            }
-
-            // Generate PDF and send email
-            if (workerReport != null) {
-                try {
-                    // Convert ticket to TicketResponseDTO for PDF generation
-                    TicketResponseDTO ticketResponse = toTicketResponseDto(ticket);
-
-                    // Generate PDF
-                    String pdfFileName = String.format("WorkerReport_Ticket_%d_%s.pdf",
-                            ticket.getId(),
-                            LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")));
-                    Resource pdfAttachment = pdfService.generateWorkerReportPdf(workerReport, ticketResponse,
-                            pdfFileName);
-
-                    // Prepare ticket data for email
-                    Map<String, Object> ticketData = new HashMap<>();
-                    ticketData.put("ticketId", ticket.getId().toString());
-                    ticketData.put("ticketTitle", ticket.getTitle());
-                    ticketData.put("ticketDescription", ticket.getDescription());
-                    ticketData.put("companyName", ticket.getCompany().getName());
-                    ticketData.put("screenName", ticket.getScreen() != null ? ticket.getScreen().getName() : "");
-                    ticketData.put("screenLocation",
-                            ticket.getScreen() != null ? ticket.getScreen().getLocation() : "");
-                    ticketData.put("assignedWorker",
-                            ticket.getAssignedToWorker() != null ? ticket.getAssignedToWorker().getFullName() : "");
-                    ticketData.put("completedAt", LocalDateTime.now().toString());
-                    ticketData.put("defectsFound", workerReport.getDefectsFound());
-                    ticketData.put("solutionsProvided", workerReport.getSolutionsProvided());
-                    ticketData.put("notificationType", "TICKET_COMPLETION");
-
-                    // Send completion email with PDF attachment
-                    emailService.sendTicketCompletionEmailWithPdf(emails, ticket.getTitle(), ticketData, pdfAttachment,
-                            pdfFileName);
-
-                    log.info("Ticket completion email with PDF sent to {} users in company '{}' for ticket ID: {}",
-                            emails.size(), ticket.getCompany().getName(), ticket.getId());
-
-                } catch (Exception e) {
-                    log.error("Failed to generate PDF or send completion email for ticket ID: {}", ticket.getId(), e);
-                    // Fall back to sending completion email without PDF
-                    sendTicketCompletionEmailWithoutPdf(ticket, emails);
-                }
-            } else {
-                log.warn("No worker report found for ticket completion {}, sending notification without PDF",
-                        ticket.getId());
-                sendTicketCompletionEmailWithoutPdf(ticket, emails);
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to send ticket completion notification for ticket ID: {}", ticket.getId(), e);
-        }
-    }
-
-    // Fallback method to send completion email without PDF
-    private void sendTicketCompletionEmailWithoutPdf(Ticket ticket, List<String> emails) {
-        try {
-            Map<String, Object> ticketData = new HashMap<>();
-            ticketData.put("ticketId", ticket.getId().toString());
-            ticketData.put("ticketTitle", ticket.getTitle());
-            ticketData.put("ticketDescription", ticket.getDescription());
-            ticketData.put("companyName", ticket.getCompany().getName());
-            ticketData.put("screenName", ticket.getScreen() != null ? ticket.getScreen().getName() : "");
-            ticketData.put("screenLocation", ticket.getScreen() != null ? ticket.getScreen().getLocation() : "");
-            ticketData.put("assignedWorker",
-                    ticket.getAssignedToWorker() != null ? ticket.getAssignedToWorker().getFullName() : "");
-            ticketData.put("completedAt", LocalDateTime.now().toString());
-            ticketData.put("defectsFound", "Please check the system for details");
-            ticketData.put("solutionsProvided", "Please check the system for details");
-
-            // Send regular status update email for completion
-            emailService.sendTicketStatusUpdateEmail(emails, ticket.getTitle(),
-                    "IN_PROGRESS", "CLOSED", ticketData);
-
-            log.info("Fallback completion email sent to {} users in company '{}' for ticket ID: {}",
-                    emails.size(), ticket.getCompany().getName(), ticket.getId());
+        List<Ticket> tickets = ticketRepository.findByScreenIdWithAssociations(screenId);
 
-        } catch (Exception e) {
-            log.error("Failed to send fallback completion email for ticket ID: {}", ticket.getId(), e);
-        }
+        return toTicketResponseDtos(tickets);
     }
-
-}
\ No newline at end of file
+}
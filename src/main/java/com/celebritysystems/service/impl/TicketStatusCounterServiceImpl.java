@@ -0,0 +1,173 @@
+package com.celebritysystems.service.impl;
+
+import com.celebritysystems.entity.Ticket;
+import com.celebritysystems.entity.enums.TicketStatus;
+import com.celebritysystems.repository.TicketRepository;
+import com.celebritysystems.service.TicketStatusCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory read model behind the dashboard status counts: one counter per (creation day, current status).
+ * Ticket write paths adjust the counters after their transaction commits, and {@link #reconcile()} rebuilds
+ * them from the ticket table to correct drift (e.g. writes made by another instance or by database cascades).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketStatusCounterServiceImpl implements TicketStatusCounterService {
+
+    private static final int WINDOW_DAYS = 30;
+    private static final String NULL_STATUS = "NULL";
+
+    private final TicketRepository ticketRepository;
+
+    private volatile Map<DayStatus, LongAdder> counters;
+
+    // Adjustments share the read lock; reconcile holds the write lock from its query until the swap, so an
+    // adjustment committed after the query read the table waits and lands on the rebuilt map instead of the old one
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    @Override
+    public void recordCreated(Ticket ticket) {
+        afterCommit(() -> adjust(ticket.getCreatedAt(), ticket.getStatus(), 1));
+    }
+
+    @Override
+    public void recordStatusChange(Ticket ticket, TicketStatus previousStatus) {
+        TicketStatus newStatus = ticket.getStatus();
+        if (previousStatus == newStatus) {
+            return;
+        }
+
+        afterCommit(() -> {
+            adjust(ticket.getCreatedAt(), previousStatus, -1);
+            adjust(ticket.getCreatedAt(), newStatus, 1);
+        });
+    }
+
+    @Override
+    public void recordDeleted(Ticket ticket) {
+        afterCommit(() -> adjust(ticket.getCreatedAt(), ticket.getStatus(), -1));
+    }
+
+    @Override
+    public Map<String, Long> getRecentStatusCounts() {
+        Map<String, Long> statusCounts = new HashMap<>();
+        Arrays.stream(TicketStatus.values())
+                .forEach(status -> statusCounts.put(status.name(), 0L));
+        statusCounts.put(NULL_STATUS, 0L);
+
+        LocalDate firstDay = windowStart();
+        for (Map.Entry<DayStatus, LongAdder> entry : getCounters().entrySet()) {
+            if (!entry.getKey().day().isBefore(firstDay)) {
+                statusCounts.merge(entry.getKey().status(), entry.getValue().sum(), Long::sum);
+            }
+        }
+
+        return statusCounts;
+    }
+
+    @Override
+    public void reconcile() {
+        Map<DayStatus, LongAdder> previous;
+        Map<DayStatus, LongAdder> rebuilt = new ConcurrentHashMap<>();
+        rebuildLock.writeLock().lock();
+        try {
+            LocalDate firstDay = windowStart();
+            List<Object[]> rows =
+                    ticketRepository.countTicketsGroupByCreatedDayAndStatusSinceDate(firstDay.atStartOfDay());
+
+            for (Object[] row : rows) {
+                LocalDate day = row[0] instanceof java.sql.Date sqlDate ? sqlDate.toLocalDate() : (LocalDate) row[0];
+                String status = row[1] != null ? row[1].toString() : NULL_STATUS;
+                LongAdder count = new LongAdder();
+                count.add(((Number) row[2]).longValue());
+                rebuilt.put(new DayStatus(day, status), count);
+            }
+
+            previous = counters;
+            counters = rebuilt;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+
+        if (previous != null) {
+            log.debug("Reconciled ticket status counters: {} buckets before, {} after", previous.size(), rebuilt.size());
+        } else {
+            log.info("Initialized ticket status counters with {} buckets", rebuilt.size());
+        }
+    }
+
+    private Map<DayStatus, LongAdder> getCounters() {
+        Map<DayStatus, LongAdder> current = counters;
+        if (current == null) {
+            synchronized (this) {
+                if (counters == null) {
+                    reconcile();
+                }
+                current = counters;
+            }
+        }
+        return current;
+    }
+
+    private void adjust(LocalDateTime createdAt, TicketStatus status, long delta) {
+        if (createdAt == null) {
+            return;
+        }
+
+        LocalDate day = createdAt.toLocalDate();
+        if (day.isBefore(windowStart())) {
+            return;
+        }
+
+        String key = status != null ? status.name() : NULL_STATUS;
+        rebuildLock.readLock().lock();
+        try {
+            Map<DayStatus, LongAdder> current = counters;
+            if (current == null) {
+                return; // Not loaded yet; the first read rebuilds from the table
+            }
+            current.computeIfAbsent(new DayStatus(day, key), k -> new LongAdder()).add(delta);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // Counts cover tickets created on or after this day, matching the dashboard's 30-day window at day granularity
+    private LocalDate windowStart() {
+        return LocalDate.now().minusDays(WINDOW_DAYS);
+    }
+
+    private record DayStatus(LocalDate day, String status) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.celebritysystems.service.impl;
 
 import com.celebritysystems.dto.PatchWorkerReportDTO;
+import com.celebritysystems.dto.TicketEventDTO;
 import com.celebritysystems.dto.WorkerReportDTO;
 import com.celebritysystems.dto.WorkerReportResponseDTO;
 import com.celebritysystems.entity.Ticket;
@@ -8,18 +9,26 @@ import com.celebritysystems.entity.WorkerReport;
 import com.celebritysystems.entity.enums.TicketStatus;
 import com.celebritysystems.repository.TicketRepository;
 import com.celebritysystems.repository.WorkerReportRepository;
+import com.celebritysystems.service.ComponentFailureRollupService;
+import com.celebritysystems.service.ImageProcessingService;
 import com.celebritysystems.service.S3Service;
+import com.celebritysystems.service.TicketEventService;
+import com.celebritysystems.service.TicketStatusCounterService;
 import com.celebritysystems.service.WorkerReportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,9 +36,17 @@ import java.util.Map;
 @Slf4j
 public class WorkerReportServiceImpl implements WorkerReportService {
 
+    private static final String SOLUTION_IMAGE_KEY_PREFIX = "ticket-files/solution-image";
+    private static final String SOLUTION_IMAGE_THUMBNAIL_KEY_PREFIX = "ticket-files/solution-image-thumbnail";
+    private static final String TECHNICIAN_SIGNATURE_KEY_PREFIX = "technician-signatures/signature-image";
+
     private final WorkerReportRepository workerReportRepository;
     private final TicketRepository ticketRepository;
     private final S3Service s3Service;
+    private final ImageProcessingService imageProcessingService;
+    private final TicketStatusCounterService ticketStatusCounterService;
+    private final TicketEventService ticketEventService;
+    private final ComponentFailureRollupService componentFailureRollupService;
 
     @Override
     public WorkerReportResponseDTO createWorkerReport(Long ticketId, WorkerReportDTO workerReportDTO, WorkerReportDTO.ChecklistData checklistData) {
@@ -47,10 +64,17 @@ public class WorkerReportServiceImpl implements WorkerReportService {
 
         WorkerReport workerReport = toEntity(workerReportDTO, ticket, checklistData);
         WorkerReport savedReport = workerReportRepository.save(workerReport);
+        componentFailureRollupService.recordAdded(savedReport);
 
+        TicketStatus previousStatus = ticket.getStatus();
         ticket.setStatus(TicketStatus.RESOLVED);
         ticket = updateTicketStatus(ticket, TicketStatus.RESOLVED);
         ticketRepository.save(ticket);
+        ticketStatusCounterService.recordStatusChange(ticket, previousStatus);
+        if (previousStatus != TicketStatus.RESOLVED) {
+            ticketEventService.publish(TicketEventDTO.EventType.STATUS_CHANGED, ticket, previousStatus,
+                    ticket.getAssignedToWorker());
+        }
 
         return toResponseDTO(savedReport);
     }
@@ -63,13 +87,27 @@ public class WorkerReportServiceImpl implements WorkerReportService {
         return workerReport != null ? toResponseDTO(workerReport) : null;
     }
 
+    @Override
+    public Map<Long, WorkerReportResponseDTO> getWorkerReportsByTicketIds(Collection<Long> ticketIds) {
+        if (ticketIds == null || ticketIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return workerReportRepository.findByTicketIdIn(ticketIds)
+                .stream()
+                .map(this::toResponseDTO)
+                .collect(Collectors.toMap(WorkerReportResponseDTO::getTicketId, report -> report));
+    }
+
     @Override
     public WorkerReportResponseDTO updateWorkerReport(Long ticketId, WorkerReportDTO workerReportDTO) {
         WorkerReport existingReport = workerReportRepository.findByTicketId(ticketId)
                 .orElseThrow(() -> new IllegalArgumentException("Worker report not found for ticket ID: " + ticketId));
 
+        componentFailureRollupService.recordRemoved(existingReport);
         updateEntityFromDTO(existingReport, workerReportDTO);
         WorkerReport updatedReport = workerReportRepository.save(existingReport);
+        componentFailureRollupService.recordAdded(updatedReport);
 
         return toResponseDTO(updatedReport);
     }
@@ -80,6 +118,9 @@ public class WorkerReportServiceImpl implements WorkerReportService {
                 .orElseThrow(() -> new IllegalArgumentException("Worker report not found for ticket ID: " + ticketId));
 
         workerReportRepository.delete(workerReport);
+        componentFailureRollupService.recordRemoved(workerReport);
+        s3Service.enqueueDeletion(Arrays.asList(workerReport.getSolutionImage(),
+                workerReport.getSolutionImageThumbnail(), workerReport.getTechnicianSignatures()));
     }
 
     private WorkerReport toEntity(WorkerReportDTO dto, Ticket ticket, WorkerReportDTO.ChecklistData checklist) {
@@ -106,13 +147,22 @@ public class WorkerReportServiceImpl implements WorkerReportService {
         String technicianSignaturesUrl = null;
         String technicianSignaturesName = null;
 
-        if (dto.getSolutionImage() != null && !dto.getSolutionImage().isEmpty()) {
-            solutionImageUrl = s3Service.uploadFile(dto.getSolutionImage(), "ticket-files/solution-image");
+        ImageProcessingService.ProcessedImage solutionImage = imageProcessingService.process(dto.getSolutionImage());
+
+        // All files are uploaded concurrently; if one fails the others are removed again
+        Map<String, MultipartFile> files = new HashMap<>();
+        files.put(SOLUTION_IMAGE_KEY_PREFIX, solutionImage.image());
+        files.put(SOLUTION_IMAGE_THUMBNAIL_KEY_PREFIX, solutionImage.thumbnail());
+        files.put(TECHNICIAN_SIGNATURE_KEY_PREFIX, dto.getTechnicianSignatures());
+        Map<String, String> fileUrls = s3Service.uploadFiles(files);
+
+        if (fileUrls.containsKey(SOLUTION_IMAGE_KEY_PREFIX)) {
+            solutionImageUrl = fileUrls.get(SOLUTION_IMAGE_KEY_PREFIX);
             solutionImageName = dto.getSolutionImage().getOriginalFilename();
         }
 
-        if (dto.getTechnicianSignatures() != null && !dto.getTechnicianSignatures().isEmpty()) {
-            technicianSignaturesUrl = s3Service.uploadFile(dto.getTechnicianSignatures(), "technician-signatures/signature-image");
+        if (fileUrls.containsKey(TECHNICIAN_SIGNATURE_KEY_PREFIX)) {
+            technicianSignaturesUrl = fileUrls.get(TECHNICIAN_SIGNATURE_KEY_PREFIX);
             technicianSignaturesName = dto.getTechnicianSignatures().getOriginalFilename();
         }
 
@@ -140,6 +190,7 @@ public class WorkerReportServiceImpl implements WorkerReportService {
 //                .authorizedPersonSignatures(reportData.getAuthorizedPersonSignatures().toString()) //TODO: remove .toString() and fix the logic
                 .solutionImage(solutionImageUrl)
                 .solutionImageName(solutionImageName)
+                .solutionImageThumbnail(fileUrls.get(SOLUTION_IMAGE_THUMBNAIL_KEY_PREFIX))
                 .build();
     }
 
@@ -235,6 +286,7 @@ public WorkerReportResponseDTO patchWorkerReport(Long ticketId, PatchWorkerRepor
                 .technicianSignatures(workerReport.getTechnicianSignatures())
                 .authorizedPersonSignatures(workerReport.getAuthorizedPersonSignatures())
                 .solutionImage(workerReport.getSolutionImage())
+                .solutionImageThumbnail(workerReport.getSolutionImageThumbnail())
                 .createdAt(workerReport.getCreatedAt())
                 .updatedAt(workerReport.getUpdatedAt())
                 .build();
@@ -0,0 +1,191 @@
+package com.celebritysystems.benchmark;
+
+import com.celebritysystems.dto.Reports.ComponentChangesSummaryDTO;
+import com.celebritysystems.entity.Screen;
+import com.celebritysystems.entity.Ticket;
+import com.celebritysystems.entity.WorkerReport;
+import com.celebritysystems.entity.enums.ChecklistComponent;
+import com.celebritysystems.repository.ComponentFailureRollupRepository;
+import com.celebritysystems.repository.WorkerReportRepository;
+import com.celebritysystems.service.impl.ReportingServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the component changes summary as it was computed before ChecklistComponent, a string switch per
+ * component over every worker report, against ReportingServiceImpl as it ships, which sums component failure
+ * rollup rows. The rollup repository is stubbed with the rows the rollup table would hold for the same reports,
+ * and the report cache is disabled so every invocation recomputes.
+ * Run {@link #main} with the test classpath; it is not part of the unit test run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ComponentChangesBenchmark {
+
+    private static final String[] VALUES = {"OK", "OK", "OK", "OK", "Replaced", "Repaired", "Cleaned"};
+
+    @Param("1000000")
+    private int reportCount;
+
+    @Param("200")
+    private int screenCount;
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 12, 31);
+
+    private List<WorkerReport> reports;
+    private List<String> componentNames;
+    private ReportingServiceImpl reportingService;
+
+    @Setup
+    public void createReports() {
+        Random random = new Random(42);
+        List<Ticket> tickets = new ArrayList<>(screenCount);
+        for (long i = 1; i <= screenCount; i++) {
+            tickets.add(Ticket.builder().id(i).screen(Screen.builder().id(i).build()).build());
+        }
+
+        reports = new ArrayList<>(reportCount);
+        for (int i = 0; i < reportCount; i++) {
+            reports.add(WorkerReport.builder()
+                    .ticket(tickets.get(random.nextInt(screenCount)))
+                    .dataCables(randomValue(random))
+                    .powerCable(randomValue(random))
+                    .powerSupplies(randomValue(random))
+                    .ledModules(randomValue(random))
+                    .coolingSystems(randomValue(random))
+                    .serviceLights(randomValue(random))
+                    .operatingComputers(randomValue(random))
+                    .software(randomValue(random))
+                    .powerDBs(randomValue(random))
+                    .mediaConverters(randomValue(random))
+                    .controlSystems(randomValue(random))
+                    .videoProcessors(randomValue(random))
+                    .build());
+        }
+
+        componentNames = new ArrayList<>();
+        for (ChecklistComponent component : ChecklistComponent.values()) {
+            componentNames.add(component.getDisplayName());
+        }
+
+        ComponentFailureRollupRepository rollupRepository = mock(ComponentFailureRollupRepository.class);
+        when(rollupRepository.sumChangesBetween(any(), any())).thenReturn(rollupRows());
+        reportingService = new ReportingServiceImpl(mock(WorkerReportRepository.class), rollupRepository);
+        ReflectionTestUtils.setField(reportingService, "cacheMaxEntries", 0);
+        ReflectionTestUtils.setField(reportingService, "cacheTtlSeconds", 0L);
+    }
+
+    // What sumChangesBetween returns for these reports: changes summed per (screen, component, value)
+    private List<Object[]> rollupRows() {
+        Map<List<Object>, Long> counts = new HashMap<>();
+        for (WorkerReport report : reports) {
+            Long screenId = report.getTicket().getScreen().getId();
+            for (ChecklistComponent component : ChecklistComponent.values()) {
+                String value = component.read(report);
+                if (ChecklistComponent.isChange(value)) {
+                    counts.merge(List.of(screenId, component.name(), Objects.requireNonNullElse(value, "")), 1L,
+                            Long::sum);
+                }
+            }
+        }
+
+        List<Object[]> rows = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> rows.add(new Object[]{key.get(0), key.get(1), key.get(2), count}));
+        return rows;
+    }
+
+    private static String randomValue(Random random) {
+        return VALUES[random.nextInt(VALUES.length)];
+    }
+
+    @Benchmark
+    public List<ComponentChangesSummaryDTO> stringSwitch() {
+        Map<String, ComponentChangesSummaryDTO> summaryMap = new HashMap<>();
+        for (String componentName : componentNames) {
+            summaryMap.put(componentName, ComponentChangesSummaryDTO.builder()
+                    .componentName(componentName)
+                    .totalChanges(0L)
+                    .changesPerScreen(new HashMap<>())
+                    .changeTypeDistribution(new HashMap<>())
+                    .build());
+        }
+
+        for (WorkerReport report : reports) {
+            Long screenId = report.getTicket().getScreen().getId();
+            for (String componentName : componentNames) {
+                String currentValue = getComponentValue(report, componentName);
+                if (!"OK".equalsIgnoreCase(currentValue)) {
+                    ComponentChangesSummaryDTO summary = summaryMap.get(componentName);
+                    summary.setTotalChanges(summary.getTotalChanges() + 1);
+                    summary.getChangesPerScreen().merge(screenId, 1L, Long::sum);
+                    summary.getChangeTypeDistribution().merge(currentValue, 1L, Long::sum);
+                }
+            }
+        }
+        return new ArrayList<>(summaryMap.values());
+    }
+
+    @Benchmark
+    public List<ComponentChangesSummaryDTO> reportingService() {
+        return reportingService.getComponentChangesSummary(null, START, END, componentNames);
+    }
+
+    // The lookup the reporting service used before ChecklistComponent
+    private static String getComponentValue(WorkerReport report, String componentName) {
+        switch (componentName) {
+            case "Data Cables (Cat6/RJ45)":
+                return report.getDataCables();
+            case "Power Cable":
+                return report.getPowerCable();
+            case "Power Supplies":
+                return report.getPowerSupplies();
+            case "LED Modules":
+                return report.getLedModules();
+            case "Cooling Systems":
+                return report.getCoolingSystems();
+            case "Service Lights & Sockets":
+                return report.getServiceLights();
+            case "Operating Computers":
+                return report.getOperatingComputers();
+            case "Software":
+                return report.getSoftware();
+            case "Power DBs":
+                return report.getPowerDBs();
+            case "Media Converters":
+                return report.getMediaConverters();
+            case "Control Systems":
+                return report.getControlSystems();
+            case "Video Processors":
+                return report.getVideoProcessors();
+            default:
+                return "OK";
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ComponentChangesBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,173 @@
+package com.celebritysystems.service;
+
+import com.celebritysystems.dto.Reports.WorkerReportChecklistRow;
+import com.celebritysystems.entity.ComponentFailureRollup;
+import com.celebritysystems.entity.Screen;
+import com.celebritysystems.entity.Ticket;
+import com.celebritysystems.entity.WorkerReport;
+import com.celebritysystems.repository.ComponentFailureRollupRepository;
+import com.celebritysystems.repository.WorkerReportRepository;
+import com.celebritysystems.service.impl.ComponentFailureRollupServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ComponentFailureRollupServiceTest {
+
+    private static final LocalDateTime REPORT_DATE = LocalDateTime.of(2025, 5, 20, 14, 30);
+    private static final LocalDate DAY = REPORT_DATE.toLocalDate();
+    private static final Long SCREEN_ID = 42L;
+
+    @Mock
+    private ComponentFailureRollupRepository componentFailureRollupRepository;
+
+    @Mock
+    private WorkerReportRepository workerReportRepository;
+
+    @Mock
+    private ReportingService reportingService;
+
+    @InjectMocks
+    private ComponentFailureRollupServiceImpl componentFailureRollupService;
+
+    @AfterEach
+    public void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testAddedReportCountsEachChangedComponent() {
+        WorkerReport report = report(SCREEN_ID);
+        report.setLedModules("Replaced");
+        report.setPowerCable("repaired");
+
+        componentFailureRollupService.recordAdded(report);
+
+        verify(componentFailureRollupRepository).adjust(DAY, SCREEN_ID, "LED_MODULES", "Replaced", 1);
+        verify(componentFailureRollupRepository).adjust(DAY, SCREEN_ID, "POWER_CABLE", "repaired", 1);
+        verifyNoMoreInteractions(componentFailureRollupRepository);
+        verify(reportingService).invalidateCachedReports(SCREEN_ID, DAY);
+    }
+
+    @Test
+    public void testMissingValueCountsAsChange() {
+        WorkerReport report = report(SCREEN_ID);
+        report.setSoftware(null);
+
+        componentFailureRollupService.recordAdded(report);
+
+        verify(componentFailureRollupRepository).adjust(DAY, SCREEN_ID, "SOFTWARE", "", 1);
+    }
+
+    @Test
+    public void testRemovedReportDecrementsAndDropsEmptyRows() {
+        WorkerReport report = report(SCREEN_ID);
+        report.setCoolingSystems("Cleaned");
+
+        componentFailureRollupService.recordRemoved(report);
+
+        InOrder inOrder = inOrder(componentFailureRollupRepository);
+        inOrder.verify(componentFailureRollupRepository).adjust(DAY, SCREEN_ID, "COOLING_SYSTEMS", "Cleaned", -1);
+        inOrder.verify(componentFailureRollupRepository).deleteEmpty(DAY, SCREEN_ID);
+    }
+
+    @Test
+    public void testReportWithoutScreenIsNotCounted() {
+        WorkerReport report = report(SCREEN_ID);
+        report.setLedModules("Replaced");
+        report.getTicket().setScreen(null);
+
+        componentFailureRollupService.recordAdded(report);
+        componentFailureRollupService.recordRemoved(report);
+
+        verifyNoInteractions(componentFailureRollupRepository, reportingService);
+    }
+
+    @Test
+    public void testCacheInvalidationWaitsForCommit() {
+        WorkerReport report = report(SCREEN_ID);
+        report.setLedModules("Replaced");
+
+        TransactionSynchronizationManager.initSynchronization();
+        componentFailureRollupService.recordAdded(report);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        verifyNoInteractions(reportingService);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        verify(reportingService).invalidateCachedReports(SCREEN_ID, DAY);
+    }
+
+    @Test
+    public void testRebuildAggregatesChangesPerDayScreenAndValue() {
+        when(workerReportRepository.findChecklistRowsAfter(eq(0L), any())).thenReturn(List.of(
+                row(1L, SCREEN_ID, "Replaced"),
+                row(2L, SCREEN_ID, "Replaced"),
+                row(3L, 7L, "OK")));
+
+        componentFailureRollupService.rebuild();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ComponentFailureRollup>> rows = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(componentFailureRollupRepository);
+        inOrder.verify(componentFailureRollupRepository).deleteAllInBatch();
+        inOrder.verify(componentFailureRollupRepository).saveAll(rows.capture());
+
+        List<ComponentFailureRollup> saved = rows.getValue().stream()
+                .sorted(Comparator.comparing(ComponentFailureRollup::getComponent))
+                .toList();
+        assertEquals(2, saved.size());
+        assertEquals("LED_MODULES", saved.get(0).getComponent());
+        assertEquals(2L, saved.get(0).getChangeCount());
+        assertEquals("POWER_SUPPLIES", saved.get(1).getComponent());
+        assertEquals(SCREEN_ID, saved.get(1).getScreenId());
+        assertEquals(DAY, saved.get(1).getDay());
+        assertEquals("Repaired", saved.get(1).getChecklistValue());
+        assertEquals(1L, saved.get(1).getChangeCount());
+    }
+
+    // Report 1 also repaired a power supply; report 3 changed nothing
+    private static WorkerReportChecklistRow row(Long reportId, Long screenId, String ledModules) {
+        String powerSupplies = reportId == 1L ? "Repaired" : "OK";
+        return new WorkerReportChecklistRow(reportId, 100 + reportId, screenId, "Screen " + screenId, REPORT_DATE,
+                "OK", "OK", powerSupplies, ledModules, "OK", "OK", "OK", "OK", "OK", "OK", "OK", "OK");
+    }
+
+    private static WorkerReport report(Long screenId) {
+        Ticket ticket = Ticket.builder().id(1L).screen(Screen.builder().id(screenId).build()).build();
+        return WorkerReport.builder()
+                .ticket(ticket)
+                .reportDate(REPORT_DATE)
+                .dataCables("OK")
+                .powerCable("OK")
+                .powerSupplies("OK")
+                .ledModules("OK")
+                .coolingSystems("OK")
+                .serviceLights("OK")
+                .operatingComputers("OK")
+                .software("OK")
+                .powerDBs("OK")
+                .mediaConverters("OK")
+                .controlSystems("OK")
+                .videoProcessors("OK")
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.celebritysystems.service;
+
+import com.celebritysystems.dto.Reports.ComponentChangesSummaryDTO;
+import com.celebritysystems.repository.ComponentFailureRollupRepository;
+import com.celebritysystems.repository.WorkerReportRepository;
+import com.celebritysystems.service.impl.ReportingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportingCacheTest {
+
+    private static final Long SCREEN_ID = 42L;
+    private static final LocalDate START = LocalDate.of(2025, 5, 1);
+    private static final LocalDate END = LocalDate.of(2025, 5, 31);
+
+    @Mock
+    private WorkerReportRepository workerReportRepository;
+
+    @Mock
+    private ComponentFailureRollupRepository componentFailureRollupRepository;
+
+    @InjectMocks
+    private ReportingServiceImpl reportingService;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(reportingService, "cacheMaxEntries", 500);
+        ReflectionTestUtils.setField(reportingService, "cacheTtlSeconds", 300L);
+    }
+
+    @Test
+    public void testRepeatedRequestIsServedFromCache() {
+        givenLedChanges(3);
+
+        assertEquals(3L, summary().getTotalChanges());
+        assertEquals(3L, summary().getTotalChanges());
+
+        verify(componentFailureRollupRepository, times(1)).sumChangesByScreenIdsBetween(any(), any(), any());
+    }
+
+    @Test
+    public void testCallersCannotModifyCachedResult() {
+        givenLedChanges(3);
+
+        ComponentChangesSummaryDTO first = summary();
+        first.setTotalChanges(99L);
+        first.getChangesPerScreen().clear();
+
+        ComponentChangesSummaryDTO second = summary();
+        assertNotSame(first, second);
+        assertEquals(3L, second.getTotalChanges());
+        assertEquals(3L, second.getChangesPerScreen().get(SCREEN_ID));
+    }
+
+    @Test
+    public void testInvalidationEvictsCoveredReportsOnly() {
+        givenLedChanges(3);
+        summary();
+
+        reportingService.invalidateCachedReports(7L, START.plusDays(3));
+        reportingService.invalidateCachedReports(SCREEN_ID, END.plusDays(1));
+        summary();
+        verify(componentFailureRollupRepository, times(1)).sumChangesByScreenIdsBetween(any(), any(), any());
+
+        reportingService.invalidateCachedReports(SCREEN_ID, START.plusDays(3));
+        summary();
+        verify(componentFailureRollupRepository, times(2)).sumChangesByScreenIdsBetween(any(), any(), any());
+    }
+
+    @Test
+    public void testResultComputedDuringInvalidationIsNotCached() {
+        when(componentFailureRollupRepository.sumChangesByScreenIdsBetween(any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    // A report is written while this computation is reading the rollup
+                    reportingService.invalidateCachedReports(SCREEN_ID, START);
+                    return ledRows(3);
+                })
+                .thenReturn(ledRows(4));
+
+        assertEquals(3L, summary().getTotalChanges());
+        assertEquals(4L, summary().getTotalChanges());
+        assertEquals(4L, summary().getTotalChanges());
+
+        verify(componentFailureRollupRepository, times(2)).sumChangesByScreenIdsBetween(any(), any(), any());
+    }
+
+    @Test
+    public void testFailedComputationIsNotCached() {
+        when(componentFailureRollupRepository.sumChangesByScreenIdsBetween(any(), any(), any()))
+                .thenThrow(new RuntimeException("database unavailable"))
+                .thenReturn(ledRows(3));
+
+        assertThrows(RuntimeException.class, this::summary);
+        assertEquals(3L, summary().getTotalChanges());
+    }
+
+    @Test
+    public void testExpiredEntryIsRecomputed() {
+        ReflectionTestUtils.setField(reportingService, "cacheTtlSeconds", 0L);
+        givenLedChanges(3);
+
+        summary();
+        summary();
+
+        verify(componentFailureRollupRepository, times(2)).sumChangesByScreenIdsBetween(any(), any(), any());
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneComputation() throws Exception {
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(componentFailureRollupRepository.sumChangesByScreenIdsBetween(any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    computing.countDown();
+                    assertTrue(release.await(10, TimeUnit.SECONDS));
+                    return ledRows(3);
+                });
+
+        CompletableFuture<ComponentChangesSummaryDTO> first = CompletableFuture.supplyAsync(this::summary);
+        assertTrue(computing.await(10, TimeUnit.SECONDS));
+
+        Thread waiter = new Thread(() -> assertEquals(3L, summary().getTotalChanges()));
+        waiter.start();
+        // The second caller parks on the first caller's computation
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (waiter.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        assertEquals(3L, first.get(10, TimeUnit.SECONDS).getTotalChanges());
+        waiter.join(TimeUnit.SECONDS.toMillis(10));
+        verify(componentFailureRollupRepository, times(1)).sumChangesByScreenIdsBetween(any(), any(), any());
+    }
+
+    private ComponentChangesSummaryDTO summary() {
+        return reportingService.getComponentSpecificReport("LED Modules", List.of(SCREEN_ID), START, END);
+    }
+
+    private void givenLedChanges(long count) {
+        when(componentFailureRollupRepository.sumChangesByScreenIdsBetween(any(), any(), any()))
+                .thenReturn(ledRows(count));
+    }
+
+    private static List<Object[]> ledRows(long count) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{SCREEN_ID, "LED_MODULES", "Replaced", count});
+        return rows;
+    }
+}
@@ -0,0 +1,235 @@
+package com.celebritysystems.service;
+
+import com.celebritysystems.entity.S3DeletionTask;
+import com.celebritysystems.entity.enums.StoredObjectStatus;
+import com.celebritysystems.repository.DirectUploadRepository;
+import com.celebritysystems.repository.S3DeletionTaskRepository;
+import com.celebritysystems.repository.StoredObjectRepository;
+import com.celebritysystems.service.impl.S3ServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class S3SharedObjectTest {
+
+    private static final String ENDPOINT = "https://s3.example.com";
+    private static final String BUCKET = "bucket";
+    private static final String DEDUP_PREFIX = "screen-files/config";
+    private static final byte[] CONTENT = "screen configuration".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Mock
+    private StoredObjectRepository storedObjectRepository;
+
+    @Mock
+    private S3DeletionTaskRepository s3DeletionTaskRepository;
+
+    @Mock
+    private DirectUploadRepository directUploadRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private S3ServiceImpl s3Service;
+
+    private String sharedKey;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        ReflectionTestUtils.setField(s3Service, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(s3Service, "pathPrefix", "celebrity");
+        ReflectionTestUtils.setField(s3Service, "endpoint", ENDPOINT);
+        ReflectionTestUtils.setField(s3Service, "maxFileSizeBytes", 10L * 1024 * 1024);
+        ReflectionTestUtils.setField(s3Service, "multipartThresholdBytes", 8L * 1024 * 1024);
+        ReflectionTestUtils.setField(s3Service, "dedupKeyPrefixes", Set.of(DEDUP_PREFIX));
+        ReflectionTestUtils.setField(s3Service, "dedupPendingWaitMs", 0L);
+        ReflectionTestUtils.setField(s3Service, "deletionBatchSize", 1000);
+        ReflectionTestUtils.setField(s3Service, "deletionLeaseMinutes", 5L);
+        ReflectionTestUtils.setField(s3Service, "bucketAvailable", true);
+        ReflectionTestUtils.invokeMethod(s3Service, "initTransactionTemplate");
+
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT));
+        sharedKey = "celebrity/objects/sha256/" + hash.substring(0, 2) + "/" + hash;
+    }
+
+    @Test
+    public void testFirstUploadStoresSharedObject() {
+        when(storedObjectRepository.insertPending(eq(hashOf(sharedKey)), eq(sharedKey), eq((long) CONTENT.length),
+                any(), any())).thenReturn(1);
+        when(storedObjectRepository.markStored(eq(sharedKey), any(), eq(StoredObjectStatus.PENDING),
+                eq(StoredObjectStatus.STORED))).thenReturn(1);
+
+        String fileUrl = s3Service.uploadFile(file(), DEDUP_PREFIX);
+
+        assertEquals(url(sharedKey), fileUrl);
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+        assertEquals(sharedKey, request.getValue().key());
+        assertEquals(uploadTokenOfInsert(), uploadTokenOfMarkStored());
+    }
+
+    @Test
+    public void testIdenticalContentTakesReferenceWithoutUpload() {
+        when(storedObjectRepository.insertPending(any(), any(), anyLong(), any(), any())).thenReturn(0);
+        when(storedObjectRepository.addReference(eq(sharedKey), eq(StoredObjectStatus.STORED), any())).thenReturn(1);
+
+        String fileUrl = s3Service.uploadFile(file(), DEDUP_PREFIX);
+
+        assertEquals(url(sharedKey), fileUrl);
+        verifyNoInteractions(s3Client);
+        verify(storedObjectRepository, never()).markStored(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testFailedUploadDropsItsPendingRow() {
+        when(storedObjectRepository.insertPending(any(), any(), anyLong(), any(), any())).thenReturn(1);
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenThrow(SdkClientException.create("connection reset"));
+
+        assertThrows(RuntimeException.class, () -> s3Service.uploadFile(file(), DEDUP_PREFIX));
+
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(storedObjectRepository).deletePending(eq(sharedKey), token.capture(), eq(StoredObjectStatus.PENDING));
+        assertEquals(uploadTokenOfInsert(), token.getValue());
+        verify(storedObjectRepository, never()).markStored(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testUploadReclaimedWhilePendingFails() {
+        when(storedObjectRepository.insertPending(any(), any(), anyLong(), any(), any())).thenReturn(1);
+        when(storedObjectRepository.markStored(any(), any(), any(), any())).thenReturn(0);
+
+        assertThrows(RuntimeException.class, () -> s3Service.uploadFile(file(), DEDUP_PREFIX));
+    }
+
+    @Test
+    public void testBusySharedObjectFallsBackToOwnCopy() {
+        when(storedObjectRepository.insertPending(any(), any(), anyLong(), any(), any())).thenReturn(0);
+        when(storedObjectRepository.addReference(any(), any(), any())).thenReturn(0);
+
+        String fileUrl = s3Service.uploadFile(file(), DEDUP_PREFIX);
+
+        assertTrue(fileUrl.startsWith(url("celebrity/" + DEDUP_PREFIX + "/")));
+        verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(storedObjectRepository, never()).markStored(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testReleasingLastReferenceQueuesDeletion() {
+        when(storedObjectRepository.tombstoneIfUnreferenced(sharedKey, StoredObjectStatus.STORED,
+                StoredObjectStatus.DELETING)).thenReturn(1);
+
+        s3Service.enqueueDeletion(List.of(url(sharedKey), url("celebrity/ticket-files/a.png")));
+
+        verify(storedObjectRepository).release(sharedKey, StoredObjectStatus.STORED);
+        assertEquals(List.of(sharedKey, "celebrity/ticket-files/a.png"), queuedKeys());
+    }
+
+    @Test
+    public void testReleasingSharedReferenceKeepsObject() {
+        when(storedObjectRepository.tombstoneIfUnreferenced(any(), any(), any())).thenReturn(0);
+
+        s3Service.enqueueDeletion(List.of(url(sharedKey)));
+
+        verify(storedObjectRepository).release(sharedKey, StoredObjectStatus.STORED);
+        verify(s3DeletionTaskRepository, never()).saveAll(any());
+    }
+
+    @Test
+    public void testDeleteFileReleasesSharedObjectInsteadOfDeletingIt() {
+        when(storedObjectRepository.tombstoneIfUnreferenced(any(), any(), any())).thenReturn(0);
+
+        s3Service.deleteFile(url(sharedKey));
+
+        verify(storedObjectRepository).release(sharedKey, StoredObjectStatus.STORED);
+        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void testSweepDeletesOnlyTombstonedSharedObjects() {
+        String reusedKey = "celebrity/objects/sha256/ab/ab12";
+        S3DeletionTask tombstoned = S3DeletionTask.builder().id(1L).fileKey(sharedKey).build();
+        S3DeletionTask stale = S3DeletionTask.builder().id(2L).fileKey(reusedKey).build();
+        when(s3DeletionTaskRepository.findDueIds(any(), any())).thenReturn(List.of(1L, 2L));
+        when(s3DeletionTaskRepository.claim(any(), any(), any(), any())).thenReturn(2);
+        when(s3DeletionTaskRepository.findByClaimToken(any())).thenReturn(List.of(tombstoned, stale));
+        when(storedObjectRepository.findFileKeysByStatus(any(), eq(StoredObjectStatus.DELETING)))
+                .thenReturn(List.of(sharedKey));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder().build());
+
+        assertEquals(2, s3Service.sweepDeletionQueue());
+
+        ArgumentCaptor<DeleteObjectsRequest> request = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client).deleteObjects(request.capture());
+        assertEquals(List.of(sharedKey), request.getValue().delete().objects().stream().map(o -> o.key()).toList());
+
+        InOrder inOrder = inOrder(storedObjectRepository, s3DeletionTaskRepository);
+        inOrder.verify(storedObjectRepository).deleteTombstones(List.of(sharedKey), StoredObjectStatus.DELETING);
+        inOrder.verify(s3DeletionTaskRepository).deleteByIds(List.of(2L, 1L));
+    }
+
+    private List<String> queuedKeys() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<S3DeletionTask>> tasks = ArgumentCaptor.forClass(List.class);
+        verify(s3DeletionTaskRepository).saveAll(tasks.capture());
+        return tasks.getValue().stream().map(S3DeletionTask::getFileKey).toList();
+    }
+
+    private String uploadTokenOfInsert() {
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(storedObjectRepository).insertPending(any(), any(), anyLong(), token.capture(), any());
+        return token.getValue();
+    }
+
+    private String uploadTokenOfMarkStored() {
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(storedObjectRepository).markStored(any(), token.capture(), any(), any());
+        return token.getValue();
+    }
+
+    private static String hashOf(String key) {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+
+    private static String url(String fileKey) {
+        return ENDPOINT + "/" + BUCKET + "/" + fileKey;
+    }
+
+    private static MockMultipartFile file() {
+        return new MockMultipartFile("file", "config.json", "application/json", CONTENT);
+    }
+}
@@ -0,0 +1,158 @@
+package com.celebritysystems.service;
+
+import com.celebritysystems.dto.BulkPatchTicketDTO;
+import com.celebritysystems.entity.Company;
+import com.celebritysystems.entity.Ticket;
+import com.celebritysystems.entity.TicketNotificationOutbox;
+import com.celebritysystems.entity.User;
+import com.celebritysystems.entity.enums.TicketNotificationType;
+import com.celebritysystems.entity.enums.TicketStatus;
+import com.celebritysystems.repository.TicketNotificationOutboxRepository;
+import com.celebritysystems.repository.TicketRepository;
+import com.celebritysystems.repository.UserRepository;
+import com.celebritysystems.service.impl.TicketServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketBulkPatchTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TicketStatusCounterService ticketStatusCounterService;
+
+    @Mock
+    private TicketEventService ticketEventService;
+
+    @Mock
+    private TicketNotificationOutboxRepository ticketNotificationOutboxRepository;
+
+    @InjectMocks
+    private TicketServiceImpl ticketService;
+
+    private final Company company = Company.builder().id(10L).name("Acme").build();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(ticketService, "bulkPatchMaxTickets", 3);
+    }
+
+    @Test
+    public void testStatusChangeQueuesOneNotificationPerCompanyWithPreviousStatuses() {
+        givenTickets(
+                ticket(1L, TicketStatus.OPEN, null),
+                ticket(2L, TicketStatus.OPEN, null),
+                ticket(3L, TicketStatus.IN_PROGRESS, null));
+
+        ticketService.bulkPatchTickets(patch(List.of(1L, 2L, 3L), "resolved", null));
+
+        List<TicketNotificationOutbox> queued = queuedNotifications();
+        assertEquals(1, queued.size());
+        TicketNotificationOutbox notification = queued.get(0);
+        assertEquals(TicketNotificationType.BULK_TICKET_STATUS_UPDATE, notification.getNotificationType());
+        assertEquals("1,2,3", notification.getRelatedTicketIds());
+        assertEquals("1:OPEN,2:OPEN,3:IN_PROGRESS", notification.getRelatedPreviousStatuses());
+        assertEquals(TicketStatus.RESOLVED, notification.getNewStatus());
+        verify(ticketStatusCounterService).recordStatusChange(any(), eq(TicketStatus.IN_PROGRESS));
+        verify(ticketStatusCounterService, times(2)).recordStatusChange(any(), eq(TicketStatus.OPEN));
+    }
+
+    @Test
+    public void testUnchangedTicketsAreNotNotified() {
+        givenTickets(
+                ticket(1L, TicketStatus.RESOLVED, null),
+                ticket(2L, TicketStatus.OPEN, null));
+
+        ticketService.bulkPatchTickets(patch(List.of(1L, 2L), "RESOLVED", null));
+
+        List<TicketNotificationOutbox> queued = queuedNotifications();
+        assertEquals(1, queued.size());
+        assertEquals(TicketNotificationType.TICKET_STATUS_UPDATE, queued.get(0).getNotificationType());
+        assertEquals(2L, queued.get(0).getTicketId());
+        assertEquals(TicketStatus.OPEN, queued.get(0).getPreviousStatus());
+    }
+
+    @Test
+    public void testReassignmentQueuesOneNotificationAndMovesToInProgress() {
+        User worker = User.builder().id(5L).build();
+        User previousWorker = User.builder().id(6L).build();
+        when(userRepository.findById(5L)).thenReturn(Optional.of(worker));
+        givenTickets(
+                ticket(1L, TicketStatus.OPEN, previousWorker),
+                ticket(2L, TicketStatus.OPEN, worker));
+
+        ticketService.bulkPatchTickets(patch(List.of(1L, 2L), null, 5L));
+
+        List<TicketNotificationOutbox> queued = queuedNotifications();
+        // Ticket 2 already belonged to the worker, so only ticket 1 is a reassignment; both move to IN_PROGRESS
+        assertEquals(2, queued.size());
+        assertEquals(TicketNotificationType.TICKET_ASSIGNMENT, queued.get(0).getNotificationType());
+        assertEquals(1L, queued.get(0).getTicketId());
+        assertEquals(TicketNotificationType.BULK_TICKET_STATUS_UPDATE, queued.get(1).getNotificationType());
+        assertEquals("1:OPEN,2:OPEN", queued.get(1).getRelatedPreviousStatuses());
+    }
+
+    @Test
+    public void testMissingTicketsRejectTheWholePatch() {
+        givenTickets(ticket(1L, TicketStatus.OPEN, null));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ticketService.bulkPatchTickets(patch(List.of(1L, 4L), "RESOLVED", null)));
+
+        assertTrue(e.getMessage().contains("[4]"));
+        verify(ticketRepository, never()).saveAll(any());
+        verifyNoInteractions(ticketNotificationOutboxRepository);
+    }
+
+    @Test
+    public void testInvalidRequestsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.bulkPatchTickets(patch(List.of(), "RESOLVED", null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.bulkPatchTickets(patch(List.of(1L, 2L, 3L, 4L), "RESOLVED", null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.bulkPatchTickets(patch(List.of(1L), "DONE", null)));
+        verifyNoInteractions(ticketRepository);
+    }
+
+    private void givenTickets(Ticket... tickets) {
+        when(ticketRepository.findByIdInWithAssociations(any())).thenReturn(List.of(tickets));
+        lenient().when(ticketRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private List<TicketNotificationOutbox> queuedNotifications() {
+        ArgumentCaptor<TicketNotificationOutbox> captor = ArgumentCaptor.forClass(TicketNotificationOutbox.class);
+        verify(ticketNotificationOutboxRepository, atLeast(0)).save(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static BulkPatchTicketDTO patch(List<Long> ticketIds, String status, Long workerId) {
+        BulkPatchTicketDTO dto = new BulkPatchTicketDTO();
+        dto.setTicketIds(ticketIds);
+        dto.setStatus(status);
+        dto.setAssignedToWorkerId(workerId);
+        return dto;
+    }
+
+    private Ticket ticket(Long id, TicketStatus status, User worker) {
+        return Ticket.builder().id(id).status(status).company(company).assignedToWorker(worker).build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.celebritysystems.service;
+
+import com.celebritysystems.dto.CursorPageResponse;
+import com.celebritysystems.dto.TicketResponseDTO;
+import com.celebritysystems.entity.Ticket;
+import com.celebritysystems.repository.TicketRepository;
+import com.celebritysystems.service.impl.TicketServiceImpl;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketCursorPaginationTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000);
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private WorkerReportService workerReportService;
+
+    @InjectMocks
+    private TicketServiceImpl ticketService;
+
+    @Captor
+    private ArgumentCaptor<Specification<Ticket>> specificationCaptor;
+
+    @SuppressWarnings("rawtypes")
+    private Path createdAtPath;
+
+    @SuppressWarnings("rawtypes")
+    private Path idPath;
+
+    @Test
+    public void testFirstPageReturnsCursorOfLastRow() {
+        returnTickets(ticket(9L, CREATED_AT.plusMinutes(1)), ticket(7L, CREATED_AT), ticket(5L, CREATED_AT));
+
+        CursorPageResponse<TicketResponseDTO> page =
+                ticketService.getTicketsByCursor(null, 2, null, null, null, null, null, null);
+
+        assertTrue(page.isHasNext());
+        assertEquals(2, page.getSize());
+        assertEquals(List.of(9L, 7L), page.getContent().stream().map(TicketResponseDTO::getId).toList());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testLastPageHasNoCursor() {
+        returnTickets(ticket(5L, CREATED_AT));
+
+        CursorPageResponse<TicketResponseDTO> page =
+                ticketService.getTicketsByCursor(null, 2, null, null, null, null, null, null);
+
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testCursorBreaksCreatedAtTiesById() {
+        // Tickets 7 and 5 share a timestamp; the next page must resume after 7 without skipping 5
+        returnTickets(ticket(7L, CREATED_AT), ticket(5L, CREATED_AT));
+        String cursor = ticketService.getTicketsByCursor(null, 1, null, null, null, null, null, null).getNextCursor();
+
+        returnTickets(ticket(5L, CREATED_AT));
+        ticketService.getTicketsByCursor(cursor, 1, null, null, null, null, null, null);
+
+        verify(ticketRepository, times(2)).findBy(specificationCaptor.capture(), any());
+        CriteriaBuilder criteriaBuilder = applySpecification(specificationCaptor.getValue());
+
+        verify(criteriaBuilder).lessThan(createdAtPath, CREATED_AT);
+        verify(criteriaBuilder).equal(createdAtPath, CREATED_AT);
+        verify(criteriaBuilder).lessThan(idPath, 7L);
+    }
+
+    @Test
+    public void testFirstPageHasNoSeekPredicate() {
+        returnTickets(ticket(5L, CREATED_AT));
+        ticketService.getTicketsByCursor(null, 1, null, null, null, null, null, null);
+
+        verify(ticketRepository).findBy(specificationCaptor.capture(), any());
+        CriteriaBuilder criteriaBuilder = applySpecification(specificationCaptor.getValue());
+
+        verify(criteriaBuilder, never()).or(any(Predicate.class), any(Predicate.class));
+    }
+
+    @Test
+    public void testInvalidCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.getTicketsByCursor("not-a-cursor", 10, null, null, null, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.getTicketsByCursor("%%%", 10, null, null, null, null, null, null));
+        verifyNoInteractions(ticketRepository);
+    }
+
+    @Test
+    public void testNonPositiveSizeIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.getTicketsByCursor(null, 0, null, null, null, null, null, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CriteriaBuilder applySpecification(Specification<Ticket> specification) {
+        Root<Ticket> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder criteriaBuilder = mock(CriteriaBuilder.class);
+        createdAtPath = mock(Path.class);
+        idPath = mock(Path.class);
+        lenient().when(root.get("createdAt")).thenReturn(createdAtPath);
+        lenient().when(root.get("id")).thenReturn(idPath);
+
+        specification.toPredicate(root, query, criteriaBuilder);
+        return criteriaBuilder;
+    }
+
+    private void returnTickets(Ticket... tickets) {
+        doReturn(List.of(tickets)).when(ticketRepository).findBy(any(Specification.class), any());
+    }
+
+    private static Ticket ticket(Long id, LocalDateTime createdAt) {
+        return Ticket.builder().id(id).title("Ticket " + id).createdAt(createdAt).build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.celebritysystems.service;
+
+import com.celebritysystems.dto.CursorPageResponse;
+import com.celebritysystems.dto.TicketResponseDTO;
+import com.celebritysystems.entity.Ticket;
+import com.celebritysystems.repository.TicketRepository;
+import com.celebritysystems.service.impl.TicketServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketSearchTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private WorkerReportService workerReportService;
+
+    @InjectMocks
+    private TicketServiceImpl ticketService;
+
+    @Test
+    public void testResultsKeepRelevanceOrder() {
+        when(ticketRepository.searchByText("led", null, null, null, null, null, 11))
+                .thenReturn(List.of(hit(4L, 2.5), hit(9L, 1.25), hit(2L, 1.25)));
+        // The association query returns rows in its own order
+        when(ticketRepository.findByIdInWithAssociations(List.of(4L, 9L, 2L)))
+                .thenReturn(List.of(ticket(2L), ticket(4L), ticket(9L)));
+
+        CursorPageResponse<TicketResponseDTO> page = ticketService.searchTickets(" led ", null, null, null, null, 10);
+
+        assertEquals(List.of(4L, 9L, 2L), page.getContent().stream().map(TicketResponseDTO::getId).toList());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testNextPageResumesAfterLastScoreAndId() {
+        when(ticketRepository.searchByText(eq("led"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(hit(4L, 2.5), hit(9L, 1.25)));
+        when(ticketRepository.findByIdInWithAssociations(List.of(4L))).thenReturn(List.of(ticket(4L)));
+
+        CursorPageResponse<TicketResponseDTO> page = ticketService.searchTickets("led", null, null, null, null, 1);
+        assertTrue(page.isHasNext());
+
+        when(ticketRepository.searchByText("led", "OPEN", 3L, null, 1.25, 9L, 2)).thenReturn(List.of());
+        when(ticketRepository.findByIdInWithAssociations(List.of())).thenReturn(List.of());
+
+        CursorPageResponse<TicketResponseDTO> nextPage =
+                ticketService.searchTickets("led", "open", 3L, null, page.getNextCursor(), 1);
+
+        verify(ticketRepository).searchByText("led", "OPEN", 3L, null, 1.25, 9L, 2);
+        assertTrue(nextPage.getContent().isEmpty());
+    }
+
+    @Test
+    public void testCursorKeepsTheExactScore() {
+        double score = 0.1 + 0.2;
+        when(ticketRepository.searchByText(eq("led"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(hit(4L, score), hit(9L, 1.0)));
+        when(ticketRepository.findByIdInWithAssociations(List.of(4L))).thenReturn(List.of(ticket(4L)));
+
+        when(ticketRepository.searchByText(eq("led"), isNull(), isNull(), isNull(), notNull(), eq(4L), eq(2)))
+                .thenReturn(List.of());
+        when(ticketRepository.findByIdInWithAssociations(List.of())).thenReturn(List.of());
+
+        CursorPageResponse<TicketResponseDTO> page = ticketService.searchTickets("led", null, null, null, null, 1);
+        ticketService.searchTickets("led", null, null, null, page.getNextCursor(), 1);
+
+        ArgumentCaptor<Double> cursorScore = ArgumentCaptor.forClass(Double.class);
+        verify(ticketRepository, times(2)).searchByText(eq("led"), isNull(), isNull(), isNull(), cursorScore.capture(),
+                any(), eq(2));
+        assertEquals(Double.doubleToLongBits(score), Double.doubleToLongBits(cursorScore.getAllValues().get(1)));
+    }
+
+    @Test
+    public void testTicketsDeletedSinceSearchAreSkipped() {
+        when(ticketRepository.searchByText(anyString(), any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of(hit(4L, 2.5), hit(9L, 1.25)));
+        when(ticketRepository.findByIdInWithAssociations(any())).thenReturn(List.of(ticket(9L)));
+
+        CursorPageResponse<TicketResponseDTO> page = ticketService.searchTickets("led", null, null, null, null, 10);
+
+        assertEquals(1, page.getSize());
+        assertEquals(9L, page.getContent().get(0).getId());
+    }
+
+    @Test
+    public void testInvalidInputIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.searchTickets("  ", null, null, null, null, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.searchTickets("led", null, null, null, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.searchTickets("led", null, null, null, "%%%", 10));
+        verifyNoInteractions(ticketRepository);
+    }
+
+    private static TicketRepository.TicketSearchHit hit(Long id, double score) {
+        return new TicketRepository.TicketSearchHit() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Double getScore() {
+                return score;
+            }
+        };
+    }
+
+    private static Ticket ticket(Long id) {
+        return Ticket.builder().id(id).title("Ticket " + id).build();
+    }
+}
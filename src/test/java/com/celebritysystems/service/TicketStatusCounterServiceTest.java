@@ -0,0 +1,167 @@
+package com.celebritysystems.service;
+
+import com.celebritysystems.entity.Ticket;
+import com.celebritysystems.entity.enums.TicketStatus;
+import com.celebritysystems.repository.TicketRepository;
+import com.celebritysystems.service.impl.TicketStatusCounterServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketStatusCounterServiceTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @InjectMocks
+    private TicketStatusCounterServiceImpl ticketStatusCounterService;
+
+    @AfterEach
+    public void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testFirstReadLoadsCountsFromTable() {
+        LocalDate today = LocalDate.now();
+        givenRows(
+                row(today, "OPEN", 3),
+                row(today.minusDays(2), "OPEN", 2),
+                row(today, "CLOSED", 1),
+                row(today, null, 4));
+
+        Map<String, Long> counts = ticketStatusCounterService.getRecentStatusCounts();
+
+        assertEquals(5L, counts.get("OPEN"));
+        assertEquals(1L, counts.get("CLOSED"));
+        assertEquals(0L, counts.get("IN_PROGRESS"));
+        assertEquals(4L, counts.get("NULL"));
+
+        ticketStatusCounterService.getRecentStatusCounts();
+        verify(ticketRepository, times(1)).countTicketsGroupByCreatedDayAndStatusSinceDate(any());
+    }
+
+    @Test
+    public void testWritesAdjustLoadedCounts() {
+        givenRows(row(LocalDate.now(), "OPEN", 1));
+        ticketStatusCounterService.getRecentStatusCounts();
+
+        Ticket ticket = ticket(LocalDateTime.now(), TicketStatus.OPEN);
+        ticketStatusCounterService.recordCreated(ticket);
+
+        ticket.setStatus(TicketStatus.IN_PROGRESS);
+        ticketStatusCounterService.recordStatusChange(ticket, TicketStatus.OPEN);
+
+        Map<String, Long> counts = ticketStatusCounterService.getRecentStatusCounts();
+        assertEquals(1L, counts.get("OPEN"));
+        assertEquals(1L, counts.get("IN_PROGRESS"));
+
+        ticketStatusCounterService.recordDeleted(ticket);
+        assertEquals(0L, ticketStatusCounterService.getRecentStatusCounts().get("IN_PROGRESS"));
+    }
+
+    @Test
+    public void testTicketsOutsideWindowAreIgnored() {
+        givenRows();
+        ticketStatusCounterService.getRecentStatusCounts();
+
+        ticketStatusCounterService.recordCreated(ticket(LocalDateTime.now().minusDays(45), TicketStatus.OPEN));
+
+        assertEquals(0L, ticketStatusCounterService.getRecentStatusCounts().get("OPEN"));
+    }
+
+    @Test
+    public void testWritesBeforeFirstReadAreLeftToReload() {
+        givenRows(row(LocalDate.now(), "OPEN", 1));
+
+        // The table already contains this ticket when the counters are first loaded
+        ticketStatusCounterService.recordCreated(ticket(LocalDateTime.now(), TicketStatus.OPEN));
+
+        assertEquals(1L, ticketStatusCounterService.getRecentStatusCounts().get("OPEN"));
+    }
+
+    @Test
+    public void testAdjustmentWaitsForCommit() {
+        givenRows();
+        ticketStatusCounterService.getRecentStatusCounts();
+
+        TransactionSynchronizationManager.initSynchronization();
+        ticketStatusCounterService.recordCreated(ticket(LocalDateTime.now(), TicketStatus.OPEN));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        assertEquals(0L, ticketStatusCounterService.getRecentStatusCounts().get("OPEN"));
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1L, ticketStatusCounterService.getRecentStatusCounts().get("OPEN"));
+    }
+
+    @Test
+    public void testReconcileReplacesDriftedCounts() {
+        givenRows(row(LocalDate.now(), "OPEN", 1));
+        ticketStatusCounterService.getRecentStatusCounts();
+        ticketStatusCounterService.recordCreated(ticket(LocalDateTime.now(), TicketStatus.OPEN));
+
+        givenRows(row(LocalDate.now(), "OPEN", 7));
+        ticketStatusCounterService.reconcile();
+
+        assertEquals(7L, ticketStatusCounterService.getRecentStatusCounts().get("OPEN"));
+    }
+
+    @Test
+    public void testAdjustmentDuringReconcileLandsOnRebuiltCounts() throws Exception {
+        givenRows(row(LocalDate.now(), "OPEN", 1));
+        ticketStatusCounterService.getRecentStatusCounts();
+
+        Thread writer = new Thread(() ->
+                ticketStatusCounterService.recordCreated(ticket(LocalDateTime.now(), TicketStatus.OPEN)));
+        when(ticketRepository.countTicketsGroupByCreatedDayAndStatusSinceDate(any())).thenAnswer(invocation -> {
+            // The table has been read; a ticket committed now must not be applied to the counters being replaced
+            writer.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (writer.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(row(LocalDate.now(), "OPEN", 2));
+            return rows;
+        });
+
+        ticketStatusCounterService.reconcile();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertEquals(3L, ticketStatusCounterService.getRecentStatusCounts().get("OPEN"));
+    }
+
+    private void givenRows(Object[]... rows) {
+        List<Object[]> result = new ArrayList<>(List.of(rows));
+        when(ticketRepository.countTicketsGroupByCreatedDayAndStatusSinceDate(any())).thenReturn(result);
+    }
+
+    private static Object[] row(LocalDate day, String status, long count) {
+        return new Object[]{Date.valueOf(day), status, count};
+    }
+
+    private static Ticket ticket(LocalDateTime createdAt, TicketStatus status) {
+        return Ticket.builder().id(1L).createdAt(createdAt).status(status).build();
+    }
+}